@@ -0,0 +1,5 @@
+#!/bin/bash
+# Checks the vertex stream SpriteBatch emits against a recording backend, no window needed
+cd "$(dirname "$0")"
+mvn compile -q
+java -cp "target/classes:$(mvn dependency:build-classpath -q -Dmdep.outputFile=/dev/stdout)" com.dodgingbullets.headless.SpriteBatchCheck "$@"
@@ -0,0 +1,5 @@
+#!/bin/bash
+# Converts JSON levels to binary .lvl files next to them, e.g. ./convert-level.sh src/main/resources/maps/level1.json
+cd "$(dirname "$0")"
+mvn compile -q
+java -cp "target/classes:$(mvn dependency:build-classpath -q -Dmdep.outputFile=/dev/stdout)" com.dodgingbullets.core.LevelConverter "$@"
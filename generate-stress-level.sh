@@ -0,0 +1,5 @@
+#!/bin/bash
+# Writes a large random binary level for streaming tests, e.g. ./generate-stress-level.sh stress.lvl --tiles 1000 --entities 50000
+cd "$(dirname "$0")"
+mvn compile -q
+java -cp "target/classes:$(mvn dependency:build-classpath -q -Dmdep.outputFile=/dev/stdout)" com.dodgingbullets.core.StressLevelGenerator "$@"
@@ -0,0 +1,5 @@
+#!/bin/bash
+# Runs the simulation without a window, e.g. ./headless.sh maps/level2.json --ticks 50000 --min-tps 5000
+cd "$(dirname "$0")"
+mvn compile -q
+java -cp "target/classes:$(mvn dependency:build-classpath -q -Dmdep.outputFile=/dev/stdout)" com.dodgingbullets.headless.HeadlessRunner "$@"
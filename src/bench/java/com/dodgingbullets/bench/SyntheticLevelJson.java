@@ -0,0 +1,67 @@
+package com.dodgingbullets.bench;
+
+import java.util.Locale;
+import java.util.Random;
+
+// Level JSON in the same shape as src/main/resources/maps, grown to about the requested size:
+// a square tile grid taking roughly half the text and every entity type in the rest
+public class SyntheticLevelJson {
+    private static final String[] FACINGS = {"north", "south", "east", "west", "north-east", "south-west"};
+
+    public static String generate(int targetBytes, long seed) {
+        Random random = new Random(seed);
+        StringBuilder json = new StringBuilder(targetBytes + 4096);
+
+        // Each grid entry is "floorgreyN.png", plus separator: about 18 characters
+        int side = Math.max(1, (int) Math.sqrt(targetBytes / 2.0 / 18));
+        json.append("{\n  \"mapGrid\": [\n");
+        for (int y = 0; y < side; y++) {
+            json.append("    [");
+            for (int x = 0; x < side; x++) {
+                json.append(x == 0 ? "" : ", ").append("\"floorgrey").append(1 + random.nextInt(6)).append(".png\"");
+            }
+            json.append(y == side - 1 ? "]\n" : "],\n");
+        }
+        json.append("  ],\n");
+
+        int mapSize = side * 128;
+        String[] sections = {"turrets", "bears", "foliage", "ammoPowerUps", "throwers", "mortars"};
+        // Split what is left of the budget evenly between the sections (entries average ~100 characters)
+        int perSection = Math.max(1, (targetBytes - json.length()) / sections.length / 100);
+        for (String section : sections) {
+            json.append("  \"").append(section).append("\": [\n");
+            for (int i = 0; i < perSection; i++) {
+                int x = random.nextInt(mapSize);
+                int y = random.nextInt(mapSize);
+                json.append("    {\"x\": ").append(x).append(", \"y\": ").append(y);
+                switch (section) {
+                    case "turrets":
+                        json.append(", \"health\": ").append(50 + random.nextInt(100));
+                        break;
+                    case "bears":
+                    case "throwers":
+                        json.append(", \"facing\": \"").append(FACINGS[random.nextInt(FACINGS.length)]).append('"')
+                            .append(", \"health\": ").append(50 + random.nextInt(100))
+                            .append(String.format(Locale.ROOT, ", \"speed\": %.1f", 80 + random.nextFloat() * 100));
+                        break;
+                    case "foliage":
+                        json.append(", \"width\": 120, \"height\": 120, \"spriteCollisionWidth\": 40, \"spriteCollisionHeight\": 45")
+                            .append(", \"movementCollisionWidth\": 50, \"movementCollisionHeight\": 30")
+                            .append(", \"textureKey\": \"palm_trees\", \"renderOffset\": 30");
+                        break;
+                    case "mortars":
+                        json.append(", \"lookDirection\": \"").append(FACINGS[random.nextInt(FACINGS.length)]).append('"')
+                            .append(", \"lookDistance\": 300, \"health\": 30, \"firingSpeed\": 2.0");
+                        break;
+                    default:
+                        break;
+                }
+                json.append(i == perSection - 1 ? "}\n" : "},\n");
+            }
+            json.append("  ],\n");
+        }
+
+        json.append("  \"player\": {\"x\": ").append(mapSize / 2).append(", \"y\": ").append(mapSize / 2).append("}\n}\n");
+        return json.toString();
+    }
+}
@@ -0,0 +1,76 @@
+package com.dodgingbullets.bench;
+
+import com.dodgingbullets.core.Direction;
+import com.dodgingbullets.core.GameLoop;
+import com.dodgingbullets.core.GameObjectFactory;
+import com.dodgingbullets.core.MapLoader;
+import com.dodgingbullets.core.Player;
+import com.dodgingbullets.core.TileGrid;
+import com.dodgingbullets.gameobjects.enemies.Bear;
+import com.dodgingbullets.gameobjects.enemies.GunTurret;
+import com.dodgingbullets.gameobjects.enemies.Mortar;
+import com.dodgingbullets.gameobjects.enemies.Thrower;
+import com.dodgingbullets.gameobjects.environment.AmmoPowerUp;
+import com.dodgingbullets.gameobjects.environment.Foliage;
+import com.dodgingbullets.headless.NullRenderer;
+
+import java.util.Random;
+
+// A generated level with a fixed mix of entities, scattered at roughly constant density so
+// that bigger worlds mean more objects overall but not more objects per screen
+public class SyntheticWorld {
+    private static final float SPACING = 160; // Average distance between neighbouring entities
+    private static final int TILE_SIZE = 128;
+
+    public final GameLoop gameLoop;
+    public final float mapWidth;
+    public final float mapHeight;
+
+    private SyntheticWorld(GameLoop gameLoop, float mapWidth, float mapHeight) {
+        this.gameLoop = gameLoop;
+        this.mapWidth = mapWidth;
+        this.mapHeight = mapHeight;
+    }
+
+    // Out of every ten entities: four foliage, two turrets, and one each of bear, thrower, mortar and ammo crate
+    public static SyntheticWorld create(int entityCount, long seed) {
+        Random random = new Random(seed);
+        int tiles = Math.max(4, (int) Math.ceil(Math.sqrt(entityCount) * SPACING / TILE_SIZE));
+
+        MapLoader.MapData data = new MapLoader.MapData();
+        data.mapGrid = new TileGrid(tiles, tiles, "floorgrey1.png");
+        data.mapWidth = tiles * TILE_SIZE;
+        data.mapHeight = tiles * TILE_SIZE;
+        data.player = new Player(data.mapWidth / 2, data.mapHeight / 2);
+
+        for (int i = 0; i < entityCount; i++) {
+            float x = 64 + random.nextFloat() * (data.mapWidth - 128);
+            float y = 64 + random.nextFloat() * (data.mapHeight - 128);
+            switch (i % 10) {
+                case 0: case 1: case 2: case 3:
+                    data.foliage.add(new Foliage(x, y, 96, 128, 40, 60, 40, 20, "palm_trees", 0));
+                    break;
+                case 4: case 5:
+                    data.turrets.add(new GunTurret(x, y));
+                    break;
+                case 6:
+                    data.bears.add(new Bear(x, y, Direction.RIGHT, 100, 150f));
+                    break;
+                case 7:
+                    data.throwers.add(new Thrower(x, y, Direction.RIGHT, null, null, 100, 100f));
+                    break;
+                case 8:
+                    data.mortars.add(new Mortar(x, y, Direction.RIGHT, 300f, 30, 2f));
+                    break;
+                default:
+                    data.ammoPowerUps.add(new AmmoPowerUp(x, y));
+                    break;
+            }
+        }
+
+        GameObjectFactory.loadLevel(data);
+        GameLoop gameLoop = new GameLoop();
+        gameLoop.initialize(new NullRenderer());
+        return new SyntheticWorld(gameLoop, data.mapWidth, data.mapHeight);
+    }
+}
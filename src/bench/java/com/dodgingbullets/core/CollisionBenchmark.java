@@ -0,0 +1,97 @@
+package com.dodgingbullets.core;
+
+import com.dodgingbullets.bench.SyntheticWorld;
+import com.dodgingbullets.gameobjects.effects.Explosion;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Bullet resolution and player movement tests. Scores are per bullet / per movement check
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CollisionBenchmark {
+    private static final int BULLETS = 1000;
+    private static final int PROBES = 1024; // Power of two, used as a mask
+
+    @State(Scope.Benchmark)
+    public static class World {
+        @Param({"10", "100", "1000", "10000"})
+        public int entities;
+
+        SyntheticWorld world;
+        float[] probeX = new float[PROBES];
+        float[] probeY = new float[PROBES];
+
+        // Rebuilt per iteration because bullets damage and destroy enemies as the run goes on
+        @Setup(Level.Iteration)
+        public void build() {
+            world = SyntheticWorld.create(entities, 42);
+            Random random = new Random(7);
+            for (int i = 0; i < PROBES; i++) {
+                probeX[i] = random.nextFloat() * world.mapWidth;
+                probeY[i] = random.nextFloat() * world.mapHeight;
+            }
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Bullets {
+        final BulletBuffer buffer = new BulletBuffer(BULLETS, new Random(42));
+        final List<Explosion> explosions = new ArrayList<>();
+        CollisionSystem collisionSystem;
+
+        @Setup(Level.Iteration)
+        public void prepare(World world) {
+            GameLoop gameLoop = world.world.gameLoop;
+            collisionSystem = new CollisionSystem(new ObjectPool<>("Explosion", Explosion::new, GameConfig.POOL_MAX_FREE));
+            collisionSystem.updateBroadphase(gameLoop.getGameObjects(), gameLoop.getFoliages(), gameLoop.getAmmoPowerUps());
+        }
+
+        // Resolution removes bullets, so every call starts from the same full buffer
+        @Setup(Level.Invocation)
+        public void refill(World world) {
+            buffer.clear();
+            explosions.clear();
+            for (int i = 0; i < BULLETS; i++) {
+                int probe = i & (PROBES - 1);
+                buffer.spawn(world.probeX[probe], world.probeY[probe], i * 0.1, (i & 1) == 0, false);
+            }
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BULLETS)
+    public int checkBulletCollisions(World world, Bullets bullets) {
+        bullets.collisionSystem.checkBulletCollisions(bullets.buffer, world.world.gameLoop.getPlayer(), bullets.explosions);
+        return bullets.buffer.size();
+    }
+
+    @Benchmark
+    public boolean playerWouldCollideWithObjects(World world, Cursor cursor) {
+        int i = cursor.next++ & (PROBES - 1);
+        return world.world.gameLoop.getPlayer().wouldCollideWithObjects(world.probeX[i], world.probeY[i]);
+    }
+}
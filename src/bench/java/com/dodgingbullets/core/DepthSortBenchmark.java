@@ -0,0 +1,73 @@
+package com.dodgingbullets.core;
+
+import com.dodgingbullets.bench.SyntheticWorld;
+import com.dodgingbullets.gameobjects.GameObject;
+import com.dodgingbullets.gameobjects.Renderable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// The draw-order sort on its own, over every object in the world (no culling), gathered in the
+// same order GameRenderer gathers them: the comparator List.sort it used to do against DepthSort
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DepthSortBenchmark {
+    @Param({"10", "100", "1000", "10000"})
+    public int entities;
+
+    private final List<Object> gathered = new ArrayList<>();
+    private final List<Object> drawList = new ArrayList<>();
+    private final DepthSort depthSort = new DepthSort();
+
+    @Setup(Level.Trial)
+    public void build() {
+        GameLoop gameLoop = SyntheticWorld.create(entities, 42).gameLoop;
+        gathered.add(gameLoop.getPlayer());
+        gathered.addAll(gameLoop.getGameObjects());
+        gathered.addAll(gameLoop.getFoliages());
+        gathered.addAll(gameLoop.getAmmoPowerUps());
+    }
+
+    @Benchmark
+    public Object listSort() {
+        drawList.clear();
+        drawList.addAll(gathered);
+        drawList.sort((a, b) -> {
+            float aY = (a instanceof Player) ? ((Player) a).getY() :
+                      (a instanceof Renderable) ? ((Renderable) a).getRenderY() : ((GameObject) a).getY();
+            float bY = (b instanceof Player) ? ((Player) b).getY() :
+                      (b instanceof Renderable) ? ((Renderable) b).getRenderY() : ((GameObject) b).getY();
+            return Float.compare(bY, aY);
+        });
+        return drawList.get(0);
+    }
+
+    @Benchmark
+    public Object depthSort() {
+        depthSort.clear();
+        for (Object obj : gathered) {
+            float key = (obj instanceof Player) ? ((Player) obj).getY() :
+                        (obj instanceof Renderable) ? ((Renderable) obj).getRenderY() : ((GameObject) obj).getY();
+            depthSort.add(obj, key);
+        }
+        depthSort.sort();
+        return depthSort.get(0);
+    }
+}
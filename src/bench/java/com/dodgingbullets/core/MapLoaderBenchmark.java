@@ -0,0 +1,60 @@
+package com.dodgingbullets.core;
+
+import com.dodgingbullets.bench.SyntheticLevelJson;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+// Loading generated levels from memory, so the figure is the parser and not the disk: the JSON
+// text, and the same level converted to the binary format
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapLoaderBenchmark {
+    @Param({"100000", "1000000", "10000000"})
+    public int bytes;
+
+    private String json;
+    private byte[] binary;
+
+    @Setup(Level.Trial)
+    public void generate() {
+        json = SyntheticLevelJson.generate(bytes, 42);
+        BinaryLevel.Writer writer = new BinaryLevel.Writer();
+        try {
+            MapLoader.parse(new StringReader(json), writer);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        binary = writer.toByteArray();
+    }
+
+    @Benchmark
+    public MapLoader.MapData parse() throws IOException {
+        return MapLoader.parse(new StringReader(json));
+    }
+
+    @Benchmark
+    public MapLoader.MapData readBinary() {
+        MapLoader.MapDataBuilder builder = new MapLoader.MapDataBuilder();
+        BinaryLevel.read(ByteBuffer.wrap(binary), builder);
+        return builder.mapData;
+    }
+}
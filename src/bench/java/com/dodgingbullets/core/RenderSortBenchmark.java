@@ -0,0 +1,63 @@
+package com.dodgingbullets.core;
+
+import com.dodgingbullets.bench.SyntheticWorld;
+import com.dodgingbullets.headless.NullRenderer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// Depth sort and draw-call dispatch for the world objects, with drawing itself stubbed out
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RenderSortBenchmark {
+    @Param({"10", "100", "1000", "10000"})
+    public int entities;
+
+    private SyntheticWorld world;
+    private GameRenderer gameRenderer;
+    private final Renderer renderer = new NullRenderer();
+
+    @Setup(Level.Trial)
+    public void build() {
+        world = SyntheticWorld.create(entities, 42);
+        gameRenderer = new GameRenderer();
+        // One placeholder for every texture, so each object is drawn and none hit the missing-texture logging
+        Texture texture = renderer.loadTexture("placeholder");
+        gameRenderer.setTextures(anyKey(texture), anyKey(texture), texture, texture, texture, texture, texture, anyKey(texture),
+                                 anyKey(texture), texture, texture, texture, anyKey(texture), anyKey(texture), anyKey(texture), texture, texture);
+    }
+
+    private static <K> Map<K, Texture> anyKey(Texture texture) {
+        return new HashMap<K, Texture>() {
+            @Override
+            public Texture get(Object key) {
+                return texture;
+            }
+        };
+    }
+
+    @Benchmark
+    public void renderGameObjects() {
+        GameLoop gameLoop = world.gameLoop;
+        float cameraX = gameLoop.getCameraX();
+        float cameraY = gameLoop.getCameraY();
+        gameRenderer.renderGameObjects(renderer, gameLoop, cameraX, cameraY, cameraX, cameraY);
+    }
+}
@@ -0,0 +1,61 @@
+package com.dodgingbullets.core;
+
+import com.dodgingbullets.bench.SyntheticWorld;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// One whole game tick with the player walking a square and holding fire, so enemies chase,
+// throw and get hit. Read gc.alloc.rate.norm: a steady-state tick should allocate nothing,
+// and anything above 0 B/op is a per-frame allocation that has crept back in.
+// Scores are per tick
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TickAllocationBenchmark {
+    private static final int WARM_UP_TICKS = 600; // Long enough for the pools and lists to reach their working size
+    private static final int TICKS_PER_LEG = 120; // Two seconds walking each way
+    private static final int[] LEGS = {3, 0, 2, 1}; // D, W, A, S
+
+    @Param({"10", "100", "1000", "10000"})
+    public int entities;
+
+    private GameLoop gameLoop;
+    private final boolean[] keys = new boolean[5];
+    private int tick;
+
+    // Rebuilt per iteration because the player and enemies wear each other down as the run goes on
+    @Setup(Level.Iteration)
+    public void build() {
+        gameLoop = SyntheticWorld.create(entities, 42).gameLoop;
+        tick = 0;
+        for (int i = 0; i < WARM_UP_TICKS; i++) {
+            tick();
+        }
+    }
+
+    @Benchmark
+    public int tick() {
+        int leg = LEGS[(tick++ / TICKS_PER_LEG) % LEGS.length];
+        for (int i = 0; i < 4; i++) {
+            keys[i] = i == leg;
+        }
+        gameLoop.update(keys, false, false, false, true, false, false, false,
+                GameConfig.SCREEN_WIDTH / 2.0, GameConfig.SCREEN_HEIGHT / 2.0);
+        return gameLoop.getPlayer().getHealth();
+    }
+}
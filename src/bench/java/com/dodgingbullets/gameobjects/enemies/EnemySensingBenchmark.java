@@ -0,0 +1,102 @@
+package com.dodgingbullets.gameobjects.enemies;
+
+import com.dodgingbullets.bench.SyntheticWorld;
+import com.dodgingbullets.core.PerceptionCache;
+import com.dodgingbullets.gameobjects.GameObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Sight lines and movement blocking as enemies query them. Each query starts a new perception
+// tick so the raycast runs every time instead of being answered from the cache.
+// Scores are per query
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EnemySensingBenchmark {
+    private static final int QUERIES = 256;
+    private static final float TARGET_DISTANCE = 180; // Inside both bear and mortar sight range
+
+    @Param({"10", "100", "1000", "10000"})
+    public int entities;
+
+    private PerceptionCache perceptionCache;
+    private final List<Bear> bears = new ArrayList<>();
+    private final List<Mortar> mortars = new ArrayList<>();
+    private final List<Thrower> throwers = new ArrayList<>();
+    private final float[] targetX = new float[QUERIES];
+    private final float[] targetY = new float[QUERIES];
+
+    @Setup(Level.Trial)
+    public void build() {
+        SyntheticWorld world = SyntheticWorld.create(entities, 42);
+        perceptionCache = world.gameLoop.getPerceptionCache();
+        for (GameObject gameObject : world.gameLoop.getGameObjects()) {
+            if (gameObject instanceof Bear) bears.add((Bear) gameObject);
+            else if (gameObject instanceof Mortar) mortars.add((Mortar) gameObject);
+            else if (gameObject instanceof Thrower) throwers.add((Thrower) gameObject);
+        }
+
+        // Query i uses an observer picked by i and a target at a random angle from it
+        Random random = new Random(7);
+        for (int i = 0; i < QUERIES; i++) {
+            double angle = random.nextDouble() * Math.PI * 2;
+            targetX[i] = (float) Math.cos(angle) * TARGET_DISTANCE;
+            targetY[i] = (float) Math.sin(angle) * TARGET_DISTANCE;
+        }
+        for (int i = 0; i < bears.size(); i++) {
+            // Bears look at the position handed to them in update(playerX, playerY)
+            Bear bear = bears.get(i);
+            int query = i % QUERIES;
+            bear.update(bear.getX() + targetX[query], bear.getY() + targetY[query]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public void bearHasLineOfSight(Blackhole blackhole) {
+        for (int i = 0; i < QUERIES; i++) {
+            perceptionCache.beginTick();
+            blackhole.consume(bears.get(i % bears.size()).hasLineOfSight());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public void mortarHasLineOfSight(Blackhole blackhole) {
+        for (int i = 0; i < QUERIES; i++) {
+            perceptionCache.beginTick();
+            Mortar mortar = mortars.get(i % mortars.size());
+            blackhole.consume(mortar.hasLineOfSight(mortar.getX() + targetX[i], mortar.getY() + targetY[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public void throwerIsPositionBlocked(Blackhole blackhole) {
+        for (int i = 0; i < QUERIES; i++) {
+            // One step's worth of movement in a random direction
+            Thrower thrower = throwers.get(i % throwers.size());
+            blackhole.consume(thrower.isPositionBlocked(thrower.getX() + targetX[i] * 0.01f, thrower.getY() + targetY[i] * 0.01f));
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.dodgingbullets.core;
+
+// Sprite frames for one kind of character, resolved once at load into
+// frames[state][direction][frame] so drawing a frame is three array reads.
+// States and directions are enum ordinals; a "held" state shows one image whatever the frame
+public class Animation {
+    private static final int DIRECTIONS = Direction.values().length;
+
+    private final Texture[][][] frames;
+    private final boolean[] held;
+
+    public Animation(int stateCount) {
+        this.frames = new Texture[stateCount][DIRECTIONS][];
+        this.held = new boolean[stateCount];
+    }
+
+    public void setFrames(int state, Direction direction, Texture[] sequence) {
+        frames[state][direction.ordinal()] = sequence;
+    }
+
+    public void setHeld(int state, Direction direction, Texture texture) {
+        held[state] = true;
+        frames[state][direction.ordinal()] = texture != null ? new Texture[] { texture } : null;
+    }
+
+    // Null when there is no art for this state, direction or frame
+    public Texture getFrame(int state, int direction, int frame) {
+        Texture[] sequence = frames[state][direction];
+        if (sequence == null) {
+            return null;
+        }
+        if (held[state]) {
+            return sequence[0];
+        }
+        return frame >= 0 && frame < sequence.length ? sequence[frame] : null;
+    }
+}
@@ -0,0 +1,87 @@
+package com.dodgingbullets.core;
+
+import com.dodgingbullets.gameobjects.enemies.Bear;
+import com.dodgingbullets.gameobjects.enemies.Mortar;
+import com.dodgingbullets.gameobjects.enemies.Thrower;
+
+import java.util.Map;
+
+// Turns the string-keyed texture maps Game loads ("bear_running_northeast_002") into Animation
+// tables. This is the only place those key names are built; rendering never formats or hashes them
+public class AnimationRegistry {
+    private static final int MAX_FRAMES = 64; // Highest frame number probed for in any sequence
+
+    public static Animation bear(Map<String, Texture> textures) {
+        Animation animation = new Animation(Bear.BearState.values().length);
+        for (Direction direction : Direction.values()) {
+            String name = directionName(direction);
+            animation.setFrames(Bear.BearState.IDLE.ordinal(), direction, sequence(textures, "bear_idle_" + name + "_", 0));
+            animation.setFrames(Bear.BearState.WAKING_UP.ordinal(), direction, sequence(textures, "bear_wakingUp_" + name + "_", 0));
+            animation.setFrames(Bear.BearState.RUNNING.ordinal(), direction, sequence(textures, "bear_running_" + name + "_", 0));
+            Texture[] hit = sequence(textures, "bear_hit_" + name + "_", 0);
+            animation.setFrames(Bear.BearState.HIT.ordinal(), direction, hit);
+            animation.setFrames(Bear.BearState.DYING.ordinal(), direction, hit);
+        }
+        return animation;
+    }
+
+    public static Animation thrower(Map<String, Texture> textures) {
+        Animation animation = new Animation(Thrower.ThrowerState.values().length);
+        for (Direction direction : Direction.values()) {
+            String name = directionName(direction);
+            Texture rotation = textures.get("thrower_rotation_" + name);
+            Texture[] walking = sequence(textures, "thrower_walking_" + name + "_", 0);
+            animation.setHeld(Thrower.ThrowerState.IDLE.ordinal(), direction, rotation);
+            animation.setFrames(Thrower.ThrowerState.CHASE.ordinal(), direction, walking);
+            animation.setFrames(Thrower.ThrowerState.BACKING_OFF.ordinal(), direction, walking);
+            animation.setFrames(Thrower.ThrowerState.THROWING.ordinal(), direction, sequence(textures, "thrower_throw_" + name + "_", 0));
+            animation.setHeld(Thrower.ThrowerState.HIT.ordinal(), direction, rotation);
+            animation.setHeld(Thrower.ThrowerState.DYING.ordinal(), direction, rotation);
+        }
+        return animation;
+    }
+
+    public static Animation mortar(Map<String, Texture> textures) {
+        Animation animation = new Animation(Mortar.MortarState.values().length);
+        for (Direction direction : Direction.values()) {
+            String name = directionName(direction);
+            animation.setHeld(Mortar.MortarState.PATROL.ordinal(), direction, textures.get("mortar_rotation_" + name));
+            // Engaged holds the last sitting frame; firing frame n is sitting frame n + 1 (files are numbered from 1)
+            animation.setHeld(Mortar.MortarState.ENGAGED.ordinal(), direction, textures.get("mortar_sitting_" + name + "_009"));
+            animation.setFrames(Mortar.MortarState.FIRING.ordinal(), direction, sequence(textures, "mortar_sitting_" + name + "_", 1));
+        }
+        return animation;
+    }
+
+    // prefix + 000, 001, ... from firstNumber up to the last one present; gaps stay null
+    private static Texture[] sequence(Map<String, Texture> textures, String prefix, int firstNumber) {
+        Texture[] frames = new Texture[MAX_FRAMES];
+        int length = 0;
+        for (int i = 0; i < MAX_FRAMES; i++) {
+            frames[i] = textures.get(prefix + String.format("%03d", firstNumber + i));
+            if (frames[i] != null) {
+                length = i + 1;
+            }
+        }
+        if (length == 0) {
+            return null;
+        }
+        Texture[] trimmed = new Texture[length];
+        System.arraycopy(frames, 0, trimmed, 0, length);
+        return trimmed;
+    }
+
+    private static String directionName(Direction direction) {
+        switch (direction) {
+            case UP: return "north";
+            case DOWN: return "south";
+            case LEFT: return "west";
+            case RIGHT: return "east";
+            case UP_LEFT: return "northwest";
+            case UP_RIGHT: return "northeast";
+            case DOWN_LEFT: return "southwest";
+            case DOWN_RIGHT: return "southeast";
+            default: return "east";
+        }
+    }
+}
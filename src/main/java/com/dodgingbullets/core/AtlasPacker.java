@@ -0,0 +1,79 @@
+package com.dodgingbullets.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// Packs rectangles (animation frames) onto square pages using shelves: tallest first, left to
+// right along a row, starting a new row when one is full and a new page when rows run out.
+// Our frames are nearly all the same size, so shelves waste almost nothing
+public class AtlasPacker {
+    public static class Placement {
+        public final int page;
+        public final int x;
+        public final int y;
+
+        Placement(int page, int x, int y) {
+            this.page = page;
+            this.x = x;
+            this.y = y;
+        }
+    }
+
+    private final int pageSize;
+    private final int padding; // Empty texels between frames so filtering never picks up a neighbour
+
+    public AtlasPacker(int pageSize, int padding) {
+        this.pageSize = pageSize;
+        this.padding = padding;
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    // Returns a placement for each rectangle, in the order given
+    public List<Placement> pack(int[] widths, int[] heights) {
+        Integer[] order = new Integer[widths.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+            if (widths[i] + padding > pageSize || heights[i] + padding > pageSize) {
+                throw new IllegalArgumentException("Image " + widths[i] + "x" + heights[i] + " does not fit on a " + pageSize + " atlas page");
+            }
+        }
+        Arrays.sort(order, (a, b) -> Integer.compare(heights[b], heights[a]));
+
+        Placement[] placements = new Placement[widths.length];
+        int page = 0;
+        int x = 0;
+        int y = 0;
+        int rowHeight = 0;
+        for (int i : order) {
+            int w = widths[i] + padding;
+            int h = heights[i] + padding;
+            if (x + w > pageSize) {
+                x = 0;
+                y += rowHeight;
+                rowHeight = 0;
+            }
+            if (y + h > pageSize) {
+                page++;
+                x = 0;
+                y = 0;
+                rowHeight = 0;
+            }
+            placements[i] = new Placement(page, x, y);
+            x += w;
+            rowHeight = Math.max(rowHeight, h);
+        }
+        return new ArrayList<>(Arrays.asList(placements));
+    }
+
+    public static int pageCount(List<Placement> placements) {
+        int pages = 0;
+        for (Placement placement : placements) {
+            pages = Math.max(pages, placement.page + 1);
+        }
+        return pages;
+    }
+}
@@ -0,0 +1,321 @@
+package com.dodgingbullets.core;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+// Compact binary level file (.lvl), made from the JSON levels by LevelConverter. Loading maps the
+// file and reads fixed-size records straight out of it, with no text to tokenize.
+// Layout, big-endian; strings are a u16 byte count then UTF-8:
+//   "DBLV" magic, u16 version, u16 reserved (0)
+//   tile palette: u16 count, strings
+//   tile grid: i32 width, i32 height, width * height u16 palette IDs, row 0 first
+//   texture keys (foliage): u16 count, strings
+//   player: u8 present, i32 x, i32 y
+//   entity tables, each an i32 count then fixed-size records:
+//     turrets     i32 x, i32 y, i32 health
+//     foliage     f32 x, y, width, height, sprite collision w/h, movement collision w/h, u16 texture key, f32 render offset
+//     ammo        i32 x, i32 y
+//     bears       i32 x, i32 y, u8 facing (Direction ordinal), i32 health, f32 speed
+//     throwers    as bears
+//     mortars     i32 x, i32 y, u8 look direction, f32 look distance, i32 health, f32 firing speed
+//   u32 CRC32 of everything before it
+public class BinaryLevel {
+    public static final String EXTENSION = ".lvl";
+
+    private static final int MAGIC = 0x44424C56; // "DBLV"
+    private static final int VERSION = 1;
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    // Like MapLoader.loadMap: failures are logged and give the built-in default map
+    public static MapLoader.MapData load(String levelPath) {
+        try {
+            MapLoader.MapDataBuilder builder = new MapLoader.MapDataBuilder();
+            read(levelPath, builder);
+            return builder.mapData;
+        } catch (Exception e) {
+            System.err.println("Failed to load map: " + levelPath + " - " + e.getMessage());
+            return MapLoader.createDefaultMap();
+        }
+    }
+
+    // The level file (or resource) at levelPath, mapped and passed to sink
+    public static void read(String levelPath, MapLoader.Sink sink) throws IOException {
+        try {
+            read(map(levelPath), sink);
+        } catch (URISyntaxException e) {
+            throw new IOException(e);
+        }
+    }
+
+    // Checks the header and checksum, then passes the contents to sink
+    public static void read(ByteBuffer buffer, MapLoader.Sink sink) {
+        int length = buffer.remaining();
+        if (length < 12 || buffer.getInt(buffer.position()) != MAGIC) {
+            throw new RuntimeException("Not a binary level file");
+        }
+        int version = buffer.getShort(buffer.position() + 4) & 0xFFFF;
+        if (version != VERSION) {
+            throw new RuntimeException("Unsupported binary level version " + version + " (expected " + VERSION + ")");
+        }
+        CRC32 crc = new CRC32();
+        ByteBuffer checked = buffer.duplicate();
+        checked.limit(checked.position() + length - 4);
+        crc.update(checked);
+        if ((int) crc.getValue() != buffer.getInt(buffer.position() + length - 4)) {
+            throw new RuntimeException("Checksum mismatch, file is corrupt");
+        }
+
+        ByteBuffer in = buffer.duplicate();
+        in.position(in.position() + 8);
+
+        List<String> palette = readStrings(in);
+        int width = in.getInt();
+        int height = in.getInt();
+        if (width > 0 && height > 0) {
+            short[] ids = new short[width * height];
+            in.asShortBuffer().get(ids);
+            in.position(in.position() + ids.length * Short.BYTES);
+            sink.mapGrid(TileGrid.fromIds(width, height, ids, palette));
+        }
+
+        List<String> textureKeys = readStrings(in);
+        boolean hasPlayer = in.get() != 0;
+        int playerX = in.getInt();
+        int playerY = in.getInt();
+        if (hasPlayer) {
+            sink.player(playerX, playerY);
+        }
+
+        for (int i = in.getInt(); i > 0; i--) {
+            sink.turret(in.getInt(), in.getInt(), in.getInt());
+        }
+        for (int i = in.getInt(); i > 0; i--) {
+            float x = in.getFloat(), y = in.getFloat(), w = in.getFloat(), h = in.getFloat();
+            float scw = in.getFloat(), sch = in.getFloat(), mcw = in.getFloat(), mch = in.getFloat();
+            String textureKey = textureKeys.get(in.getShort() & 0xFFFF);
+            sink.foliage(x, y, w, h, scw, sch, mcw, mch, textureKey, in.getFloat());
+        }
+        for (int i = in.getInt(); i > 0; i--) {
+            sink.ammoPowerUp(in.getInt(), in.getInt());
+        }
+        for (int i = in.getInt(); i > 0; i--) {
+            sink.bear(in.getInt(), in.getInt(), direction(in.get()), in.getInt(), in.getFloat());
+        }
+        for (int i = in.getInt(); i > 0; i--) {
+            sink.thrower(in.getInt(), in.getInt(), direction(in.get()), in.getInt(), in.getFloat());
+        }
+        for (int i = in.getInt(); i > 0; i--) {
+            sink.mortar(in.getInt(), in.getInt(), direction(in.get()), in.getFloat(), in.getInt(), in.getFloat());
+        }
+    }
+
+    // Sink that encodes a level, e.g. MapLoader.parse(json, writer) then toByteArray()
+    public static class Writer implements MapLoader.Sink {
+        private TileGrid grid;
+        private final Map<String, Integer> textureKeys = new LinkedHashMap<>();
+        private boolean hasPlayer = false;
+        private int playerX;
+        private int playerY;
+        private final Table turrets = new Table();
+        private final Table foliage = new Table();
+        private final Table ammoPowerUps = new Table();
+        private final Table bears = new Table();
+        private final Table throwers = new Table();
+        private final Table mortars = new Table();
+
+        @Override
+        public void mapGrid(TileGrid grid) {
+            this.grid = grid;
+        }
+
+        @Override
+        public void turret(int x, int y, int health) {
+            turrets.add().ints(x, y, health);
+        }
+
+        @Override
+        public void foliage(float x, float y, float width, float height, float spriteCollisionWidth, float spriteCollisionHeight,
+                            float movementCollisionWidth, float movementCollisionHeight, String textureKey, float renderOffset) {
+            Integer key = textureKeys.get(textureKey);
+            if (key == null) {
+                key = textureKeys.size();
+                textureKeys.put(textureKey, key);
+            }
+            foliage.add().floats(x, y, width, height, spriteCollisionWidth, spriteCollisionHeight, movementCollisionWidth, movementCollisionHeight)
+                   .u16(key).floats(renderOffset);
+        }
+
+        @Override
+        public void ammoPowerUp(int x, int y) {
+            ammoPowerUps.add().ints(x, y);
+        }
+
+        @Override
+        public void bear(int x, int y, Direction facing, int health, float speed) {
+            bears.add().ints(x, y).u8(facing.ordinal()).ints(health).floats(speed);
+        }
+
+        @Override
+        public void thrower(int x, int y, Direction facing, int health, float speed) {
+            throwers.add().ints(x, y).u8(facing.ordinal()).ints(health).floats(speed);
+        }
+
+        @Override
+        public void mortar(int x, int y, Direction lookDirection, float lookDistance, int health, float firingSpeed) {
+            mortars.add().ints(x, y).u8(lookDirection.ordinal()).floats(lookDistance).ints(health).floats(firingSpeed);
+        }
+
+        @Override
+        public void player(int x, int y) {
+            hasPlayer = true;
+            playerX = x;
+            playerY = y;
+        }
+
+        public byte[] toByteArray() {
+            try {
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                DataOutputStream out = new DataOutputStream(bytes);
+                out.writeInt(MAGIC);
+                out.writeShort(VERSION);
+                out.writeShort(0);
+
+                List<String> palette = new ArrayList<>();
+                if (grid != null) {
+                    for (int id = 0; id < grid.getPaletteSize(); id++) {
+                        palette.add(grid.getPaletteName(id));
+                    }
+                }
+                writeStrings(out, palette);
+                out.writeInt(grid != null ? grid.getWidth() : 0);
+                out.writeInt(grid != null ? grid.getHeight() : 0);
+                if (grid != null) {
+                    for (int y = 0; y < grid.getHeight(); y++) {
+                        for (int x = 0; x < grid.getWidth(); x++) {
+                            out.writeShort(grid.getTileId(x, y));
+                        }
+                    }
+                }
+
+                writeStrings(out, new ArrayList<>(textureKeys.keySet()));
+                out.writeByte(hasPlayer ? 1 : 0);
+                out.writeInt(playerX);
+                out.writeInt(playerY);
+
+                for (Table table : new Table[] {turrets, foliage, ammoPowerUps, bears, throwers, mortars}) {
+                    out.writeInt(table.count);
+                    table.records.writeTo(out);
+                }
+                out.flush();
+
+                CRC32 crc = new CRC32();
+                crc.update(bytes.toByteArray());
+                out.writeInt((int) crc.getValue());
+                return bytes.toByteArray();
+            } catch (IOException e) {
+                // Only in-memory streams are involved
+                throw new RuntimeException(e);
+            }
+        }
+    }
+
+    // One entity table being written: a record count and the big-endian records so far
+    private static class Table {
+        int count = 0;
+        final ByteArrayOutputStream records = new ByteArrayOutputStream();
+
+        Table add() {
+            count++;
+            return this;
+        }
+
+        Table ints(int... values) {
+            for (int value : values) {
+                u16(value >>> 16);
+                u16(value);
+            }
+            return this;
+        }
+
+        Table floats(float... values) {
+            for (float value : values) {
+                ints(Float.floatToIntBits(value));
+            }
+            return this;
+        }
+
+        Table u16(int value) {
+            u8(value >>> 8);
+            return u8(value);
+        }
+
+        Table u8(int value) {
+            records.write(value);
+            return this;
+        }
+    }
+
+    // Maps the file read-only when the level is a plain file (resources under target/classes, or a
+    // path on disk). Levels packed in a jar can't be mapped and are read into memory instead
+    private static ByteBuffer map(String levelPath) throws IOException, URISyntaxException {
+        URL url = BinaryLevel.class.getClassLoader().getResource(levelPath);
+        Path file;
+        if (url == null) {
+            file = Paths.get(levelPath);
+        } else if ("file".equals(url.getProtocol())) {
+            file = Paths.get(url.toURI());
+        } else {
+            try (InputStream is = url.openStream()) {
+                return ByteBuffer.wrap(is.readAllBytes());
+            }
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    private static List<String> readStrings(ByteBuffer in) {
+        int count = in.getShort() & 0xFFFF;
+        List<String> strings = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            byte[] utf8 = new byte[in.getShort() & 0xFFFF];
+            in.get(utf8);
+            strings.add(new String(utf8, StandardCharsets.UTF_8));
+        }
+        return strings;
+    }
+
+    private static void writeStrings(DataOutputStream out, List<String> strings) throws IOException {
+        if (strings.size() > 0xFFFF) {
+            throw new RuntimeException("Too many strings for a binary level (" + strings.size() + ")");
+        }
+        out.writeShort(strings.size());
+        for (String string : strings) {
+            byte[] utf8 = string.getBytes(StandardCharsets.UTF_8);
+            out.writeShort(utf8.length);
+            out.write(utf8);
+        }
+    }
+
+    private static Direction direction(byte ordinal) {
+        if (ordinal < 0 || ordinal >= DIRECTIONS.length) {
+            throw new RuntimeException("Bad direction " + ordinal + " in binary level");
+        }
+        return DIRECTIONS[ordinal];
+    }
+}
@@ -1,10 +1,10 @@
 package com.dodgingbullets.core;
 
 public class Bomb {
-    private Vec2 position;
-    private Vec2 targetPosition;
-    private Vec2 velocity;
+    private final MutableVec2 position = new MutableVec2(); // Updated in place every tick
+    private final MutableVec2 velocity = new MutableVec2();
     private float height;
+    private float previousX, previousY, previousHeight; // At the start of the tick, for drawing between ticks
     private float verticalVelocity;
     private boolean active = true;
     private boolean hasExploded = false;
@@ -14,26 +14,38 @@ public class Bomb {
     private static final float FLIGHT_SPEED = 200f;
     
     public Bomb(float startX, float startY, float targetX, float targetY) {
-        this.position = new Vec2(startX, startY);
-        this.targetPosition = new Vec2(targetX, targetY);
+        reset(startX, startY, targetX, targetY);
+    }
+    
+    // Blank bomb for the pool; reset() sets it up
+    Bomb() {
+    }
+    
+    public Bomb reset(float startX, float startY, float targetX, float targetY) {
+        this.active = true;
+        this.hasExploded = false;
+        this.position.set(startX, startY);
         this.height = INITIAL_HEIGHT;
         
         // Calculate horizontal velocity
-        Vec2 direction = targetPosition.subtract(position);
-        float distance = direction.distance(new Vec2(0, 0));
+        float directionX = targetX - startX;
+        float directionY = targetY - startY;
+        float distance = Vec2.length(directionX, directionY);
         float flightTime = distance / FLIGHT_SPEED;
         
-        this.velocity = direction.multiply(1.0f / distance).multiply(FLIGHT_SPEED);
+        this.velocity.set(directionX, directionY).multiply(1.0f / distance).multiply(FLIGHT_SPEED);
         
         // Calculate initial vertical velocity to reach target
         this.verticalVelocity = (GRAVITY * flightTime) / 2;
+        capturePreviousPosition(); // A pooled bomb must not slide in from where it last landed
+        return this;
     }
     
     public void update(float deltaTime) {
         if (!active || hasExploded) return;
         
         // Update horizontal position
-        position = position.add(velocity.multiply(deltaTime));
+        position.add(velocity.x() * deltaTime, velocity.y() * deltaTime);
         
         // Update vertical position
         verticalVelocity -= GRAVITY * deltaTime;
@@ -46,18 +58,38 @@ public class Bomb {
         }
     }
     
-    public Vec2 getPosition() {
-        return position;
+    public void capturePreviousPosition() {
+        previousX = position.x();
+        previousY = position.y();
+        previousHeight = height;
+    }
+    
+    // Ground position, which is also where the shadow goes
+    public float getX() {
+        return position.x();
     }
     
-    public Vec2 getShadowPosition() {
-        return position;
+    public float getY() {
+        return position.y();
     }
     
     public float getHeight() {
         return height;
     }
     
+    // alpha 0 gives the previous tick, 1 the current one
+    public float getInterpolatedX(float alpha) {
+        return previousX + (position.x() - previousX) * alpha;
+    }
+    
+    public float getInterpolatedY(float alpha) {
+        return previousY + (position.y() - previousY) * alpha;
+    }
+    
+    public float getInterpolatedHeight(float alpha) {
+        return previousHeight + (height - previousHeight) * alpha;
+    }
+    
     public boolean isActive() {
         return active;
     }
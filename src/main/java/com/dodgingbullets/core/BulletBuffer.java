@@ -0,0 +1,103 @@
+package com.dodgingbullets.core;
+
+import java.util.Arrays;
+import java.util.Random;
+
+// All live bullets, stored as parallel arrays so the per-tick update is a flat loop over floats.
+// Bullets are addressed by index; removing one moves the last bullet into its slot
+public class BulletBuffer {
+    public static final int FLAG_PLAYER = 1;
+    public static final int FLAG_SPECIAL = 2;
+
+    private static final float SPEED = 10.0f;
+    private static final int LIFETIME_TICKS = Math.round(GameConfig.TARGET_FPS); // 1 second
+
+    private float[] x;
+    private float[] y;
+    private float[] velocityX;
+    private float[] velocityY;
+    private int[] ticksLeft;
+    private byte[] flags;
+    private int count = 0;
+    private final Random random; // Special bullet spread
+
+    public BulletBuffer(int initialCapacity, Random random) {
+        this.random = random;
+        int capacity = Math.max(initialCapacity, 16);
+        x = new float[capacity];
+        y = new float[capacity];
+        velocityX = new float[capacity];
+        velocityY = new float[capacity];
+        ticksLeft = new int[capacity];
+        flags = new byte[capacity];
+    }
+
+    public void spawn(float startX, float startY, double angle, boolean isPlayerBullet, boolean isSpecialBullet) {
+        if (count == x.length) {
+            grow();
+        }
+
+        // Special bullets get a random spread
+        double spreadAngle = isSpecialBullet ? angle + (random.nextDouble() - 0.5) * 0.3 : angle;
+
+        int i = count++;
+        x[i] = startX;
+        y[i] = startY;
+        velocityX[i] = (float) (Math.cos(spreadAngle) * SPEED);
+        velocityY[i] = (float) (Math.sin(spreadAngle) * SPEED);
+        ticksLeft[i] = LIFETIME_TICKS;
+        flags[i] = (byte) ((isPlayerBullet ? FLAG_PLAYER : 0) | (isSpecialBullet ? FLAG_SPECIAL : 0));
+    }
+
+    public void update() {
+        // Kept free of branches and calls so the JIT can unroll and vectorise it
+        float[] x = this.x;
+        float[] y = this.y;
+        float[] velocityX = this.velocityX;
+        float[] velocityY = this.velocityY;
+        int[] ticksLeft = this.ticksLeft;
+        int count = this.count;
+        for (int i = 0; i < count; i++) {
+            x[i] += velocityX[i];
+            y[i] += velocityY[i];
+            ticksLeft[i]--;
+        }
+    }
+
+    // Swap-remove: the last bullet takes this slot, so walk the buffer backwards when removing
+    public void remove(int index) {
+        int last = --count;
+        if (index != last) {
+            x[index] = x[last];
+            y[index] = y[last];
+            velocityX[index] = velocityX[last];
+            velocityY[index] = velocityY[last];
+            ticksLeft[index] = ticksLeft[last];
+            flags[index] = flags[last];
+        }
+    }
+
+    public void clear() {
+        count = 0;
+    }
+
+    public int size() { return count; }
+    public int capacity() { return x.length; }
+    public float getX(int index) { return x[index]; }
+    public float getY(int index) { return y[index]; }
+    public float getVelocityX(int index) { return velocityX[index]; }
+    public float getVelocityY(int index) { return velocityY[index]; }
+    public boolean isExpired(int index) { return ticksLeft[index] <= 0; }
+    public boolean isPlayerBullet(int index) { return (flags[index] & FLAG_PLAYER) != 0; }
+    public boolean isSpecialBullet(int index) { return (flags[index] & FLAG_SPECIAL) != 0; }
+
+    private void grow() {
+        int capacity = x.length * 2;
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        velocityX = Arrays.copyOf(velocityX, capacity);
+        velocityY = Arrays.copyOf(velocityY, capacity);
+        ticksLeft = Arrays.copyOf(ticksLeft, capacity);
+        flags = Arrays.copyOf(flags, capacity);
+    }
+}
@@ -0,0 +1,235 @@
+package com.dodgingbullets.core;
+
+import com.dodgingbullets.gameobjects.GameObject;
+import com.dodgingbullets.gameobjects.enemies.Bear;
+import com.dodgingbullets.gameobjects.enemies.GunTurret;
+import com.dodgingbullets.gameobjects.enemies.Mortar;
+import com.dodgingbullets.gameobjects.enemies.Thrower;
+import com.dodgingbullets.gameobjects.environment.AmmoPowerUp;
+import com.dodgingbullets.gameobjects.environment.Foliage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+// A level split into square chunks of CHUNK_TILES x CHUNK_TILES map tiles (the same blocks
+// TileChunkCache bakes), each holding placements for the entities that start inside it.
+// A placement is what to spawn and where, and is kept for the whole session. The game objects
+// themselves only exist while their chunk is resident (WorldStreamer), so a level's size is
+// bounded by its placements rather than by live objects. Entities are filed by their starting
+// position, clamped onto the map; WorldStreamer moves enemies between chunks as they wander
+public class ChunkedWorld {
+    public static final int TILE_SIZE = 128;
+    public static final int CHUNK_TILES = TileChunkCache.CHUNK_TILES;
+    public static final float CHUNK_SIZE = CHUNK_TILES * TILE_SIZE;
+
+    // Which of GameLoop's lists a spawned object joins
+    public enum Layer { OBJECT, FOLIAGE, PICKUP }
+
+    public static final class Placement {
+        final int sequence; // Order read from the level, so a chunk spawns in the same order every time
+        final Layer layer;
+        final Supplier<GameObject> spawn;
+        boolean gone; // Destroyed or collected when its chunk was last unloaded; not spawned again
+        GameObject parked; // An enemy as its chunk last unloaded it (health, state, position); spawned as is
+
+        GameObject spawn() {
+            return parked != null ? parked : spawn.get();
+        }
+
+        Placement(int sequence, Layer layer, Supplier<GameObject> spawn) {
+            this.sequence = sequence;
+            this.layer = layer;
+            this.spawn = spawn;
+        }
+    }
+
+    public static final class Chunk {
+        enum State { COLD, LOADING, RESIDENT }
+
+        final int x;
+        final int y;
+        // Only changed on the game thread, while the chunk isn't LOADING
+        final List<Placement> placements = new ArrayList<>();
+
+        // Owned by WorldStreamer on the game thread
+        State state = State.COLD;
+        List<GameObject> objects; // While resident, parallel to spawnedFrom
+        List<Placement> spawnedFrom;
+
+        Chunk(int x, int y) {
+            this.x = x;
+            this.y = y;
+        }
+    }
+
+    // Collects a level's contents in any order (JSON may list the grid last), then files each
+    // placement into its chunk in build()
+    public static class Builder implements MapLoader.Sink {
+        private TileGrid grid = new TileGrid(1, 1, "floorgrey6.png"); // As MapData, when a level has no grid
+        private final List<Placement> placements = new ArrayList<>();
+        private final List<float[]> positions = new ArrayList<>();
+        private Supplier<Player> player;
+
+        @Override
+        public void mapGrid(TileGrid grid) {
+            this.grid = grid;
+        }
+
+        @Override
+        public void turret(int x, int y, int health) {
+            add(x, y, Layer.OBJECT, () -> new GunTurret(x, y, health));
+        }
+
+        @Override
+        public void foliage(float x, float y, float width, float height, float spriteCollisionWidth, float spriteCollisionHeight,
+                            float movementCollisionWidth, float movementCollisionHeight, String textureKey, float renderOffset) {
+            add(x, y, Layer.FOLIAGE, () -> new Foliage(x, y, width, height, spriteCollisionWidth, spriteCollisionHeight,
+                                                       movementCollisionWidth, movementCollisionHeight, textureKey, renderOffset));
+        }
+
+        @Override
+        public void ammoPowerUp(int x, int y) {
+            add(x, y, Layer.PICKUP, () -> new AmmoPowerUp(x, y));
+        }
+
+        @Override
+        public void bear(int x, int y, Direction facing, int health, float speed) {
+            add(x, y, Layer.OBJECT, () -> new Bear(x, y, facing, health, speed));
+        }
+
+        @Override
+        public void thrower(int x, int y, Direction facing, int health, float speed) {
+            // Collision world and petrol bomb list are set as the thrower joins the game (GameLoop)
+            add(x, y, Layer.OBJECT, () -> new Thrower(x, y, facing, null, null, health, speed));
+        }
+
+        @Override
+        public void mortar(int x, int y, Direction lookDirection, float lookDistance, int health, float firingSpeed) {
+            add(x, y, Layer.OBJECT, () -> new Mortar(x, y, lookDirection, lookDistance, health, firingSpeed));
+        }
+
+        @Override
+        public void player(int x, int y) {
+            player = () -> new Player(x, y);
+        }
+
+        // Streamed worlds only keep the chunks near the camera resident
+        public ChunkedWorld build() {
+            return build(true);
+        }
+
+        private void add(float x, float y, Layer layer, Supplier<GameObject> spawn) {
+            placements.add(new Placement(placements.size(), layer, spawn));
+            positions.add(new float[] {x, y});
+        }
+
+        private ChunkedWorld build(boolean streamed) {
+            ChunkedWorld world = new ChunkedWorld(grid, player, streamed);
+            for (int i = 0; i < placements.size(); i++) {
+                float[] position = positions.get(i);
+                world.chunkAt(position[0], position[1]).placements.add(placements.get(i));
+            }
+            return world;
+        }
+    }
+
+    private final TileGrid mapGrid;
+    private final float mapWidth;
+    private final float mapHeight;
+    private final Supplier<Player> player;
+    private final boolean streamed;
+    private final int chunksX;
+    private final int chunksY;
+    private final Chunk[] chunks; // Row-major, row 0 at the bottom like the tile grid
+
+    private ChunkedWorld(TileGrid mapGrid, Supplier<Player> player, boolean streamed) {
+        this.mapGrid = mapGrid;
+        this.mapWidth = mapGrid.getWidth() * TILE_SIZE;
+        this.mapHeight = mapGrid.getHeight() * TILE_SIZE;
+        this.player = player;
+        this.streamed = streamed;
+        this.chunksX = Math.max(1, (mapGrid.getWidth() + CHUNK_TILES - 1) / CHUNK_TILES);
+        this.chunksY = Math.max(1, (mapGrid.getHeight() + CHUNK_TILES - 1) / CHUNK_TILES);
+        this.chunks = new Chunk[chunksX * chunksY];
+        for (int y = 0; y < chunksY; y++) {
+            for (int x = 0; x < chunksX; x++) {
+                chunks[y * chunksX + x] = new Chunk(x, y);
+            }
+        }
+    }
+
+    // A level built in code (benchmarks, the default map). Its objects already exist, so they are
+    // handed out as they are and the whole world stays resident
+    public static ChunkedWorld of(MapLoader.MapData data) {
+        Builder builder = new Builder();
+        builder.mapGrid(data.mapGrid);
+        builder.player = () -> data.player;
+        addExisting(builder, data.turrets, Layer.OBJECT);
+        addExisting(builder, data.foliage, Layer.FOLIAGE);
+        addExisting(builder, data.ammoPowerUps, Layer.PICKUP);
+        addExisting(builder, data.bears, Layer.OBJECT);
+        addExisting(builder, data.throwers, Layer.OBJECT);
+        addExisting(builder, data.mortars, Layer.OBJECT);
+        return builder.build(false);
+    }
+
+    private static void addExisting(Builder builder, List<GameObject> objects, Layer layer) {
+        for (GameObject object : objects) {
+            builder.add(object.getX(), object.getY(), layer, () -> object);
+        }
+    }
+
+    // The level's player, or null if it doesn't place one
+    public Player createPlayer() {
+        return player != null ? player.get() : null;
+    }
+
+    public TileGrid getMapGrid() {
+        return mapGrid;
+    }
+
+    public float getMapWidth() {
+        return mapWidth;
+    }
+
+    public float getMapHeight() {
+        return mapHeight;
+    }
+
+    public boolean isStreamed() {
+        return streamed;
+    }
+
+    public int getChunksX() {
+        return chunksX;
+    }
+
+    public int getChunksY() {
+        return chunksY;
+    }
+
+    public int getChunkCount() {
+        return chunks.length;
+    }
+
+    public int getPlacementCount() {
+        int count = 0;
+        for (Chunk chunk : chunks) {
+            count += chunk.placements.size();
+        }
+        return count;
+    }
+
+    Chunk getChunk(int x, int y) {
+        return chunks[y * chunksX + x];
+    }
+
+    Chunk chunkAt(float worldX, float worldY) {
+        return getChunk(chunkIndex(worldX, chunksX), chunkIndex(worldY, chunksY));
+    }
+
+    static int chunkIndex(float world, int chunkCount) {
+        return Math.max(0, Math.min(chunkCount - 1, (int) Math.floor(world / CHUNK_SIZE)));
+    }
+}
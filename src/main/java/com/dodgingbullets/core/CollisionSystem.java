@@ -4,65 +4,98 @@ import com.dodgingbullets.gameobjects.*;
 import com.dodgingbullets.gameobjects.enemies.Bear;
 import com.dodgingbullets.gameobjects.effects.Explosion;
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
 
 public class CollisionSystem {
+    public static final int LAYER_FOLIAGE = 1;
+    public static final int LAYER_OBJECT = 2;
+    public static final int LAYER_PICKUP = 4;
     
-    public void checkBulletCollisions(List<Bullet> bullets, Player player, List<GameObject> gameObjects, 
-                                    List<GameObject> foliages, List<Explosion> explosions) {
-        Iterator<Bullet> bulletIter = bullets.iterator();
-        while (bulletIter.hasNext()) {
-            Bullet bullet = bulletIter.next();
+    private final SpatialHashGrid broadphase = new SpatialHashGrid(GameConfig.COLLISION_CELL_SIZE, GameConfig.COLLISION_GRID_BUCKETS);
+    private final List<GameObject> foliageCandidates = new ArrayList<>();
+    private final List<GameObject> objectCandidates = new ArrayList<>();
+    private final float[] scratchBounds = new float[4];
+    private final ObjectPool<Explosion> explosionPool;
+    
+    public CollisionSystem(ObjectPool<Explosion> explosionPool) {
+        this.explosionPool = explosionPool;
+    }
+    
+    // Rebuilt once per tick after everything has moved, before bullets are resolved, and again
+    // whenever world streaming changes the lists. Sight lines are cast from it until the next
+    // rebuild, after enemies have moved on, so moving objects are entered with room to move
+    public void updateBroadphase(List<GameObject> gameObjects, List<GameObject> foliages, List<GameObject> ammoPowerUps) {
+        broadphase.clear();
+        insertAll(foliages, LAYER_FOLIAGE);
+        insertAll(gameObjects, LAYER_OBJECT);
+        insertAll(ammoPowerUps, LAYER_PICKUP);
+    }
+    
+    public SpatialHashGrid getBroadphase() {
+        return broadphase;
+    }
+    
+    public void checkBulletCollisions(BulletBuffer bullets, Player player, List<Explosion> explosions) {
+        // Backwards, so a swap-removed slot is refilled by a bullet that was already checked
+        for (int i = bullets.size() - 1; i >= 0; i--) {
+            float bulletX = bullets.getX(i);
+            float bulletY = bullets.getY(i);
+            boolean isPlayerBullet = bullets.isPlayerBullet(i);
             
             // Check foliage collision
-            if (checkFoliageCollision(bullet, foliages)) {
-                bulletIter.remove();
+            if (checkFoliageCollision(bulletX, bulletY)) {
+                bullets.remove(i);
                 continue;
             }
             
             // Check game object collision (player bullets only)
-            if (bullet.isPlayerBullet() && checkGameObjectCollision(bullet, gameObjects, explosions)) {
-                bulletIter.remove();
+            if (isPlayerBullet && checkGameObjectCollision(bulletX, bulletY, explosions)) {
+                bullets.remove(i);
                 continue;
             }
             
             // Check player collision (enemy bullets only)
-            if (!bullet.isPlayerBullet() && checkPlayerCollision(bullet, player)) {
+            if (!isPlayerBullet && checkPlayerCollision(bulletX, bulletY, player)) {
                 player.takeDamage(GameConfig.ENEMY_DAMAGE);
-                bulletIter.remove();
+                bullets.remove(i);
                 continue;
             }
             
-            if (bullet.isExpired()) {
-                bulletIter.remove();
+            if (bullets.isExpired(i)) {
+                bullets.remove(i);
             }
         }
     }
     
     public void checkExplosionCollisions(List<Explosion> explosions, Player player) {
-        for (Explosion explosion : explosions) {
+        for (int i = 0; i < explosions.size(); i++) {
+            Explosion explosion = explosions.get(i);
             if (explosion.checkSpriteCollision(player.getX() - 6, player.getY() - 32, 12, 64)) {
                 player.takeDamage(GameConfig.EXPLOSION_DAMAGE);
             }
         }
     }
     
-    private boolean checkFoliageCollision(Bullet bullet, List<GameObject> foliages) {
-        for (GameObject foliage : foliages) {
+    private boolean checkFoliageCollision(float bulletX, float bulletY) {
+        // Only foliage overlapping the bullet's cell is tested
+        broadphase.queryPoint(bulletX, bulletY, LAYER_FOLIAGE, foliageCandidates);
+        for (int i = 0; i < foliageCandidates.size(); i++) {
+            GameObject foliage = foliageCandidates.get(i);
             if (foliage instanceof Collidable && 
-                ((Collidable) foliage).checkSpriteCollision(bullet.getX(), bullet.getY(), 1, 1)) {
+                ((Collidable) foliage).checkSpriteCollision(bulletX, bulletY, 1, 1)) {
                 return true;
             }
         }
         return false;
     }
     
-    private boolean checkGameObjectCollision(Bullet bullet, List<GameObject> gameObjects, List<Explosion> explosions) {
-        for (GameObject gameObject : gameObjects) {
+    private boolean checkGameObjectCollision(float bulletX, float bulletY, List<Explosion> explosions) {
+        broadphase.queryPoint(bulletX, bulletY, LAYER_OBJECT, objectCandidates);
+        for (int i = 0; i < objectCandidates.size(); i++) {
+            GameObject gameObject = objectCandidates.get(i);
             if (gameObject instanceof Positionable && gameObject instanceof Damageable &&
                 !((Damageable) gameObject).isDestroyed() &&
-                ((Positionable) gameObject).isInSpriteHitbox(bullet.getX(), bullet.getY())) {
+                ((Positionable) gameObject).isInSpriteHitbox(bulletX, bulletY)) {
                 
                 Damageable damageable = (Damageable) gameObject;
                 boolean wasDestroyed = damageable.isDestroyed();
@@ -70,7 +103,7 @@ public class CollisionSystem {
                 
                 // Only create explosions for non-Bear objects
                 if (!wasDestroyed && damageable.isDestroyed() && !(gameObject instanceof Bear)) {
-                    explosions.add(new Explosion(gameObject.getX(), gameObject.getY()));
+                    explosions.add(explosionPool.acquire().reset(gameObject.getX(), gameObject.getY()));
                 }
                 return true;
             }
@@ -78,9 +111,19 @@ public class CollisionSystem {
         return false;
     }
     
-    private boolean checkPlayerCollision(Bullet bullet, Player player) {
-        float bulletX = bullet.getX();
-        float bulletY = bullet.getY();
+    private void insertAll(List<GameObject> objects, int layer) {
+        float margin = layer == LAYER_OBJECT ? GameConfig.BROADPHASE_MOTION_MARGIN : 0;
+        for (int i = 0; i < objects.size(); i++) {
+            GameObject object = objects.get(i);
+            if (object instanceof Collidable) {
+                ((Collidable) object).getCollisionBounds(scratchBounds);
+                broadphase.insert(object, layer, scratchBounds[0] - margin, scratchBounds[1] - margin,
+                                  scratchBounds[2] + margin, scratchBounds[3] + margin);
+            }
+        }
+    }
+    
+    private boolean checkPlayerCollision(float bulletX, float bulletY, Player player) {
         return bulletX >= player.getX() - 6 && bulletX <= player.getX() + 6 && 
                bulletY >= player.getY() - 32 && bulletY <= player.getY() + 32;
     }
@@ -0,0 +1,73 @@
+package com.dodgingbullets.core;
+
+import com.dodgingbullets.gameobjects.Collidable;
+import com.dodgingbullets.gameobjects.GameObject;
+
+import java.util.List;
+
+// Collision queries for movement and sight lines. Foliage lives in the static index (rebuilt only
+// when world chunks load or unload), everything that can move or disappear is read from the live game lists,
+// or for sight lines from CollisionSystem's broadphase over those lists
+public class CollisionWorld {
+    private StaticCollisionIndex staticIndex;
+    private final List<GameObject> gameObjects;
+    private final List<GameObject> pickups;
+    private final SpatialHashGrid broadphase;
+    private Raycaster raycaster;
+    private final Raycaster.Ray ray = new Raycaster.Ray(); // Sight lines are only cast on the game thread
+
+    public CollisionWorld(StaticCollisionIndex staticIndex, List<GameObject> gameObjects, List<GameObject> pickups,
+                          SpatialHashGrid broadphase) {
+        this.staticIndex = staticIndex;
+        this.gameObjects = gameObjects;
+        this.pickups = pickups;
+        this.broadphase = broadphase;
+        this.raycaster = createRaycaster();
+    }
+
+    public boolean checkMovementCollision(float x, float y, float width, float height, GameObject ignore) {
+        if (staticIndex.checkMovementCollision(x, y, width, height)) return true;
+        return checkDynamic(gameObjects, x, y, width, height, ignore, false) ||
+               checkDynamic(pickups, x, y, width, height, ignore, false);
+    }
+
+    public boolean checkSpriteCollision(float x, float y, float width, float height, GameObject ignore) {
+        if (staticIndex.checkSpriteCollision(x, y, width, height)) return true;
+        return checkDynamic(gameObjects, x, y, width, height, ignore, true) ||
+               checkDynamic(pickups, x, y, width, height, ignore, true);
+    }
+
+    // True when nothing blocks the line; spriteHitboxes picks which hitbox type obstructs it
+    public boolean hasLineOfSight(float fromX, float fromY, float toX, float toY, boolean spriteHitboxes, GameObject ignore) {
+        return raycaster.hasLineOfSight(ray, fromX, fromY, toX, toY, spriteHitboxes, ignore);
+    }
+
+    public StaticCollisionIndex getStaticIndex() {
+        return staticIndex;
+    }
+
+    // For streamed worlds, whose foliage changes as chunks load and unload
+    public void setStaticIndex(StaticCollisionIndex staticIndex) {
+        this.staticIndex = staticIndex;
+        this.raycaster = createRaycaster();
+    }
+
+    private Raycaster createRaycaster() {
+        return new Raycaster(staticIndex, broadphase, CollisionSystem.LAYER_OBJECT | CollisionSystem.LAYER_PICKUP);
+    }
+
+    private boolean checkDynamic(List<GameObject> objects, float x, float y, float width, float height,
+                                 GameObject ignore, boolean sprite) {
+        for (int i = 0; i < objects.size(); i++) {
+            GameObject object = objects.get(i);
+            if (object == ignore || !(object instanceof Collidable)) continue;
+
+            Collidable collidable = (Collidable) object;
+            boolean hit = sprite
+                ? collidable.checkSpriteCollision(x, y, width, height)
+                : collidable.checkMovementCollision(x, y, width, height);
+            if (hit) return true;
+        }
+        return false;
+    }
+}
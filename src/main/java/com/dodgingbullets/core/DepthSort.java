@@ -0,0 +1,110 @@
+package com.dodgingbullets.core;
+
+import java.util.Arrays;
+
+// Back-to-front draw order (highest key first) kept in arrays that live across frames.
+// Each object's key is worked out once when it is added, so the sort never goes back to the
+// objects. Sorting drops items into Y bands (one band per item over the frame's key range),
+// which leaves only neighbours within a band out of order, then an insertion pass finishes them.
+// With the near-even Y spread of what is on screen both steps are linear. Equal keys keep the
+// order they were added in, the same as a stable List.sort
+public class DepthSort {
+    private Object[] items = new Object[64];
+    private float[] keys = new float[64];
+    private Object[] sortedItems = new Object[64];
+    private float[] sortedKeys = new float[64];
+    private int[] bandStart = new int[65];
+    private int size = 0;
+
+    public void clear() {
+        // Drop references so removed objects don't stay reachable through the arrays
+        Arrays.fill(items, 0, size, null);
+        size = 0;
+    }
+
+    public void add(Object item, float key) {
+        if (size == items.length) {
+            grow();
+        }
+        items[size] = item;
+        keys[size] = key;
+        size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public Object get(int index) {
+        return items[index];
+    }
+
+    public void sort() {
+        if (size < 2) {
+            return;
+        }
+
+        float max = keys[0];
+        float min = keys[0];
+        for (int i = 1; i < size; i++) {
+            max = Math.max(max, keys[i]);
+            min = Math.min(min, keys[i]);
+        }
+
+        if (max > min) {
+            // Counting pass: band 0 holds the highest keys
+            int bands = size;
+            float scale = (bands - 1) / (max - min);
+            Arrays.fill(bandStart, 0, bands + 1, 0);
+            for (int i = 0; i < size; i++) {
+                bandStart[band(keys[i], max, scale) + 1]++;
+            }
+            for (int b = 0; b < bands; b++) {
+                bandStart[b + 1] += bandStart[b];
+            }
+            for (int i = 0; i < size; i++) {
+                int slot = bandStart[band(keys[i], max, scale)]++;
+                sortedItems[slot] = items[i];
+                sortedKeys[slot] = keys[i];
+            }
+
+            Object[] swapItems = items;
+            items = sortedItems;
+            sortedItems = swapItems;
+            float[] swapKeys = keys;
+            keys = sortedKeys;
+            sortedKeys = swapKeys;
+            Arrays.fill(sortedItems, 0, size, null);
+        }
+
+        // Insertion pass; only moves items past strictly lower keys so ties stay in order
+        for (int i = 1; i < size; i++) {
+            float key = keys[i];
+            if (keys[i - 1] >= key) {
+                continue;
+            }
+            Object item = items[i];
+            int j = i;
+            while (j > 0 && keys[j - 1] < key) {
+                items[j] = items[j - 1];
+                keys[j] = keys[j - 1];
+                j--;
+            }
+            items[j] = item;
+            keys[j] = key;
+        }
+    }
+
+    private static int band(float key, float max, float scale) {
+        return (int) ((max - key) * scale);
+    }
+
+    private void grow() {
+        int capacity = items.length * 2;
+        items = Arrays.copyOf(items, capacity);
+        keys = Arrays.copyOf(keys, capacity);
+        sortedItems = new Object[capacity];
+        sortedKeys = new float[capacity];
+        bandStart = new int[capacity + 1];
+    }
+}
@@ -0,0 +1,50 @@
+package com.dodgingbullets.core;
+
+// Turns real frame times into a whole number of fixed simulation ticks. The leftover fraction of a
+// tick is exposed as an alpha so the renderer can draw between the previous and current tick
+public class FixedTimestep {
+    private final double stepSeconds;
+    private final int maxTicksPerFrame;
+    private double accumulator = 0;
+    private double lastTime = -1;
+
+    public FixedTimestep(double ticksPerSecond, int maxTicksPerFrame) {
+        this.stepSeconds = 1.0 / ticksPerSecond;
+        this.maxTicksPerFrame = maxTicksPerFrame;
+    }
+
+    // Returns how many ticks to simulate for a frame starting at 'now' (seconds)
+    public int advance(double now) {
+        if (lastTime < 0) {
+            lastTime = now;
+            return 0;
+        }
+
+        accumulator += now - lastTime;
+        lastTime = now;
+
+        int ticks = (int) (accumulator / stepSeconds);
+        if (ticks > maxTicksPerFrame) {
+            // Too far behind (slow machine, debugger, window drag) - drop the backlog rather than spiral
+            ticks = maxTicksPerFrame;
+            accumulator = 0;
+        } else {
+            accumulator -= ticks * stepSeconds;
+        }
+        return ticks;
+    }
+
+    public void reset() {
+        accumulator = 0;
+        lastTime = -1;
+    }
+
+    // 0 = draw the previous tick, 1 = draw the current tick
+    public float getAlpha() {
+        return (float) (accumulator / stepSeconds);
+    }
+
+    public float getStepSeconds() {
+        return (float) stepSeconds;
+    }
+}
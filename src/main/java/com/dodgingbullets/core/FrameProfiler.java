@@ -0,0 +1,129 @@
+package com.dodgingbullets.core;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.Locale;
+
+// Times named sections of each tick and frame with System.nanoTime and keeps the last WINDOW
+// samples of each, so slow frames can be traced to a subsystem. Recording is two nanoTime calls
+// and an array store; percentiles are only worked out when someone asks for them
+public class FrameProfiler {
+    public enum Scope {
+        UPDATE,       // All of GameLoop.update; the scopes below it are parts of it
+        TURRETS,
+        SHOOTING,
+        BULLETS,
+        GRENADES,
+        PETROL_BOMBS,
+        BOMBS,
+        EXPLOSIONS,
+        SHELLS,
+        STREAMING,    // WorldStreamer.update and the collision index rebuild when chunks change
+        RENDER,       // GameRenderer.render
+        SWAP_POLL     // Buffer swap and event polling in Game.loop, which includes waiting for vsync
+    }
+
+    public static final int WINDOW = 240; // About four seconds of ticks
+
+    private static final Scope[] SCOPES = Scope.values();
+    private static final int OVERLAY_REFRESH_FRAMES = 30; // Rebuild the overlay text twice a second, not every frame
+
+    private final long[][] samples = new long[SCOPES.length][WINDOW];
+    private final int[] next = new int[SCOPES.length];
+    private final int[] count = new int[SCOPES.length];
+    private final long[] startedAt = new long[SCOPES.length];
+    private final long[] scratch = new long[WINDOW];
+
+    private boolean overlayVisible = false;
+    private final String[] overlayLines = new String[SCOPES.length];
+    private int framesSinceOverlayRefresh = OVERLAY_REFRESH_FRAMES;
+
+    public void begin(Scope scope) {
+        startedAt[scope.ordinal()] = System.nanoTime();
+    }
+
+    public void end(Scope scope) {
+        record(scope, System.nanoTime() - startedAt[scope.ordinal()]);
+    }
+
+    public void record(Scope scope, long nanos) {
+        int i = scope.ordinal();
+        samples[i][next[i]] = nanos;
+        next[i] = (next[i] + 1) % WINDOW;
+        if (count[i] < WINDOW) {
+            count[i]++;
+        }
+    }
+
+    public int getSampleCount(Scope scope) {
+        return count[scope.ordinal()];
+    }
+
+    // Nearest-rank percentile (0-100) of the samples in the window, in nanoseconds; 0 with no samples
+    public long percentile(Scope scope, double percent) {
+        int i = scope.ordinal();
+        int n = count[i];
+        if (n == 0) {
+            return 0;
+        }
+        System.arraycopy(samples[i], 0, scratch, 0, n);
+        Arrays.sort(scratch, 0, n);
+        int rank = (int) Math.ceil(percent / 100.0 * n) - 1;
+        return scratch[Math.max(0, Math.min(n - 1, rank))];
+    }
+
+    public void clear() {
+        Arrays.fill(next, 0);
+        Arrays.fill(count, 0);
+    }
+
+    public boolean isOverlayVisible() {
+        return overlayVisible;
+    }
+
+    public void toggleOverlay() {
+        overlayVisible = !overlayVisible;
+        framesSinceOverlayRefresh = OVERLAY_REFRESH_FRAMES;
+    }
+
+    // Top-left table of p50/p95/p99 per scope, in milliseconds
+    public void renderOverlay(Renderer renderer) {
+        if (!overlayVisible) {
+            return;
+        }
+
+        if (++framesSinceOverlayRefresh >= OVERLAY_REFRESH_FRAMES) {
+            framesSinceOverlayRefresh = 0;
+            for (Scope scope : SCOPES) {
+                overlayLines[scope.ordinal()] = String.format("%-12s %6.2f %6.2f %6.2f", scope,
+                    percentile(scope, 50) / 1_000_000.0, percentile(scope, 95) / 1_000_000.0, percentile(scope, 99) / 1_000_000.0);
+            }
+        }
+
+        float lineHeight = 14;
+        float top = GameConfig.SCREEN_HEIGHT - 20;
+        renderer.renderRect(4, top - SCOPES.length * lineHeight - 6, 300, (SCOPES.length + 1) * lineHeight + 8, 0.0f, 0.0f, 0.0f, 0.6f);
+        renderer.renderText("ms            p50    p95    p99", 8, top, 1.0f, 1.0f, 0.0f);
+        for (int i = 0; i < SCOPES.length; i++) {
+            renderer.renderText(overlayLines[i], 8, top - (i + 1) * lineHeight, 1.0f, 1.0f, 1.0f);
+        }
+    }
+
+    public static void writeCsvHeader(Writer writer) throws IOException {
+        writer.write("tick,scope,samples,p50_us,p95_us,p99_us\n");
+    }
+
+    // One row per scope with the current window's percentiles, tagged with the tick they were taken at
+    public void writeCsvRows(Writer writer, long tick) throws IOException {
+        for (Scope scope : SCOPES) {
+            int n = count[scope.ordinal()];
+            if (n == 0) {
+                continue;
+            }
+            // Root locale so decimals always use a dot, whatever the machine is set to
+            writer.write(String.format(Locale.ROOT, "%d,%s,%d,%.1f,%.1f,%.1f\n", tick, scope, n,
+                percentile(scope, 50) / 1000.0, percentile(scope, 95) / 1000.0, percentile(scope, 99) / 1000.0));
+        }
+    }
+}
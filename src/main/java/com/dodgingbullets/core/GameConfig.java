@@ -24,7 +24,32 @@ public class GameConfig {
     public static final long GRENADE_FUSE_TIME = 1000; // 1 second after landing
 
     // Rendering constants
-    public static final float TARGET_FPS = 60.0f;
+    public static final float TARGET_FPS = 60.0f; // Simulation tick rate; rendering runs at the display rate
     public static final float DELTA_TIME = 1.0f / TARGET_FPS;
+    public static final int MAX_TICKS_PER_FRAME = 5; // Catch-up limit before the backlog is dropped
     public static final int BACKGROUND_TILE_SIZE = 256; // Size of each background tile
+    public static final long ASSET_UPLOAD_BUDGET_NANOS = 4_000_000; // Texture uploads per frame while loading, ~1/4 of a 60Hz frame
+    
+    // Collision broadphase
+    public static final float COLLISION_CELL_SIZE = 128; // Matches the map tile size
+    public static final int COLLISION_GRID_BUCKETS = 4096; // Must be a power of two
+    public static final float BROADPHASE_MOTION_MARGIN = 16; // Past the 10 px a knocked-back bear moves in a tick
+    
+    // Object pools - most free instances kept per pool
+    public static final int POOL_MAX_FREE = 1024;
+    
+    // World streaming, in chunks of TileChunkCache.CHUNK_TILES tiles a side (ChunkedWorld, WorldStreamer)
+    public static final int WORLD_LOAD_MARGIN = 1; // Chunks beyond the view loaded ahead of the camera
+    public static final int WORLD_UNLOAD_MARGIN = 2; // Chunks beyond the view before unloading; the gap is the hysteresis
+    public static final long WORLD_MEMORY_BUDGET_BYTES = 32L << 20; // Estimated resident object memory
+    public static final int WORLD_STREAM_JOIN_DELAY_TICKS = 4; // From asking for a chunk to adding its objects to the game
+    public static final int WORLD_STREAM_CHUNKS_PER_TICK = 2; // Most chunks added to the game per tick
+    public static final long TILE_CHUNK_MEMORY_BUDGET_BYTES = 96L << 20; // Baked background chunks (4 MB each)
+    public static final long TILE_BAKE_BUDGET_NANOS = 2_000_000; // Background chunk baking, per frame
+    
+    // Parsed levels kept for instant restarts and level switches
+    public static final int LEVEL_CACHE_SIZE = 8;
+    
+    // Initial bullet buffer size; grows by doubling
+    public static final int BULLET_BUFFER_CAPACITY = 256;
 }
@@ -2,6 +2,7 @@ package com.dodgingbullets.core;
 
 import com.dodgingbullets.gameobjects.*;
 import com.dodgingbullets.gameobjects.enemies.Bear;
+import com.dodgingbullets.gameobjects.enemies.GunTurret;
 import com.dodgingbullets.gameobjects.enemies.Thrower;
 import com.dodgingbullets.gameobjects.enemies.Mortar;
 import com.dodgingbullets.gameobjects.effects.Explosion;
@@ -9,12 +10,15 @@ import com.dodgingbullets.gameobjects.effects.PetrolBomb;
 import com.dodgingbullets.gameobjects.environment.AmmoPowerUp;
 
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
 
 public class GameLoop {
     private Player player;
-    private List<Bullet> bullets = new ArrayList<>();
+    // Every random choice in the simulation comes from here, so a seeded run repeats exactly
+    private final Random random = new Random();
+    private final BulletBuffer bullets = new BulletBuffer(GameConfig.BULLET_BUFFER_CAPACITY, random);
     private List<ShellCasing> shells = new ArrayList<>();
     private List<Grenade> grenades = new ArrayList<>();
     private List<PetrolBomb> petrolBombs = new ArrayList<>();
@@ -23,54 +27,99 @@ public class GameLoop {
     private List<GameObject> foliages = new ArrayList<>();
     private List<GameObject> ammoPowerUps = new ArrayList<>();
     private List<Explosion> explosions = new ArrayList<>();
-    private Vec2 camera = new Vec2(0, 0);
-    private long lastPlayerShootTime = 0;
+    private final MutableVec2 camera = new MutableVec2();
     
-    private CollisionSystem collisionSystem = new CollisionSystem();
+    // Positions at the start of the current tick, for render interpolation
+    private float previousCameraX, previousCameraY;
+    private float previousPlayerX, previousPlayerY;
+    private long lastPlayerShootTime = SimClock.NEVER;
+    private final SimClock clock = new SimClock();
+    private final FrameProfiler profiler = new FrameProfiler();
+    
+    
+    // Pools for short-lived objects; every removal path below hands instances back
+    private final ObjectPool<ShellCasing> shellPool = new ObjectPool<>("ShellCasing", ShellCasing::new, GameConfig.POOL_MAX_FREE);
+    private final ObjectPool<Explosion> explosionPool = new ObjectPool<>("Explosion", Explosion::new, GameConfig.POOL_MAX_FREE);
+    private final ObjectPool<Bomb> bombPool = new ObjectPool<>("Bomb", Bomb::new, GameConfig.POOL_MAX_FREE);
+    private final ObjectPool<Grenade> grenadePool = new ObjectPool<>("Grenade", Grenade::new, GameConfig.POOL_MAX_FREE);
+    private final ObjectPool<PetrolBomb> petrolBombPool = new ObjectPool<>("PetrolBomb", PetrolBomb::new, GameConfig.POOL_MAX_FREE);
+    
+    private CollisionSystem collisionSystem = new CollisionSystem(explosionPool);
+    private CollisionWorld collisionWorld;
+    private PerceptionCache perceptionCache;
+    private WorldStreamer worldStreamer;
     private InputHandler inputHandler = new InputHandler();
     
+    // Made once rather than as a capturing lambda every tick
+    private final Predicate<GameObject> removeInactive = gameObject -> {
+        if (gameObject.isActive()) return false;
+        perceptionCache.forget(gameObject);
+        return true;
+    };
+    
     public void initialize(Renderer renderer) {
+        GameObjectFactory.beginSession();
+        if (worldStreamer != null) {
+            worldStreamer.shutdown();
+        }
+        ChunkedWorld world = GameObjectFactory.getWorld();
+        
         // Initialize player
-        player = GameObjectFactory.createPlayer();
+        player = world.createPlayer();
         player.loadTextures(renderer);
         
-        // Initialize game objects
-        gameObjects = GameObjectFactory.createTurrets();
-        foliages = GameObjectFactory.createFoliage();
-        ammoPowerUps = GameObjectFactory.createAmmoPowerUps();
-        
-        // Add bears to game objects
-        gameObjects.addAll(GameObjectFactory.createBears());
-        
-        // Add throwers to game objects
-        gameObjects.addAll(GameObjectFactory.createThrowers());
-        
-        // Add mortars to game objects
-        List<GameObject> mortars = GameObjectFactory.createMortars();
-        System.out.println("Loading " + mortars.size() + " mortars");
-        gameObjects.addAll(mortars);
-        
-        // Set up collision objects for player
-        List<GameObject> allCollidables = new ArrayList<>();
-        allCollidables.addAll(gameObjects);
-        allCollidables.addAll(foliages);
-        allCollidables.addAll(ammoPowerUps);
-        player.setCollidableObjects(allCollidables);
+        // Game objects arrive chunk by chunk from the world streamer; foliage never moves, so it
+        // is indexed only when chunks change, and the live lists cover everything else
+        gameObjects = new ArrayList<>();
+        foliages = new ArrayList<>();
+        ammoPowerUps = new ArrayList<>();
+        collisionWorld = new CollisionWorld(StaticCollisionIndex.build(foliages, GameConfig.COLLISION_CELL_SIZE), gameObjects, ammoPowerUps,
+                                            collisionSystem.getBroadphase());
+        perceptionCache = new PerceptionCache(collisionWorld);
+        player.setCollisionWorld(collisionWorld);
+        player.setClock(clock);
+        updateCamera();
+        capturePreviousPositions();
         
-        // Set up collision objects for bears and throwers
-        for (GameObject gameObject : gameObjects) {
-            if (gameObject instanceof Bear) {
-                ((Bear) gameObject).setCollidableObjects(allCollidables);
-            } else if (gameObject instanceof Thrower) {
-                ((Thrower) gameObject).setCollidableObjects(allCollidables);
-                ((Thrower) gameObject).setPetrolBombs(petrolBombs);
-            } else if (gameObject instanceof Mortar) {
-                ((Mortar) gameObject).setCollidableObjects(allCollidables);
-            }
+        worldStreamer = new WorldStreamer(world, gameObjects, foliages, ammoPowerUps, this::spawn, perceptionCache::forget);
+        worldStreamer.loadAround(camera.x(), camera.y());
+        indexWorld();
+        System.out.println("Loading " + world.getPlacementCount() + " objects in " + world.getChunkCount() + " chunks, " +
+                           worldStreamer.getResidentChunkCount() + " resident");
+    }
+    
+    // Set up collision and sight lines for bears, throwers and mortars as they join the game
+    private void spawn(GameObject gameObject) {
+        if (gameObject instanceof Bear) {
+            ((Bear) gameObject).setCollisionWorld(collisionWorld);
+            ((Bear) gameObject).setPerceptionCache(perceptionCache);
+        } else if (gameObject instanceof Thrower) {
+            ((Thrower) gameObject).setCollisionWorld(collisionWorld);
+            ((Thrower) gameObject).setPerceptionCache(perceptionCache);
+            ((Thrower) gameObject).setPetrolBombs(petrolBombs);
+            ((Thrower) gameObject).setPetrolBombPool(petrolBombPool);
+            ((Thrower) gameObject).setRandom(random);
+        } else if (gameObject instanceof Mortar) {
+            ((Mortar) gameObject).setPerceptionCache(perceptionCache);
+        } else if (gameObject instanceof GunTurret) {
+            ((GunTurret) gameObject).setClock(clock);
         }
     }
     
+    // After the lists change: foliage into the static index, everything into the broadphase
+    private void indexWorld() {
+        collisionWorld.setStaticIndex(StaticCollisionIndex.build(foliages, GameConfig.COLLISION_CELL_SIZE));
+        collisionSystem.updateBroadphase(gameObjects, foliages, ammoPowerUps);
+    }
+    
     public void update(boolean[] keys, boolean jumpPressed, boolean jumpHeld, boolean mousePressed, boolean mouseHeld, boolean grenadePressed, boolean spacePressed, boolean spaceHeld, double mouseX, double mouseY) {
+        profiler.begin(FrameProfiler.Scope.UPDATE);
+        
+        // Every timer below reads this tick's time; cached sight lines from the last tick are stale
+        clock.advance();
+        perceptionCache.beginTick();
+        capturePreviousPositions();
+        
         // Process input
         InputState input = inputHandler.processInput(keys, jumpPressed, jumpHeld, mousePressed, mouseHeld, grenadePressed, spacePressed, spaceHeld, mouseX, mouseY);
         
@@ -81,11 +130,22 @@ public class GameLoop {
         updateCamera();
         inputHandler.updateCamera(camera.x(), camera.y());
         
+        // Load and unload world chunks around the new view
+        profiler.begin(FrameProfiler.Scope.STREAMING);
+        if (worldStreamer.update(camera.x(), camera.y())) {
+            indexWorld();
+        }
+        profiler.end(FrameProfiler.Scope.STREAMING);
+        
         // Update game objects
+        profiler.begin(FrameProfiler.Scope.TURRETS);
         updateTurrets();
+        profiler.end(FrameProfiler.Scope.TURRETS);
         
         // Handle shooting
+        profiler.begin(FrameProfiler.Scope.SHOOTING);
         handleShooting(input);
+        profiler.end(FrameProfiler.Scope.SHOOTING);
         
         // Handle grenades
         handleGrenades(input);
@@ -97,43 +157,77 @@ public class GameLoop {
         checkBearAttacks();
         
         // Update and check collisions
+        profiler.begin(FrameProfiler.Scope.BULLETS);
         updateBullets();
+        profiler.end(FrameProfiler.Scope.BULLETS);
+        profiler.begin(FrameProfiler.Scope.GRENADES);
         updateGrenades();
+        profiler.end(FrameProfiler.Scope.GRENADES);
+        profiler.begin(FrameProfiler.Scope.PETROL_BOMBS);
         updatePetrolBombs();
+        profiler.end(FrameProfiler.Scope.PETROL_BOMBS);
+        profiler.begin(FrameProfiler.Scope.BOMBS);
         updateBombs();
+        profiler.end(FrameProfiler.Scope.BOMBS);
+        profiler.begin(FrameProfiler.Scope.EXPLOSIONS);
         updateExplosions();
+        profiler.end(FrameProfiler.Scope.EXPLOSIONS);
+        profiler.begin(FrameProfiler.Scope.SHELLS);
         updateShells();
+        profiler.end(FrameProfiler.Scope.SHELLS);
         
         // Remove inactive game objects
-        gameObjects.removeIf(gameObject -> !gameObject.isActive());
+        gameObjects.removeIf(removeInactive);
+        
+        profiler.end(FrameProfiler.Scope.UPDATE);
+    }
+    
+    private void capturePreviousPositions() {
+        previousCameraX = camera.x();
+        previousCameraY = camera.y();
+        previousPlayerX = player.getX();
+        previousPlayerY = player.getY();
+        for (int i = 0; i < gameObjects.size(); i++) {
+            gameObjects.get(i).capturePreviousPosition();
+        }
+        for (int i = 0; i < grenades.size(); i++) {
+            grenades.get(i).capturePreviousPosition();
+        }
+        for (int i = 0; i < petrolBombs.size(); i++) {
+            petrolBombs.get(i).capturePreviousPosition();
+        }
+        for (int i = 0; i < bombs.size(); i++) {
+            bombs.get(i).capturePreviousPosition();
+        }
+        for (int i = 0; i < shells.size(); i++) {
+            shells.get(i).capturePreviousPosition();
+        }
     }
     
     private void updateCamera() {
-        Vec2 playerPos = player.getPosition();
-        Vec2 screenCenter = new Vec2(GameConfig.SCREEN_WIDTH / 2, GameConfig.SCREEN_HEIGHT / 2);
-        Vec2 desiredCamera = playerPos.subtract(screenCenter);
-        
-        Vec2 mapBounds = new Vec2(GameObjectFactory.getMapWidth() - GameConfig.SCREEN_WIDTH, GameObjectFactory.getMapHeight() - GameConfig.SCREEN_HEIGHT);
-        camera = desiredCamera.clamp(new Vec2(0, 0), mapBounds);
+        float maxX = GameObjectFactory.getMapWidth() - GameConfig.SCREEN_WIDTH;
+        float maxY = GameObjectFactory.getMapHeight() - GameConfig.SCREEN_HEIGHT;
+        camera.set(player.getX() - GameConfig.SCREEN_WIDTH / 2, player.getY() - GameConfig.SCREEN_HEIGHT / 2)
+              .clamp(0, 0, maxX, maxY);
     }
     
     private void updateTurrets() {
-        for (GameObject gameObject : gameObjects) {
+        for (int i = 0; i < gameObjects.size(); i++) {
+            GameObject gameObject = gameObjects.get(i);
             gameObject.update(GameConfig.DELTA_TIME);
             if (gameObject instanceof Trackable) {
                 ((Trackable) gameObject).update(player.getX(), player.getY());
             }
             if (gameObject instanceof Thrower) {
-                ((Thrower) gameObject).setPlayerPosition(new Vec2(player.getX(), player.getY()));
+                ((Thrower) gameObject).setPlayerPosition(player.getX(), player.getY());
             }
             if (gameObject instanceof Mortar) {
-                ((Mortar) gameObject).setPlayerPosition(new Vec2(player.getX(), player.getY()));
+                ((Mortar) gameObject).setPlayerPosition(player.getX(), player.getY());
                 
                 // Check if mortar should fire
                 if (((Mortar) gameObject).canShoot()) {
                     Mortar mortar = (Mortar) gameObject;
-                    float[] mortarPos = mortar.getBarrelPosition();
-                    bombs.add(new Bomb(mortarPos[0], mortarPos[1], player.getX(), player.getY()));
+                    bombs.add(bombPool.acquire().reset(mortar.getBarrelX(), mortar.getBarrelY(), player.getX(), player.getY()));
                     mortar.shoot(player.getX(), player.getY());
                 }
             }
@@ -156,7 +250,7 @@ public class GameLoop {
         if (shouldShootMouse && player.canShoot()) {
             // Check rapid fire timing for special bullets
             if (canRapidFire) {
-                long now = System.currentTimeMillis();
+                long now = clock.millis();
                 if (now - lastPlayerShootTime < 100) { // 10 shots per second = 100ms interval
                     return;
                 }
@@ -171,15 +265,14 @@ public class GameLoop {
             player.setShootingDirection(shootDirection);
             
             player.shoot();
-            float[] gunPos = player.getGunBarrelPosition();
-            bullets.add(new Bullet(gunPos[0], gunPos[1], angle, true, player.hasSpecialBullets()));
-            shells.add(new ShellCasing(player.getX(), player.getY()));
+            bullets.spawn(player.getGunBarrelX(), player.getGunBarrelY(), angle, true, player.hasSpecialBullets());
+            shells.add(shellPool.acquire().reset(player.getX(), player.getY(), clock, random));
         }
         
         // Handle auto-aim shooting with spacebar
         if (shouldAutoAim && player.canShoot()) {
             // Check timing for both rapid fire and normal bullets
-            long now = System.currentTimeMillis();
+            long now = clock.millis();
             if (canRapidFire) {
                 if (now - lastPlayerShootTime < 100) { // 10 shots per second = 100ms interval
                     return;
@@ -195,13 +288,14 @@ public class GameLoop {
             GameObject closestEnemy = null;
             float closestDistance = Float.MAX_VALUE;
             
-            for (GameObject gameObject : gameObjects) {
+            for (int i = 0; i < gameObjects.size(); i++) {
+                GameObject gameObject = gameObjects.get(i);
                 if (gameObject instanceof Trackable && gameObject instanceof Damageable) {
                     Damageable damageable = (Damageable) gameObject;
                     
                     // Always allow targeting of enemies, regardless of state
                     if (!damageable.isDestroyed()) {
-                        float distance = new Vec2(gameObject.getX(), gameObject.getY()).distance(new Vec2(player.getX(), player.getY()));
+                        float distance = Vec2.distance(gameObject.getX(), gameObject.getY(), player.getX(), player.getY());
                         if (distance <= 320 && distance < closestDistance) {
                             closestDistance = distance;
                             closestEnemy = gameObject;
@@ -227,13 +321,13 @@ public class GameLoop {
             
             player.setShootingDirection(shootDirection);
             player.shoot();
-            float[] gunPos = player.getGunBarrelPosition();
-            bullets.add(new Bullet(gunPos[0], gunPos[1], angle, true, player.hasSpecialBullets()));
-            shells.add(new ShellCasing(player.getX(), player.getY()));
+            bullets.spawn(player.getGunBarrelX(), player.getGunBarrelY(), angle, true, player.hasSpecialBullets());
+            shells.add(shellPool.acquire().reset(player.getX(), player.getY(), clock, random));
         }
         
         // Handle shooting from game objects
-        for (GameObject gameObject : gameObjects) {
+        for (int i = 0; i < gameObjects.size(); i++) {
+            GameObject gameObject = gameObjects.get(i);
             if (gameObject instanceof Trackable && gameObject instanceof Shooter && 
                 gameObject instanceof Positionable && gameObject instanceof Damageable) {
                 
@@ -245,11 +339,10 @@ public class GameLoop {
                 if (!damageable.isDestroyed() && trackable.canSeePlayer(player.getX(), player.getY()) && 
                     trackable.canSeePlayerInCurrentDirection(player.getX(), player.getY()) && shooter.canShoot()) {
                     
-                    float[] barrelPos = positionable.getBarrelPosition();
                     double deltaX = player.getX() - gameObject.getX();
                     double deltaY = player.getY() - gameObject.getY();
                     double angleToPlayer = Math.atan2(deltaY, deltaX);
-                    bullets.add(new Bullet(barrelPos[0], barrelPos[1], angleToPlayer, false));
+                    bullets.spawn(positionable.getBarrelX(), positionable.getBarrelY(), angleToPlayer, false, false);
                     shooter.shoot(player.getX(), player.getY());
                 }
             }
@@ -257,17 +350,15 @@ public class GameLoop {
     }
     
     private void updateBullets() {
-        Iterator<Bullet> bulletIter = bullets.iterator();
-        while (bulletIter.hasNext()) {
-            Bullet bullet = bulletIter.next();
-            bullet.update();
-        }
+        bullets.update();
         
-        collisionSystem.checkBulletCollisions(bullets, player, gameObjects, foliages, explosions);
+        collisionSystem.updateBroadphase(gameObjects, foliages, ammoPowerUps);
+        collisionSystem.checkBulletCollisions(bullets, player, explosions);
     }
     
     private void checkAmmoPowerUpCollection() {
-        for (GameObject powerUp : ammoPowerUps) {
+        for (int i = 0; i < ammoPowerUps.size(); i++) {
+            GameObject powerUp = ammoPowerUps.get(i);
             if (powerUp instanceof AmmoPowerUp) {
                 AmmoPowerUp ammo = (AmmoPowerUp) powerUp;
                 if (!ammo.isCollected() && ammo.checkSpriteCollision(player.getX(), player.getY(), 12, 12)) {
@@ -279,7 +370,8 @@ public class GameLoop {
     }
     
     private void checkBearAttacks() {
-        for (GameObject gameObject : gameObjects) {
+        for (int i = 0; i < gameObjects.size(); i++) {
+            GameObject gameObject = gameObjects.get(i);
             if (gameObject instanceof Bear) {
                 Bear bear = (Bear) gameObject;
                 if (bear.isAttackingPlayer()) {
@@ -293,69 +385,65 @@ public class GameLoop {
     
     private void handleGrenades(InputState input) {
         if (input.grenadePressed && player.canThrowGrenade()) {
-            float[] gunPos = player.getGunBarrelPosition();
-            
-            // Create all collidable objects list for grenade collision
-            List<GameObject> allCollidables = new ArrayList<>();
-            allCollidables.addAll(gameObjects);
-            allCollidables.addAll(foliages);
-            allCollidables.addAll(ammoPowerUps);
-            
-            grenades.add(new Grenade(gunPos[0], gunPos[1], (float)input.worldMouseX, (float)input.worldMouseY, allCollidables));
+            grenades.add(grenadePool.acquire().reset(player.getGunBarrelX(), player.getGunBarrelY(), (float)input.worldMouseX, (float)input.worldMouseY, collisionWorld, clock, random));
             player.throwGrenade();
         }
     }
     
     private void updateGrenades() {
-        Iterator<Grenade> grenadeIter = grenades.iterator();
-        while (grenadeIter.hasNext()) {
-            Grenade grenade = grenadeIter.next();
+        // Indexed rather than through an Iterator, so a tick doesn't allocate one
+        for (int i = 0; i < grenades.size(); i++) {
+            Grenade grenade = grenades.get(i);
             grenade.update(GameConfig.DELTA_TIME);
             
             if (grenade.shouldExplode()) {
                 // Create explosion at grenade position
-                explosions.add(new Explosion(grenade.getX(), grenade.getY()));
+                explosions.add(explosionPool.acquire().reset(grenade.getX(), grenade.getY()));
                 
                 // Damage enemies in explosion radius
-                for (GameObject gameObject : gameObjects) {
+                for (int j = 0; j < gameObjects.size(); j++) {
+                    GameObject gameObject = gameObjects.get(j);
                     if (gameObject instanceof Damageable) {
                         Damageable damageable = (Damageable) gameObject;
-                        float distance = new Vec2(gameObject.getX(), gameObject.getY()).distance(new Vec2(grenade.getX(), grenade.getY()));
+                        float distance = Vec2.distance(gameObject.getX(), gameObject.getY(), grenade.getX(), grenade.getY());
                         if (distance <= 64) { // Explosion radius
                             damageable.takeDamage(GameConfig.GRENADE_EXPLOSION_DAMAGE);
                         }
                     }
                 }
                 
-                grenadeIter.remove();
+                grenades.remove(i--);
+                grenadePool.release(grenade);
             } else if (!grenade.isActive()) {
-                grenadeIter.remove();
+                grenades.remove(i--);
+                grenadePool.release(grenade);
             }
         }
     }
     
     private void updatePetrolBombs() {
-        Iterator<PetrolBomb> bombIter = petrolBombs.iterator();
-        while (bombIter.hasNext()) {
-            PetrolBomb bomb = bombIter.next();
+        for (int i = 0; i < petrolBombs.size(); i++) {
+            PetrolBomb bomb = petrolBombs.get(i);
             bomb.update(GameConfig.DELTA_TIME);
             
             if (bomb.shouldCreateExplosion()) {
                 // Create explosion at bomb landing position
-                Vec2 explosionPos = bomb.getExplosionPosition();
-                explosions.add(new Explosion(explosionPos.x(), explosionPos.y()));
+                float explosionX = bomb.getX();
+                float explosionY = bomb.getY();
+                explosions.add(explosionPool.acquire().reset(explosionX, explosionY));
                 
                 // Damage player and enemies in explosion radius
-                float distance = new Vec2(player.getX(), player.getY()).distance(explosionPos);
+                float distance = Vec2.distance(player.getX(), player.getY(), explosionX, explosionY);
                 if (distance <= 80) { // Explosion radius
                     player.takeDamage(15); // Petrol bomb damage
                 }
                 
                 // Damage enemies (including throwers - instant kill)
-                for (GameObject gameObject : gameObjects) {
+                for (int j = 0; j < gameObjects.size(); j++) {
+                    GameObject gameObject = gameObjects.get(j);
                     if (gameObject instanceof Damageable) {
                         Damageable damageable = (Damageable) gameObject;
-                        distance = new Vec2(gameObject.getX(), gameObject.getY()).distance(explosionPos);
+                        distance = Vec2.distance(gameObject.getX(), gameObject.getY(), explosionX, explosionY);
                         if (distance <= 80) {
                             if (gameObject instanceof Thrower) {
                                 ((Thrower) gameObject).killInstantly();
@@ -366,45 +454,47 @@ public class GameLoop {
                     }
                 }
                 
-                bombIter.remove();
+                petrolBombs.remove(i--);
+                petrolBombPool.release(bomb);
             } else if (!bomb.isActive()) {
-                bombIter.remove();
+                petrolBombs.remove(i--);
+                petrolBombPool.release(bomb);
             }
         }
     }
     
     private void updateBombs() {
-        Iterator<Bomb> bombIter = bombs.iterator();
-        while (bombIter.hasNext()) {
-            Bomb bomb = bombIter.next();
+        for (int i = 0; i < bombs.size(); i++) {
+            Bomb bomb = bombs.get(i);
             bomb.update(GameConfig.DELTA_TIME);
             
             if (bomb.hasExploded()) {
                 // Create explosion at bomb position
-                Vec2 bombPos = bomb.getPosition();
-                explosions.add(new Explosion(bombPos.x(), bombPos.y()));
+                explosions.add(explosionPool.acquire().reset(bomb.getX(), bomb.getY()));
                 
                 // Damage player if in explosion radius
-                float distance = new Vec2(player.getX(), player.getY()).distance(bombPos);
+                float distance = Vec2.distance(player.getX(), player.getY(), bomb.getX(), bomb.getY());
                 if (distance <= 80) { // Explosion radius
                     player.takeDamage(20); // Mortar bomb damage
                 }
                 
-                bombIter.remove();
+                bombs.remove(i--);
+                bombPool.release(bomb);
             } else if (!bomb.isActive()) {
-                bombIter.remove();
+                bombs.remove(i--);
+                bombPool.release(bomb);
             }
         }
     }
     
     private void updateExplosions() {
-        Iterator<Explosion> explosionIter = explosions.iterator();
-        while (explosionIter.hasNext()) {
-            Explosion explosion = explosionIter.next();
+        for (int i = 0; i < explosions.size(); i++) {
+            Explosion explosion = explosions.get(i);
             explosion.update(GameConfig.DELTA_TIME);
             
             if (!explosion.isActive()) {
-                explosionIter.remove();
+                explosions.remove(i--);
+                explosionPool.release(explosion);
             }
         }
         
@@ -412,12 +502,12 @@ public class GameLoop {
     }
     
     private void updateShells() {
-        Iterator<ShellCasing> shellIter = shells.iterator();
-        while (shellIter.hasNext()) {
-            ShellCasing shell = shellIter.next();
+        for (int i = 0; i < shells.size(); i++) {
+            ShellCasing shell = shells.get(i);
             shell.update();
             if (shell.isExpired()) {
-                shellIter.remove();
+                shells.remove(i--);
+                shellPool.release(shell);
             }
         }
     }
@@ -438,7 +528,7 @@ public class GameLoop {
     
     // Getters for rendering
     public Player getPlayer() { return player; }
-    public List<Bullet> getBullets() { return bullets; }
+    public BulletBuffer getBullets() { return bullets; }
     public List<ShellCasing> getShells() { return shells; }
     public List<Grenade> getGrenades() { return grenades; }
     public List<PetrolBomb> getPetrolBombs() { return petrolBombs; }
@@ -447,9 +537,25 @@ public class GameLoop {
     public List<GameObject> getFoliages() { return foliages; }
     public List<GameObject> getAmmoPowerUps() { return ammoPowerUps; }
     public List<Explosion> getExplosions() { return explosions; }
+    public PerceptionCache getPerceptionCache() { return perceptionCache; }
+    public WorldStreamer getWorldStreamer() { return worldStreamer; }
+    public SimClock getClock() { return clock; }
+    public FrameProfiler getProfiler() { return profiler; }
+    
+    // For reproducible runs (HeadlessRunner); unseeded, every session plays out differently
+    public void setRandomSeed(long seed) { random.setSeed(seed); }
+    
+    public String getPoolStats() {
+        return "Bullets: " + bullets.size() + " live, capacity " + bullets.capacity() + "\n" + shellPool + "\n" + explosionPool + "\n" + bombPool + "\n" + grenadePool + "\n" + petrolBombPool;
+    }
     public float getCameraX() { return camera.x(); }
     public float getCameraY() { return camera.y(); }
-    public Vec2 getCamera() { return camera; }
+    
+    // alpha 0 gives the previous tick, 1 the current one
+    public float getInterpolatedCameraX(float alpha) { return previousCameraX + (camera.x() - previousCameraX) * alpha; }
+    public float getInterpolatedCameraY(float alpha) { return previousCameraY + (camera.y() - previousCameraY) * alpha; }
+    public float getInterpolatedPlayerX(float alpha) { return previousPlayerX + (player.getX() - previousPlayerX) * alpha; }
+    public float getInterpolatedPlayerY(float alpha) { return previousPlayerY + (player.getY() - previousPlayerY) * alpha; }
     public float getMapWidth() { return GameObjectFactory.getMapWidth(); }
     public float getMapHeight() { return GameObjectFactory.getMapHeight(); }
     public float getScreenWidth() { return GameConfig.SCREEN_WIDTH; }
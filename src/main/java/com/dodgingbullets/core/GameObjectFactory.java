@@ -11,54 +11,75 @@ import com.dodgingbullets.gameobjects.effects.PetrolBomb;
 import com.dodgingbullets.core.Direction;
 
 import java.util.ArrayList;
-import java.util.List;
 
 public class GameObjectFactory {
     
-    private static MapLoader.MapData mapData;
+    private static final LevelCache levelCache = new LevelCache(GameConfig.LEVEL_CACHE_SIZE);
+    private static LevelPrefetcher prefetcher; // Started on first use; headless runs never need it
+    private static String levelPath; // null for levels passed in as MapData
+    private static ChunkedWorld world;
+    private static boolean worldInUse; // Handed to a play session, whose entities have since changed
     
+    // Binary (.lvl) or JSON, by extension. Only the first load of a level reads the file; after
+    // that it is built from the template in levelCache
     public static void loadLevel(String levelPath) {
-        mapData = MapLoader.loadMap(levelPath);
+        GameObjectFactory.levelPath = levelPath;
+        world = readWorld(levelPath);
+        worldInUse = false;
     }
     
-    public static List<GameObject> createTurrets() {
-        return new ArrayList<>(mapData.turrets);
+    // Reads the level into the cache on a background thread, so a later loadLevel of it is
+    // near instant. Safe to call every frame; cached or already queued levels are ignored
+    public static synchronized void prefetchLevel(String levelPath) {
+        if (prefetcher == null) {
+            prefetcher = new LevelPrefetcher(levelCache);
+        }
+        prefetcher.request(levelPath);
     }
     
-    public static List<GameObject> createFoliage() {
-        return new ArrayList<>(mapData.foliage);
+    // For levels built in code rather than read from a file (benchmarks, tests)
+    public static void loadLevel(MapLoader.MapData levelData) {
+        levelPath = null;
+        world = ChunkedWorld.of(levelData);
+        worldInUse = false;
     }
     
-    public static List<GameObject> createAmmoPowerUps() {
-        return new ArrayList<>(mapData.ammoPowerUps);
+    // Called as a play session starts (GameLoop.initialize): if the current level was already
+    // played, its world is built again from the template so the session starts clean
+    public static void beginSession() {
+        if (worldInUse && levelPath != null) {
+            world = readWorld(levelPath);
+        }
+        worldInUse = true;
     }
     
-    public static List<GameObject> createBears() {
-        return new ArrayList<>(mapData.bears);
+    // The current level's placements, which GameLoop's WorldStreamer turns into objects chunk by chunk
+    public static ChunkedWorld getWorld() {
+        return world;
     }
     
-    public static List<GameObject> createThrowers() {
-        return new ArrayList<>(mapData.throwers);
-    }
-    
-    public static List<GameObject> createMortars() {
-        return new ArrayList<>(mapData.mortars);
-    }
-    
-    public static Player createPlayer() {
-        return mapData.player;
-    }
-    
-    public static String[][] getMapGrid() {
-        return mapData.mapGrid;
+    public static TileGrid getMapGrid() {
+        return world.getMapGrid();
     }
     
     public static float getMapWidth() {
-        return mapData.mapWidth;
+        return world.getMapWidth();
     }
     
     public static float getMapHeight() {
-        return mapData.mapHeight;
+        return world.getMapHeight();
+    }
+    
+    // Failures are logged and give the built-in default map
+    private static ChunkedWorld readWorld(String levelPath) {
+        try {
+            ChunkedWorld.Builder builder = new ChunkedWorld.Builder();
+            levelCache.read(levelPath, builder);
+            return builder.build();
+        } catch (Exception e) {
+            System.err.println("Failed to load map: " + levelPath + " - " + e.getMessage());
+            return ChunkedWorld.of(MapLoader.createDefaultMap());
+        }
     }
     
     // Individual creation methods for editor
@@ -92,7 +113,7 @@ public class GameObjectFactory {
     
     public static GameObject createThrower(float x, float y, int health, float speed) {
         // For editor, create with minimal parameters
-        Thrower thrower = new Thrower(x, y, Direction.RIGHT, new ArrayList<>(), new ArrayList<>(), health, speed);
+        Thrower thrower = new Thrower(x, y, Direction.RIGHT, null, new ArrayList<>(), health, speed);
         // TODO: Add setHealth and setSpeed methods to Thrower
         return thrower;
     }
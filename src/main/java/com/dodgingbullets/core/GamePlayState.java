@@ -36,6 +36,7 @@ public class GamePlayState implements GameState {
     @Override
     public void render(Renderer renderer) {
         gameRenderer.render(renderer, gameLoop);
+        renderer.present();
     }
     
     @Override
@@ -27,11 +27,30 @@ public class GameRenderer {
     private Texture ammoEmptyTexture;
     private Texture grenadeTexture;
     private Map<String, Texture> explosionTextures;
-    private Map<String, Texture> bearTextures = new HashMap<>();
-    private Map<String, Texture> throwerTextures = new HashMap<>();
-    private Map<String, Texture> mortarTextures = new HashMap<>();
+    private Animation bearAnimation = AnimationRegistry.bear(new HashMap<>());
+    private Animation throwerAnimation = AnimationRegistry.thrower(new HashMap<>());
+    private Animation mortarAnimation = AnimationRegistry.mortar(new HashMap<>());
+    
+    // View culling. Foliage and ammo crates never move, so they are indexed by sprite bounds when
+    // world chunks load or unload and found with a grid query; the few moving objects get a plain bounds test
+    private static final int LAYER_STATIC_SPRITE = 1;
+    private static final float TURRET_HALF_SIZE = 64;
+    private static final float CHARACTER_HALF_SIZE = 46; // 64x64 sprite, allowing for the dying rotation
+    private final SpatialHashGrid staticSprites = new SpatialHashGrid(GameConfig.COLLISION_CELL_SIZE, GameConfig.COLLISION_GRID_BUCKETS);
+    private List<GameObject> indexedFoliages;
+    private List<GameObject> indexedAmmoPowerUps;
+    private int indexedWorldVersion;
+    private final List<GameObject> visibleStatics = new ArrayList<>();
+    private final DepthSort drawOrder = new DepthSort();
+    
+    private static final int TILE_SIZE = 128; // Fixed 128x128 tile size
+    private final TileChunkCache tileChunks = new TileChunkCache(TILE_SIZE);
+    private Texture[] tilePalette = new Texture[0]; // Tile texture per palette ID of resolvedGrid
+    private TileGrid resolvedGrid;
+    private Map<String, Texture> resolvedTileTextures;
     private Texture petrolBombTexture;
     private Texture bombTexture;
+    private float interpolationAlpha = 1.0f;
     
     public void setTextures(Map<Direction, Texture> turretTextures, Map<String, Texture> tileTextures, 
                            Texture shadowTexture, Texture bulletTexture, Texture shellTexture,
@@ -52,19 +71,31 @@ public class GameRenderer {
         this.ammoEmptyTexture = ammoEmptyTexture;
         this.grenadeTexture = grenadeTexture;
         this.explosionTextures = explosionTextures;
-        this.bearTextures = bearTextures;
-        this.throwerTextures = throwerTextures;
-        this.mortarTextures = mortarTextures;
+        this.bearAnimation = AnimationRegistry.bear(bearTextures);
+        this.throwerAnimation = AnimationRegistry.thrower(throwerTextures);
+        this.mortarAnimation = AnimationRegistry.mortar(mortarTextures);
         this.petrolBombTexture = petrolBombTexture;
         this.bombTexture = bombTexture;
     }
     
+    // Fraction of a tick since the last update; 1 draws the latest simulated positions
+    public void setInterpolationAlpha(float interpolationAlpha) {
+        this.interpolationAlpha = interpolationAlpha;
+    }
+    
     public void render(Renderer renderer, GameLoop gameLoop) {
+        FrameProfiler profiler = gameLoop.getProfiler();
+        profiler.begin(FrameProfiler.Scope.RENDER);
         renderer.clear();
         
         Player player = gameLoop.getPlayer();
-        float cameraX = gameLoop.getCameraX();
-        float cameraY = gameLoop.getCameraY();
+        float alpha = interpolationAlpha;
+        float cameraX = gameLoop.getInterpolatedCameraX(alpha);
+        float cameraY = gameLoop.getInterpolatedCameraY(alpha);
+        
+        // The player is drawn through its own offset camera so it lands on its interpolated position
+        float playerCameraX = cameraX - (gameLoop.getInterpolatedPlayerX(alpha) - player.getX());
+        float playerCameraY = cameraY - (gameLoop.getInterpolatedPlayerY(alpha) - player.getY());
         
         // Render tiled grass background
         renderTiledBackground(renderer, cameraX, cameraY, gameLoop.getMapWidth(), gameLoop.getMapHeight());
@@ -72,19 +103,21 @@ public class GameRenderer {
         // Render player shadow
         float shadowSize = 40 - (player.getJumpOffset() * 0.3f);
         renderer.render(shadowTexture, 
-            player.getX() - shadowSize/2 - cameraX, player.getY() - shadowSize/2 - 20 - cameraY, shadowSize, shadowSize);
+            player.getX() - shadowSize/2 - playerCameraX, player.getY() - shadowSize/2 - 20 - playerCameraY, shadowSize, shadowSize);
         
         // Render all objects with depth sorting
-        renderGameObjects(renderer, gameLoop, cameraX, cameraY);
+        renderGameObjects(renderer, gameLoop, cameraX, cameraY, playerCameraX, playerCameraY);
         
         // Render bullets as rounded circles with white outline and colored center
-        for (Bullet bullet : gameLoop.getBullets()) {
-            float bulletX = bullet.getX() - cameraX;
-            float bulletY = bullet.getY() - cameraY;
+        BulletBuffer bullets = gameLoop.getBullets();
+        for (int i = 0; i < bullets.size(); i++) {
+            // Step back along the velocity to where the bullet was part way through this tick
+            float bulletX = bullets.getX(i) - bullets.getVelocityX(i) * (1 - alpha) - cameraX;
+            float bulletY = bullets.getY(i) - bullets.getVelocityY(i) * (1 - alpha) - cameraY;
             // White outline (larger circle)
             renderer.renderCircle(bulletX, bulletY, 4, 1.0f, 1.0f, 1.0f, 1.0f);
             // Colored center (smaller circle)
-            if (bullet.isSpecialBullet()) {
+            if (bullets.isSpecialBullet(i)) {
                 renderer.renderCircle(bulletX, bulletY, 2, 1.0f, 0.0f, 0.0f, 1.0f); // Red for special
             } else {
                 renderer.renderCircle(bulletX, bulletY, 2, 0.0f, 0.0f, 0.0f, 1.0f); // Black for normal
@@ -93,13 +126,13 @@ public class GameRenderer {
         
         // Render shell casings
         for (ShellCasing shell : gameLoop.getShells()) {
-            renderer.renderRotatedWithAlpha(shellTexture, shell.getX() - 3 - cameraX, shell.getY() - 1.5f - cameraY, 6, 3, shell.getRotation(), shell.getAlpha());
+            renderer.renderRotatedWithAlpha(shellTexture, shell.getInterpolatedX(alpha) - 3 - cameraX, shell.getInterpolatedY(alpha) - 1.5f - cameraY, 6, 3, shell.getRotation(), shell.getAlpha());
         }
         
         // Render grenades
         for (Grenade grenade : gameLoop.getGrenades()) {
-            float grenadeX = grenade.getX() - cameraX;
-            float grenadeY = grenade.getY() - cameraY;
+            float grenadeX = grenade.getInterpolatedX(alpha) - cameraX;
+            float grenadeY = grenade.getInterpolatedY(alpha) - cameraY;
             float scale = grenade.getScale();
             float size = 24 * scale; // 1.5x bigger (16 * 1.5 = 24)
             renderer.renderRotatedWithAlpha(grenadeTexture, grenadeX - size/2, grenadeY - size/2, size, size, grenade.getRotation(), 1.0f);
@@ -108,15 +141,15 @@ public class GameRenderer {
         // Render petrol bombs
         for (PetrolBomb bomb : gameLoop.getPetrolBombs()) {
             // Render shadow on ground
-            float shadowX = bomb.getShadowPosition().x() - cameraX;
-            float shadowY = bomb.getShadowPosition().y() - cameraY;
+            float shadowX = bomb.getInterpolatedX(alpha) - cameraX; // Shadow stays on the ground directly below the bomb
+            float shadowY = bomb.getInterpolatedY(alpha) - cameraY;
             float bombShadowScale = bomb.getShadowScale();
             float bombShadowSize = 30 * bombShadowScale; // Increased from 20 to 30 for better visibility
             renderer.renderTextureWithColor(shadowTexture, shadowX - bombShadowSize/2, shadowY - bombShadowSize/2, bombShadowSize, bombShadowSize, 0.0f, 0.0f, 0.0f, 0.8f); // Increased alpha from 0.5f to 0.8f
             
             // Render bomb in air
-            float bombX = bomb.getX() - cameraX;
-            float bombY = bomb.getY() + bomb.getHeight() - cameraY; // Changed from minus to plus for upward trajectory
+            float bombX = shadowX;
+            float bombY = shadowY + bomb.getInterpolatedHeight(alpha); // Changed from minus to plus for upward trajectory
             float bombSize = 32; // Increased from 16 to 32 for better visibility
             renderer.renderRotatedWithAlpha(petrolBombTexture, bombX - bombSize/2, bombY - bombSize/2, bombSize, bombSize, bomb.getRotation(), 1.0f);
         }
@@ -124,14 +157,14 @@ public class GameRenderer {
         // Render mortar bombs
         for (Bomb bomb : gameLoop.getBombs()) {
             // Render shadow on ground
-            float shadowX = bomb.getShadowPosition().x() - cameraX;
-            float shadowY = bomb.getShadowPosition().y() - cameraY;
+            float shadowX = bomb.getInterpolatedX(alpha) - cameraX;
+            float shadowY = bomb.getInterpolatedY(alpha) - cameraY;
             float bombShadowSize = 20;
             renderer.renderTextureWithColor(shadowTexture, shadowX - bombShadowSize/2, shadowY - bombShadowSize/2, bombShadowSize, bombShadowSize, 0.0f, 0.0f, 0.0f, 0.6f);
             
             // Render bomb in air
-            float bombX = bomb.getPosition().x() - cameraX;
-            float bombY = bomb.getPosition().y() - cameraY + bomb.getHeight();
+            float bombX = shadowX;
+            float bombY = shadowY + bomb.getInterpolatedHeight(alpha);
             float bombSize = 24;
             renderer.render(bombTexture, bombX - bombSize/2, bombY - bombSize/2, bombSize, bombSize);
         }
@@ -147,8 +180,8 @@ public class GameRenderer {
         }
         
         // Render UI
-        renderHealthBar(renderer, player, cameraX, cameraY);
-        renderAmmoBar(renderer, player, cameraX, cameraY);
+        renderHealthBar(renderer, player, playerCameraX, playerCameraY);
+        renderAmmoBar(renderer, player, playerCameraX, playerCameraY, gameLoop.getClock().millis());
         
         // Render vignette overlay
         float flashIntensity = player.getDamageFlashIntensity();
@@ -156,34 +189,46 @@ public class GameRenderer {
         float green = 1.0f - flashIntensity * 0.3f;
         float blue = 1.0f - flashIntensity * 0.3f;
         renderer.renderTextureWithColor(vignetteTexture, 0, 0, gameLoop.getScreenWidth(), gameLoop.getScreenHeight(), red, green, blue, 0.33f);
+        
+        // Profiler overlay goes on top of everything, and its own drawing counts towards RENDER
+        profiler.renderOverlay(renderer);
+        profiler.end(FrameProfiler.Scope.RENDER);
     }
     
-    private void renderGameObjects(Renderer renderer, GameLoop gameLoop, float cameraX, float cameraY) {
+    // Package-private for the benchmarks in src/bench
+    void renderGameObjects(Renderer renderer, GameLoop gameLoop, float cameraX, float cameraY,
+                           float playerCameraX, float playerCameraY) {
         Player player = gameLoop.getPlayer();
-        
-        // Create list of all objects for depth sorting (including player)
-        List<Object> allObjects = new ArrayList<>();
-        allObjects.add(player);
-        allObjects.addAll(gameLoop.getGameObjects());
-        allObjects.addAll(gameLoop.getFoliages());
-        allObjects.addAll(gameLoop.getAmmoPowerUps());
-        
-        // Sort all objects by Y position for depth (lower Y renders first/behind, higher Y renders last/on top)
-        allObjects.sort((a, b) -> {
-            float aY = (a instanceof Player) ? ((Player) a).getY() :
-                      (a instanceof Renderable) ? ((Renderable) a).getRenderY() : ((GameObject) a).getY();
-            float bY = (b instanceof Player) ? ((Player) b).getY() :
-                      (b instanceof Renderable) ? ((Renderable) b).getRenderY() : ((GameObject) b).getY();
-            return Float.compare(bY, aY); // Lower Y renders first (behind), higher Y renders last (on top)
-        });
+        float viewMaxX = cameraX + GameConfig.SCREEN_WIDTH;
+        float viewMaxY = cameraY + GameConfig.SCREEN_HEIGHT;
+        
+        // Only objects whose sprite overlaps the view are sorted and drawn (the player always is).
+        // Sort keys are the Y positions: lower Y renders first (behind), higher Y renders last (on top)
+        DepthSort allObjects = drawOrder;
+        allObjects.clear();
+        allObjects.add(player, player.getY());
+        for (GameObject gameObj : gameLoop.getGameObjects()) {
+            float half = gameObj instanceof GunTurret ? TURRET_HALF_SIZE : CHARACTER_HALF_SIZE;
+            if (gameObj.getX() + half >= cameraX && gameObj.getX() - half <= viewMaxX &&
+                gameObj.getY() + half >= cameraY && gameObj.getY() - half <= viewMaxY) {
+                allObjects.add(gameObj, depthKey(gameObj));
+            }
+        }
+        indexStaticSprites(gameLoop.getFoliages(), gameLoop.getAmmoPowerUps(), gameLoop.getWorldStreamer().getVersion());
+        staticSprites.query(cameraX, cameraY, viewMaxX, viewMaxY, LAYER_STATIC_SPRITE, visibleStatics);
+        for (GameObject staticSprite : visibleStatics) {
+            allObjects.add(staticSprite, depthKey(staticSprite));
+        }
+        allObjects.sort();
         
         // Render all objects in depth order
-        for (Object obj : allObjects) {
+        for (int i = 0; i < allObjects.size(); i++) {
+            Object obj = allObjects.get(i);
             if (obj instanceof Player) {
                 Player p = (Player) obj;
                 Texture currentTexture = p.getCurrentTexture();
                 renderer.render(currentTexture, 
-                    p.getX() - 32 - cameraX, p.getY() - 32 + p.getJumpOffset() - cameraY, 64, 64);
+                    p.getX() - 32 - playerCameraX, p.getY() - 32 + p.getJumpOffset() - playerCameraY, 64, 64);
             } else if (obj instanceof GameObject) {
                 GameObject gameObj = (GameObject) obj;
                 if (gameObj instanceof Bear) {
@@ -242,7 +287,7 @@ public class GameRenderer {
         }
     }
     
-    private void renderAmmoBar(Renderer renderer, Player player, float cameraX, float cameraY) {
+    private void renderAmmoBar(Renderer renderer, Player player, float cameraX, float cameraY, long time) {
         float ammoBarWidth = 40;
         float ammoBarHeight = 6;
         float ammoBarX = player.getX() - ammoBarWidth/2 - cameraX;
@@ -258,7 +303,6 @@ public class GameRenderer {
         if (fillWidth > 0) {
             if (hasSpecial) {
                 // Flashing red/blue for special bullets
-                long time = System.currentTimeMillis();
                 float flash = (float) Math.sin(time * 0.01) * 0.5f + 0.5f; // 0-1 oscillation
                 float red = 1.0f * flash;
                 float blue = 1.0f * (1.0f - flash);
@@ -271,20 +315,25 @@ public class GameRenderer {
     }
     
     private void renderTiledBackground(Renderer renderer, float cameraX, float cameraY, float mapWidth, float mapHeight) {
-        String[][] mapGrid = GameObjectFactory.getMapGrid();
-        int tileSize = 128; // Fixed 128x128 tile size
+        TileGrid mapGrid = GameObjectFactory.getMapGrid();
+        Texture[] palette = resolveTilePalette(mapGrid);
+        if (tileChunks.render(renderer, mapGrid, palette, cameraX, cameraY)) {
+            return;
+        }
+        
+        // No render targets, or chunks still baking: one quad per visible tile
+        int tileSize = TILE_SIZE;
         
         // Calculate visible tile range based on camera position
         int startTileX = Math.max(0, (int)(cameraX / tileSize));
         int startTileY = Math.max(0, (int)(cameraY / tileSize));
-        int endTileX = Math.min(mapGrid[0].length - 1, (int)Math.ceil((cameraX + GameConfig.SCREEN_WIDTH) / tileSize));
-        int endTileY = Math.min(mapGrid.length - 1, (int)Math.ceil((cameraY + GameConfig.SCREEN_HEIGHT) / tileSize));
+        int endTileX = Math.min(mapGrid.getWidth() - 1, (int)Math.ceil((cameraX + GameConfig.SCREEN_WIDTH) / tileSize));
+        int endTileY = Math.min(mapGrid.getHeight() - 1, (int)Math.ceil((cameraY + GameConfig.SCREEN_HEIGHT) / tileSize));
         
         // Render tiles from the grid
         for (int tileX = startTileX; tileX <= endTileX; tileX++) {
             for (int tileY = startTileY; tileY <= endTileY; tileY++) {
-                String tileTextureName = mapGrid[tileY][tileX];
-                Texture tileTexture = tileTextures.get(tileTextureName);
+                Texture tileTexture = palette[mapGrid.getTileId(tileX, tileY)];
                 
                 if (tileTexture != null) {
                     float x = tileX * tileSize - cameraX;
@@ -295,26 +344,38 @@ public class GameRenderer {
         }
     }
     
+    // Looks the palette up in tileTextures only when the grid, its palette or the textures change
+    private Texture[] resolveTilePalette(TileGrid mapGrid) {
+        if (mapGrid != resolvedGrid || tileTextures != resolvedTileTextures || mapGrid.getPaletteSize() != tilePalette.length) {
+            tilePalette = mapGrid.resolve(tileTextures);
+            resolvedGrid = mapGrid;
+            resolvedTileTextures = tileTextures;
+        }
+        return tilePalette;
+    }
+    
     private void renderBear(Renderer renderer, Bear bear, float cameraX, float cameraY) {
         if (!bear.isActive()) return;
         
         // Get the appropriate texture based on bear state and direction
-        String textureKey = getBearTextureKey(bear);
-        Texture bearTexture = bearTextures.get(textureKey);
+        Texture bearTexture = bearAnimation.getFrame(bear.getState().ordinal(), bear.getFacingDirection().ordinal(), bear.getCurrentFrame());
         
         if (bearTexture != null) {
+            // Top-left of the sprite, part way between the last two ticks
+            float x = bear.getInterpolatedX(interpolationAlpha) - 32 - cameraX;
+            float y = bear.getInterpolatedY(interpolationAlpha) - 32 - cameraY;
             float alpha = bear.getFadeAlpha();
             float rotation = bear.getRotationAngle();
             
             if (bear.getState() == Bear.BearState.DYING) {
                 // Render with fade effect and rotation
-                renderer.renderRotatedWithAlpha(bearTexture, bear.getX() - 32 - cameraX, bear.getY() - 32 - cameraY, 64, 64, rotation, alpha);
+                renderer.renderRotatedWithAlpha(bearTexture, x, y, 64, 64, rotation, alpha);
             } else if (bear.shouldFlash()) {
                 // Flash red for damage
-                renderer.renderTextureWithColor(bearTexture, bear.getX() - 32 - cameraX, bear.getY() - 32 - cameraY, 64, 64, 1.0f, 0.0f, 0.0f, 1.0f);
+                renderer.renderTextureWithColor(bearTexture, x, y, 64, 64, 1.0f, 0.0f, 0.0f, 1.0f);
             } else {
                 // Normal rendering
-                renderer.render(bearTexture, bear.getX() - 32 - cameraX, bear.getY() - 32 - cameraY, 64, 64);
+                renderer.render(bearTexture, x, y, 64, 64);
             }
         }
     }
@@ -323,128 +384,76 @@ public class GameRenderer {
         if (!thrower.isActive()) return;
         
         // Get the appropriate texture based on thrower state and direction
-        String textureKey = getThrowerTextureKey(thrower);
-        Texture throwerTexture = throwerTextures.get(textureKey);
+        Texture throwerTexture = throwerAnimation.getFrame(thrower.getState().ordinal(), thrower.getFacingDirection().ordinal(), thrower.getCurrentFrame());
         
         // Debug logging
         if (throwerTexture == null) {
-            System.err.println("Missing thrower texture: " + textureKey + 
+            System.err.println("Missing thrower texture" + 
                 " (State: " + thrower.getState() + ", Frame: " + thrower.getCurrentFrame() + 
                 ", Direction: " + thrower.getFacingDirection() + ")");
             return;
         }
         
         if (throwerTexture != null) {
+            float x = thrower.getInterpolatedX(interpolationAlpha) - 32 - cameraX;
+            float y = thrower.getInterpolatedY(interpolationAlpha) - 32 - cameraY;
             float alpha = thrower.getAlpha();
             float rotation = thrower.getRotation();
             
             if (thrower.getState() == Thrower.ThrowerState.DYING) {
                 // Render with fade effect and rotation
-                renderer.renderRotatedWithAlpha(throwerTexture, thrower.getX() - 32 - cameraX, thrower.getY() - 32 - cameraY, 64, 64, rotation, alpha);
+                renderer.renderRotatedWithAlpha(throwerTexture, x, y, 64, 64, rotation, alpha);
             } else if (thrower.shouldFlash()) {
                 // Flash red for damage
-                renderer.renderTextureWithColor(throwerTexture, thrower.getX() - 32 - cameraX, thrower.getY() - 32 - cameraY, 64, 64, 1.0f, 0.0f, 0.0f, 1.0f);
+                renderer.renderTextureWithColor(throwerTexture, x, y, 64, 64, 1.0f, 0.0f, 0.0f, 1.0f);
             } else {
                 // Normal rendering
-                renderer.render(throwerTexture, thrower.getX() - 32 - cameraX, thrower.getY() - 32 - cameraY, 64, 64);
+                renderer.render(throwerTexture, x, y, 64, 64);
             }
         }
     }
     
-    private String getThrowerTextureKey(Thrower thrower) {
-        Thrower.ThrowerState state = thrower.getState();
-        Direction direction = thrower.getFacingDirection();
-        int frame = thrower.getCurrentFrame();
-        
-        String directionStr = getDirectionString(direction);
-        
-        switch (state) {
-            case IDLE:
-                return "thrower_rotation_" + directionStr;
-            case CHASE:
-            case BACKING_OFF:
-                return "thrower_walking_" + directionStr + "_" + String.format("%03d", frame);
-            case THROWING:
-                return "thrower_throw_" + directionStr + "_" + String.format("%03d", frame);
-            case HIT:
-            case DYING:
-                return "thrower_rotation_" + directionStr;
-            default:
-                return "thrower_rotation_east";
-        }
-    }
-    
     private void renderMortar(Renderer renderer, Mortar mortar, float cameraX, float cameraY) {
-        String textureKey = getMortarTextureKey(mortar);
-        Texture mortarTexture = mortarTextures.get(textureKey);
+        Texture mortarTexture = mortarAnimation.getFrame(mortar.getState().ordinal(), mortar.getLookDirection().ordinal(), mortar.getCurrentFrame());
         
         if (mortarTexture == null) {
-            System.err.println("Missing mortar texture: " + textureKey + " - using turret texture as fallback");
-            System.err.println("Available keys: " + mortarTextures.keySet());
+            System.err.println("Missing mortar texture (State: " + mortar.getState() + ", Frame: " + mortar.getCurrentFrame() + 
+                ", Direction: " + mortar.getLookDirection() + ") - using turret texture as fallback");
             // Use turret texture as fallback
             mortarTexture = turretTextures.get(mortar.getLookDirection());
         }
         
         if (mortarTexture != null) {
+            float x = mortar.getInterpolatedX(interpolationAlpha) - 32 - cameraX;
+            float y = mortar.getInterpolatedY(interpolationAlpha) - 32 - cameraY;
             if (mortar.shouldFlash()) {
-                renderer.renderTextureWithColor(mortarTexture, mortar.getX() - 32 - cameraX, mortar.getY() - 32 - cameraY, 64, 64, 1.0f, 0.0f, 0.0f, 1.0f);
+                renderer.renderTextureWithColor(mortarTexture, x, y, 64, 64, 1.0f, 0.0f, 0.0f, 1.0f);
             } else {
-                renderer.render(mortarTexture, mortar.getX() - 32 - cameraX, mortar.getY() - 32 - cameraY, 64, 64);
+                renderer.render(mortarTexture, x, y, 64, 64);
             }
         }
     }
     
-    private String getMortarTextureKey(Mortar mortar) {
-        Mortar.MortarState state = mortar.getState();
-        Direction direction = mortar.getLookDirection();
-        String directionStr = getDirectionString(direction);
-        
-        switch (state) {
-            case PATROL:
-                return "mortar_rotation_" + directionStr;
-            case ENGAGED:
-                return "mortar_sitting_" + directionStr + "_009";
-            case FIRING:
-                int frame = mortar.getCurrentFrame();
-                return "mortar_sitting_" + directionStr + "_" + String.format("%03d", frame + 1);
-            default:
-                return "mortar_rotation_" + directionStr;
-        }
+    private static float depthKey(GameObject gameObj) {
+        return (gameObj instanceof Renderable) ? ((Renderable) gameObj).getRenderY() : gameObj.getY();
     }
     
-    private String getBearTextureKey(Bear bear) {
-        Bear.BearState state = bear.getState();
-        Direction direction = bear.getFacingDirection();
-        int frame = bear.getCurrentFrame();
-        
-        String directionStr = getDirectionString(direction);
-        
-        switch (state) {
-            case IDLE:
-                return "bear_idle_" + directionStr + "_" + String.format("%03d", frame);
-            case WAKING_UP:
-                return "bear_wakingUp_" + directionStr + "_" + String.format("%03d", frame);
-            case RUNNING:
-                return "bear_running_" + directionStr + "_" + String.format("%03d", frame);
-            case HIT:
-            case DYING:
-                return "bear_hit_" + directionStr + "_" + String.format("%03d", frame);
-            default:
-                return "bear_idle_east_000";
+    // Rebuilds the static sprite index when a new level has replaced the lists, or chunks have changed them
+    private void indexStaticSprites(List<GameObject> foliages, List<GameObject> ammoPowerUps, int worldVersion) {
+        if (foliages == indexedFoliages && ammoPowerUps == indexedAmmoPowerUps && worldVersion == indexedWorldVersion) return;
+        
+        staticSprites.clear();
+        for (GameObject foliage : foliages) {
+            float halfWidth = ((Foliage) foliage).getSpriteWidth() / 2;
+            float halfHeight = ((Foliage) foliage).getSpriteHeight() / 2;
+            staticSprites.insert(foliage, LAYER_STATIC_SPRITE, foliage.getX() - halfWidth, foliage.getY() - halfHeight,
+                                 foliage.getX() + halfWidth, foliage.getY() + halfHeight);
         }
-    }
-    
-    private String getDirectionString(Direction direction) {
-        switch (direction) {
-            case UP: return "north";
-            case DOWN: return "south";
-            case LEFT: return "west";
-            case RIGHT: return "east";
-            case UP_LEFT: return "northwest";
-            case UP_RIGHT: return "northeast";
-            case DOWN_LEFT: return "southwest";
-            case DOWN_RIGHT: return "southeast";
-            default: return "east";
+        for (GameObject ammo : ammoPowerUps) {
+            staticSprites.insert(ammo, LAYER_STATIC_SPRITE, ammo.getX() - 32, ammo.getY() - 32, ammo.getX() + 32, ammo.getY() + 32);
         }
+        indexedFoliages = foliages;
+        indexedAmmoPowerUps = ammoPowerUps;
+        indexedWorldVersion = worldVersion;
     }
 }
@@ -4,7 +4,7 @@ import com.dodgingbullets.gameobjects.GameObject;
 import com.dodgingbullets.gameobjects.Collidable;
 import com.dodgingbullets.gameobjects.Renderable;
 
-import java.util.List;
+import java.util.Random;
 
 public class Grenade extends GameObject implements Renderable, Collidable {
     private Vec2 velocity;
@@ -21,12 +21,32 @@ public class Grenade extends GameObject implements Renderable, Collidable {
     private Vec2 bounceDirection;
     private float bounceProgress = 0;
     private Vec2 landPosition;
-    private List<GameObject> collidableObjects;
+    private CollisionWorld collisionWorld;
+    private SimClock clock;
     
-    public Grenade(float startX, float startY, float targetX, float targetY, List<GameObject> collidables) {
+    public Grenade(float startX, float startY, float targetX, float targetY, CollisionWorld collisionWorld, SimClock clock) {
         super(startX, startY);
+        reset(startX, startY, targetX, targetY, collisionWorld, clock, new Random());
+    }
+    
+    // Blank grenade for the pool; reset() sets it up
+    Grenade() {
+        super(0, 0);
+    }
+    
+    public Grenade reset(float startX, float startY, float targetX, float targetY, CollisionWorld collisionWorld, SimClock clock, Random random) {
+        this.position.set(startX, startY);
+        capturePreviousPosition(); // A pooled grenade must not slide in from where it last landed
+        this.active = true;
+        this.rotation = 0;
+        this.isFlying = true;
+        this.hasLanded = false;
+        this.landTime = 0;
+        this.bounceProgress = 0;
+        this.landPosition = null;
         this.startPosition = new Vec2(startX, startY);
-        this.collidableObjects = collidables;
+        this.collisionWorld = collisionWorld;
+        this.clock = clock;
         
         // Calculate target position with range limits
         Vec2 direction = new Vec2(targetX - startX, targetY - startY);
@@ -43,15 +63,16 @@ public class Grenade extends GameObject implements Renderable, Collidable {
         this.flightTime = 0;
         
         // Calculate velocity for arc
-        Vec2 displacement = targetPosition.subtract(position);
+        Vec2 displacement = targetPosition.subtract(startPosition);
         this.velocity = displacement.multiply(1.0f / totalFlightTime);
         
         // Set rotation speed based on horizontal direction (much slower)
         this.rotationSpeed = displacement.x() > 0 ? -0.5f : 0.5f; // Counter-clockwise if moving right
         
         // Calculate bounce
-        this.bounceDistance = 20 + (float)(Math.random() * 20); // 20-40 pixels (2x longer)
+        this.bounceDistance = 20 + random.nextFloat() * 20; // 20-40 pixels (2x longer)
         this.bounceDirection = displacement.multiply(1.0f / displacement.distance(new Vec2(0, 0)));
+        return this;
     }
     
     @Override
@@ -61,24 +82,25 @@ public class Grenade extends GameObject implements Renderable, Collidable {
             
             if (flightTime >= totalFlightTime) {
                 // Land
-                position = targetPosition;
-                landPosition = position;
+                position.set(targetPosition);
+                landPosition = targetPosition;
                 isFlying = false;
                 hasLanded = true;
-                landTime = System.currentTimeMillis();
+                landTime = clock.millis();
                 bounceProgress = 0;
             } else {
                 // Update position along arc with parabolic trajectory
                 float progress = flightTime / totalFlightTime;
                 
                 // Linear interpolation to target
-                Vec2 linearPos = startPosition.add(targetPosition.subtract(startPosition).multiply(progress));
+                float linearX = startPosition.x() + (targetPosition.x() - startPosition.x()) * progress;
+                float linearY = startPosition.y() + (targetPosition.y() - startPosition.y()) * progress;
                 
                 // Add parabolic arc (goes up then down)
                 float arcHeight = 50.0f; // Increased arc height
                 float yOffset = 4 * arcHeight * progress * (1 - progress); // Parabolic curve
                 
-                position = new Vec2(linearPos.x(), linearPos.y() + yOffset);
+                position.set(linearX, linearY + yOffset);
                 
                 // Update rotation
                 rotation += rotationSpeed * deltaTime * 60; // 60 for frame rate normalization
@@ -88,36 +110,32 @@ public class Grenade extends GameObject implements Renderable, Collidable {
             bounceProgress += deltaTime * 2.0f; // 0.5 second bounce
             if (bounceProgress > 1.0f) bounceProgress = 1.0f;
             
-            Vec2 bounceOffset = bounceDirection.multiply(bounceDistance * bounceProgress);
-            Vec2 newPos = landPosition.add(bounceOffset);
+            float bounceOffset = bounceDistance * bounceProgress;
+            float newX = landPosition.x() + bounceDirection.x() * bounceOffset;
+            float newY = landPosition.y() + bounceDirection.y() * bounceOffset;
             
             // Check collision during bounce
-            if (wouldCollideWithObjects(newPos)) {
+            if (wouldCollideWithObjects(newX, newY)) {
                 bounceProgress = 1.0f; // Stop bouncing
             } else {
-                position = newPos;
+                position.set(newX, newY);
             }
         }
         
         // Check for explosion
-        if (hasLanded && System.currentTimeMillis() - landTime >= GameConfig.GRENADE_FUSE_TIME) {
+        if (hasLanded && clock.millis() - landTime >= GameConfig.GRENADE_FUSE_TIME) {
             active = false; // Will be handled by GameLoop
         }
     }
     
-    private boolean wouldCollideWithObjects(Vec2 newPos) {
-        if (collidableObjects == null) return false;
+    private boolean wouldCollideWithObjects(float newX, float newY) {
+        if (collisionWorld == null) return false;
         
         float grenadeSize = 16;
-        float grenadeLeft = newPos.x() - grenadeSize/2;
-        float grenadeBottom = newPos.y() - grenadeSize/2;
+        float grenadeLeft = newX - grenadeSize/2;
+        float grenadeBottom = newY - grenadeSize/2;
         
-        for (GameObject obj : collidableObjects) {
-            if (obj instanceof Collidable && ((Collidable) obj).checkMovementCollision(grenadeLeft, grenadeBottom, grenadeSize, grenadeSize)) {
-                return true;
-            }
-        }
-        return false;
+        return collisionWorld.checkMovementCollision(grenadeLeft, grenadeBottom, grenadeSize, grenadeSize, null);
     }
     
     @Override
@@ -140,6 +158,15 @@ public class Grenade extends GameObject implements Renderable, Collidable {
         return false; // Grenades don't block movement
     }
     
+    @Override
+    public void getCollisionBounds(float[] bounds) {
+        // Empty bounds - grenades never collide
+        bounds[0] = 0;
+        bounds[1] = 0;
+        bounds[2] = -1;
+        bounds[3] = -1;
+    }
+    
     public float getScale() {
         if (isFlying) {
             // Scale up and down during flight for 3D effect
@@ -158,6 +185,6 @@ public class Grenade extends GameObject implements Renderable, Collidable {
     }
     
     public boolean shouldExplode() {
-        return hasLanded && System.currentTimeMillis() - landTime >= GameConfig.GRENADE_FUSE_TIME;
+        return hasLanded && clock.millis() - landTime >= GameConfig.GRENADE_FUSE_TIME;
     }
 }
@@ -0,0 +1,16 @@
+package com.dodgingbullets.core;
+
+import java.nio.ByteBuffer;
+
+// A decoded image waiting to become a texture: tightly packed RGBA rows, top row first
+public class ImageData {
+    public final int width;
+    public final int height;
+    public final ByteBuffer pixels;
+
+    public ImageData(int width, int height, ByteBuffer pixels) {
+        this.width = width;
+        this.height = height;
+        this.pixels = pixels;
+    }
+}
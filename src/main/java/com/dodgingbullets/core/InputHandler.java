@@ -3,6 +3,7 @@ package com.dodgingbullets.core;
 public class InputHandler {
     private float cameraX;
     private float cameraY;
+    private InputState input; // Refilled every tick
     
     public void updateCamera(float cameraX, float cameraY) {
         this.cameraX = cameraX;
@@ -25,7 +26,12 @@ public class InputHandler {
             worldMouseY = scaledMouseY + cameraY;
         }
         
-        return new InputState(keys, jumpPressed, jumpHeld, mousePressed, mouseHeld, grenadePressed, spacePressed, spaceHeld, false,
-                             mouseX, mouseY, worldMouseX, worldMouseY);
+        if (input == null) {
+            input = new InputState(keys, jumpPressed, jumpHeld, mousePressed, mouseHeld, grenadePressed, spacePressed, spaceHeld, false,
+                                   mouseX, mouseY, worldMouseX, worldMouseY);
+            return input;
+        }
+        return input.set(keys, jumpPressed, jumpHeld, mousePressed, mouseHeld, grenadePressed, spacePressed, spaceHeld, false,
+                         mouseX, mouseY, worldMouseX, worldMouseY);
     }
 }
@@ -1,45 +1,48 @@
 package com.dodgingbullets.core;
 
+// One tick's input. Holders that read input every tick (Game, InputHandler) keep a single
+// instance and refill it with set(), so reading input doesn't allocate
 public class InputState {
-    public final boolean[] keys;
-    public final boolean jumpPressed;
-    public final boolean jumpHeld;
-    public final boolean mousePressed;
-    public final boolean mouseHeld;
-    public final boolean grenadePressed;
-    public final boolean spacePressed;
-    public final boolean spaceHeld;
-    public final boolean running;
-    public final boolean qPressed;
-    public final double mouseX;
-    public final double mouseY;
-    public final double worldMouseX;
-    public final double worldMouseY;
+    public boolean[] keys;
+    public boolean jumpPressed;
+    public boolean jumpHeld;
+    public boolean mousePressed;
+    public boolean mouseHeld;
+    public boolean grenadePressed;
+    public boolean spacePressed;
+    public boolean spaceHeld;
+    public boolean running;
+    public boolean qPressed;
+    public double mouseX;
+    public double mouseY;
+    public double worldMouseX;
+    public double worldMouseY;
     
     public InputState(boolean[] keys, boolean jumpPressed, boolean jumpHeld, 
                      boolean mousePressed, boolean mouseHeld, boolean grenadePressed,
                      double mouseX, double mouseY, double worldMouseX, double worldMouseY) {
-        this.keys = keys.clone();
-        this.jumpPressed = jumpPressed;
-        this.jumpHeld = jumpHeld;
-        this.mousePressed = mousePressed;
-        this.mouseHeld = mouseHeld;
-        this.grenadePressed = grenadePressed;
-        this.spacePressed = false;
-        this.spaceHeld = false;
-        this.running = keys.length > 4 ? keys[4] : false;
-        this.qPressed = false; // Will be set separately
-        this.mouseX = mouseX;
-        this.mouseY = mouseY;
-        this.worldMouseX = worldMouseX;
-        this.worldMouseY = worldMouseY;
+        set(keys, jumpPressed, jumpHeld, mousePressed, mouseHeld, grenadePressed, false, false, false, // qPressed is set separately
+            mouseX, mouseY, worldMouseX, worldMouseY);
     }
     
     public InputState(boolean[] keys, boolean jumpPressed, boolean jumpHeld, 
                      boolean mousePressed, boolean mouseHeld, boolean grenadePressed,
                      boolean spacePressed, boolean spaceHeld, boolean qPressed,
                      double mouseX, double mouseY, double worldMouseX, double worldMouseY) {
-        this.keys = keys.clone();
+        set(keys, jumpPressed, jumpHeld, mousePressed, mouseHeld, grenadePressed, spacePressed, spaceHeld, qPressed,
+            mouseX, mouseY, worldMouseX, worldMouseY);
+    }
+    
+    // Keys are copied, so the caller can keep updating its own array
+    public InputState set(boolean[] keys, boolean jumpPressed, boolean jumpHeld, 
+                          boolean mousePressed, boolean mouseHeld, boolean grenadePressed,
+                          boolean spacePressed, boolean spaceHeld, boolean qPressed,
+                          double mouseX, double mouseY, double worldMouseX, double worldMouseY) {
+        if (this.keys == null || this.keys.length != keys.length) {
+            this.keys = keys.clone();
+        } else {
+            System.arraycopy(keys, 0, this.keys, 0, keys.length);
+        }
         this.jumpPressed = jumpPressed;
         this.jumpHeld = jumpHeld;
         this.mousePressed = mousePressed;
@@ -53,5 +56,6 @@ public class InputState {
         this.mouseY = mouseY;
         this.worldMouseX = worldMouseX;
         this.worldMouseY = worldMouseY;
+        return this;
     }
 }
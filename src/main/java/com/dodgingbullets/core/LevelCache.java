@@ -0,0 +1,76 @@
+package com.dodgingbullets.core;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Levels already read, kept as immutable templates so replaying or switching back to a level
+// doesn't load or parse it again. A template is the level in the BinaryLevel encoding: compact,
+// never modified once made, and decoded afresh for every play session, so each one starts from
+// untouched entities. The least recently used level is dropped once more than capacity are held
+public class LevelCache {
+    private final Map<String, byte[]> templates;
+
+    public LevelCache(int capacity) {
+        // Access order, so iteration (and eviction) starts from the least recently used
+        templates = new LinkedHashMap<String, byte[]>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, byte[]> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    // Passes the level at levelPath (binary or JSON, by extension) to sink from its template,
+    // reading the file first if it isn't cached. Levels that fail to read are not cached
+    public void read(String levelPath, MapLoader.Sink sink) throws IOException {
+        BinaryLevel.read(ByteBuffer.wrap(template(levelPath)), sink);
+    }
+
+    // Reads the level into the cache ahead of time, e.g. from a background thread, so the next
+    // read of it doesn't touch the file. Returns false (and logs why) if it can't be read
+    public boolean preload(String levelPath) {
+        try {
+            template(levelPath);
+            return true;
+        } catch (Exception e) {
+            System.err.println("Failed to preload map: " + levelPath + " - " + e.getMessage());
+            return false;
+        }
+    }
+
+    public synchronized boolean contains(String levelPath) {
+        return templates.containsKey(levelPath);
+    }
+
+    public synchronized int size() {
+        return templates.size();
+    }
+
+    public synchronized void clear() {
+        templates.clear();
+    }
+
+    // Reading happens outside the lock, so a level being preloaded on another thread doesn't hold
+    // up instantiating one that is already cached
+    private byte[] template(String levelPath) throws IOException {
+        synchronized (this) {
+            byte[] template = templates.get(levelPath);
+            if (template != null) {
+                return template;
+            }
+        }
+        BinaryLevel.Writer writer = new BinaryLevel.Writer();
+        if (levelPath.endsWith(BinaryLevel.EXTENSION)) {
+            BinaryLevel.read(levelPath, writer);
+        } else {
+            MapLoader.read(levelPath, writer);
+        }
+        byte[] template = writer.toByteArray();
+        synchronized (this) {
+            templates.put(levelPath, template);
+        }
+        return template;
+    }
+}
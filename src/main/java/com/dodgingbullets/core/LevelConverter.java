@@ -0,0 +1,34 @@
+package com.dodgingbullets.core;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+// Converts JSON levels to the binary format (BinaryLevel), writing each next to its source:
+//   ./convert-level.sh src/main/resources/maps/level1.json ...
+public class LevelConverter {
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.err.println("Usage: LevelConverter <level.json> [more.json ...]");
+            System.exit(1);
+        }
+
+        for (String arg : args) {
+            Path source = Paths.get(arg);
+            String name = source.getFileName().toString();
+            String baseName = name.endsWith(".json") ? name.substring(0, name.length() - ".json".length()) : name;
+            Path target = source.resolveSibling(baseName + BinaryLevel.EXTENSION);
+
+            BinaryLevel.Writer writer = new BinaryLevel.Writer();
+            try (Reader reader = Files.newBufferedReader(source, StandardCharsets.UTF_8)) {
+                MapLoader.parse(reader, writer);
+            }
+            byte[] bytes = writer.toByteArray();
+            Files.write(target, bytes);
+            System.out.println(source + " (" + Files.size(source) + " bytes) -> " + target + " (" + bytes.length + " bytes)");
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.dodgingbullets.core;
+
+import java.util.concurrent.LinkedBlockingDeque;
+
+// Reads levels into a LevelCache on a background thread, so choosing one on the level select
+// screen starts play without reading the file on the spot. The newest request is read first;
+// only the newest MAX_QUEUED are kept, which stops prefetching from churning the cache's LRU
+// order when many levels are hovered over in turn
+public class LevelPrefetcher {
+    private static final int MAX_QUEUED = Math.max(1, GameConfig.LEVEL_CACHE_SIZE / 2);
+
+    private final LevelCache cache;
+    private final LinkedBlockingDeque<String> queue = new LinkedBlockingDeque<>();
+
+    public LevelPrefetcher(LevelCache cache) {
+        this.cache = cache;
+        Thread worker = new Thread(this::run, "level-prefetch");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    public void request(String levelPath) {
+        if (cache.contains(levelPath)) {
+            return;
+        }
+        synchronized (queue) {
+            if (levelPath.equals(queue.peekFirst())) {
+                return;
+            }
+            queue.remove(levelPath);
+            queue.offerFirst(levelPath);
+            while (queue.size() > MAX_QUEUED) {
+                queue.pollLast();
+            }
+        }
+    }
+
+    private void run() {
+        try {
+            while (true) {
+                String levelPath = queue.takeFirst();
+                if (!cache.contains(levelPath)) {
+                    cache.preload(levelPath);
+                }
+            }
+        } catch (InterruptedException e) {
+            // Daemon thread; only interrupted as the game exits
+        }
+    }
+}
@@ -42,6 +42,15 @@ public class LevelSelectScreen {
     }
     
     public void handleClick(double mouseX, double mouseY) {
+        int index = getLevelIndexAt(mouseX, mouseY);
+        if (index >= 0) {
+            chosenLevel = getLevelPath(index);
+            levelSelected = true;
+        }
+    }
+    
+    // Index of the level button under the point, or -1
+    public int getLevelIndexAt(double mouseX, double mouseY) {
         // Each level button is 200x40 pixels, centered horizontally
         float screenWidth = GameConfig.SCREEN_WIDTH;
         float screenHeight = GameConfig.SCREEN_HEIGHT;
@@ -54,11 +63,14 @@ public class LevelSelectScreen {
             float buttonY = startY - i * 60;
             if (mouseX >= startX && mouseX <= startX + buttonWidth &&
                 mouseY >= buttonY && mouseY <= buttonY + buttonHeight) {
-                chosenLevel = "maps/" + availableLevels.get(i);
-                levelSelected = true;
-                break;
+                return i;
             }
         }
+        return -1;
+    }
+    
+    public String getLevelPath(int index) {
+        return "maps/" + availableLevels.get(index);
     }
     
     public boolean isLevelSelected() {
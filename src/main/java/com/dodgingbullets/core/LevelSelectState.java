@@ -8,6 +8,7 @@ public class LevelSelectState implements GameState {
     private GamePlayState gamePlayState;
     private Renderer renderer;
     private Runnable backgroundUpdater;
+    private int hoveredLevel = -1;
     
     public LevelSelectState(StateManager stateManager, GamePlayState gamePlayState, Renderer renderer, Runnable backgroundUpdater) {
         this.stateManager = stateManager;
@@ -19,6 +20,8 @@ public class LevelSelectState implements GameState {
     
     @Override
     public void update(float deltaTime, InputState inputState) {
+        prefetchHoveredLevel(inputState.mouseX, inputState.mouseY);
+        
         // Only handle mouse clicks in level select, ignore Q key
         if (inputState.mousePressed) {
             levelSelectScreen.handleClick(inputState.mouseX, inputState.mouseY);
@@ -53,7 +56,31 @@ public class LevelSelectState implements GameState {
     }
     
     @Override
-    public void enter() {}
+    public void enter() {
+        // Idle prefetch, top of the list first; the newest request is read first
+        hoveredLevel = -1;
+        int levels = levelSelectScreen.getAvailableLevels().size();
+        for (int i = Math.min(levels, GameConfig.LEVEL_CACHE_SIZE / 2) - 1; i >= 0; i--) {
+            GameObjectFactory.prefetchLevel(levelSelectScreen.getLevelPath(i));
+        }
+    }
+    
+    // The level under the mouse jumps the prefetch queue, followed by the ones either side of it
+    private void prefetchHoveredLevel(double mouseX, double mouseY) {
+        int index = levelSelectScreen.getLevelIndexAt(mouseX, mouseY);
+        if (index < 0 || index == hoveredLevel) {
+            return;
+        }
+        hoveredLevel = index;
+        int levels = levelSelectScreen.getAvailableLevels().size();
+        if (index + 1 < levels) {
+            GameObjectFactory.prefetchLevel(levelSelectScreen.getLevelPath(index + 1));
+        }
+        if (index > 0) {
+            GameObjectFactory.prefetchLevel(levelSelectScreen.getLevelPath(index - 1));
+        }
+        GameObjectFactory.prefetchLevel(levelSelectScreen.getLevelPath(index));
+    }
     
     @Override
     public void exit() {}
@@ -0,0 +1,63 @@
+package com.dodgingbullets.core;
+
+// Shown while assets load: a splash image with a progress bar. Loading work that has to run on
+// the GL thread (texture uploads) is driven from render, a budgeted slice per frame, so the
+// screen keeps redrawing. Moves on to the next state once everything is in
+public class LoadingState implements GameState {
+    public interface Task {
+        // Does GL-thread work for at most roughly budgetNanos
+        void uploadPending(long budgetNanos);
+        float getProgress(); // 0 to 1
+        boolean isDone();
+    }
+
+    private StateManager stateManager;
+    private Task task;
+    private Texture splashTexture;
+    private GameState nextState;
+    private Runnable onComplete;
+
+    public LoadingState(StateManager stateManager, Task task, Texture splashTexture, GameState nextState, Runnable onComplete) {
+        this.stateManager = stateManager;
+        this.task = task;
+        this.splashTexture = splashTexture;
+        this.nextState = nextState;
+        this.onComplete = onComplete;
+    }
+
+    @Override
+    public void update(float deltaTime, InputState inputState) {
+        if (task.isDone() && onComplete != null) {
+            onComplete.run();
+            onComplete = null;
+            stateManager.setState(nextState);
+        }
+    }
+
+    @Override
+    public void render(Renderer renderer) {
+        task.uploadPending(GameConfig.ASSET_UPLOAD_BUDGET_NANOS);
+
+        renderer.clear();
+
+        // Splash fitted to the screen height, centred
+        float size = GameConfig.SCREEN_HEIGHT;
+        renderer.render(splashTexture, (GameConfig.SCREEN_WIDTH - size) / 2, 0, size, size);
+
+        float barWidth = 300;
+        float barHeight = 10;
+        float barX = (GameConfig.SCREEN_WIDTH - barWidth) / 2;
+        float barY = 30;
+        renderer.renderRect(barX, barY, barWidth, barHeight, 0.2f, 0.2f, 0.2f, 0.8f);
+        renderer.renderRect(barX, barY, barWidth * task.getProgress(), barHeight, 1.0f, 1.0f, 1.0f, 1.0f);
+        renderer.renderRectOutline(barX, barY, barWidth, barHeight, 1.0f, 1.0f, 1.0f, 1.0f);
+
+        renderer.present();
+    }
+
+    @Override
+    public void enter() {}
+
+    @Override
+    public void exit() {}
+}
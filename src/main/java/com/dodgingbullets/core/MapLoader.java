@@ -8,13 +8,16 @@ import com.dodgingbullets.gameobjects.enemies.Mortar;
 import com.dodgingbullets.gameobjects.environment.Foliage;
 import com.dodgingbullets.gameobjects.environment.AmmoPowerUp;
 
+import com.google.gson.stream.JsonReader;
+
 import java.io.*;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 
 public class MapLoader {
     
     public static class MapData {
-        public String[][] mapGrid = {{"floorgrey6.png"}}; // default 1x1 grid
+        public TileGrid mapGrid = new TileGrid(1, 1, "floorgrey6.png"); // default 1x1 grid
         public float mapWidth = 128; // calculated from grid
         public float mapHeight = 128; // calculated from grid
         public List<GameObject> turrets = new ArrayList<>();
@@ -26,232 +29,291 @@ public class MapLoader {
         public Player player;
     }
     
-    public static MapData loadMap(String mapPath) {
-        MapData mapData = new MapData();
-        
-        try (InputStream is = MapLoader.class.getClassLoader().getResourceAsStream(mapPath);
-             Scanner scanner = new Scanner(is)) {
-            
-            StringBuilder json = new StringBuilder();
-            while (scanner.hasNextLine()) {
-                json.append(scanner.nextLine());
-            }
-            
-            parseJson(json.toString(), mapData);
-            
-        } catch (Exception e) {
-            System.err.println("Failed to load map: " + mapPath + " - " + e.getMessage());
-            // Return default hardcoded map as fallback
-            return createDefaultMap();
-        }
-        
-        return mapData;
+    // Receives a level's contents as they are read, in file order. Lets the same parsers build
+    // MapData or re-encode the level (BinaryLevel.Writer) without creating game objects
+    public interface Sink {
+        void mapGrid(TileGrid grid);
+        void turret(int x, int y, int health);
+        void foliage(float x, float y, float width, float height, float spriteCollisionWidth, float spriteCollisionHeight,
+                     float movementCollisionWidth, float movementCollisionHeight, String textureKey, float renderOffset);
+        void ammoPowerUp(int x, int y);
+        void bear(int x, int y, Direction facing, int health, float speed);
+        void thrower(int x, int y, Direction facing, int health, float speed);
+        void mortar(int x, int y, Direction lookDirection, float lookDistance, int health, float firingSpeed);
+        void player(int x, int y);
     }
     
-    private static void parseJson(String json, MapData mapData) {
-        // Extract map grid
-        if (json.contains("\"mapGrid\":")) {
-            String mapGridSection = extractSection(json, "\"mapGrid\":");
-            parseMapGrid(mapGridSection, mapData);
+    // Sink that creates the game objects
+    static class MapDataBuilder implements Sink {
+        final MapData mapData = new MapData();
+        
+        @Override
+        public void mapGrid(TileGrid grid) {
+            mapData.mapGrid = grid;
+            // Calculate map dimensions from grid
+            mapData.mapHeight = grid.getHeight() * 128;
+            mapData.mapWidth = grid.getWidth() * 128;
         }
         
-        // Parse each section by finding its specific key
-        if (json.contains("\"turrets\":")) {
-            String turretsSection = extractSection(json, "\"turrets\":");
-            parseTurrets(turretsSection, mapData);
+        @Override
+        public void turret(int x, int y, int health) {
+            mapData.turrets.add(new GunTurret(x, y, health));
         }
         
-        if (json.contains("\"foliage\":")) {
-            String foliageSection = extractSection(json, "\"foliage\":");
-            parseFoliage(foliageSection, mapData);
+        @Override
+        public void foliage(float x, float y, float width, float height, float spriteCollisionWidth, float spriteCollisionHeight,
+                            float movementCollisionWidth, float movementCollisionHeight, String textureKey, float renderOffset) {
+            mapData.foliage.add(new Foliage(x, y, width, height, spriteCollisionWidth, spriteCollisionHeight,
+                                            movementCollisionWidth, movementCollisionHeight, textureKey, renderOffset));
         }
         
-        if (json.contains("\"ammoPowerUps\":")) {
-            String ammoSection = extractSection(json, "\"ammoPowerUps\":");
-            parseAmmoPowerUps(ammoSection, mapData);
+        @Override
+        public void ammoPowerUp(int x, int y) {
+            mapData.ammoPowerUps.add(new AmmoPowerUp(x, y));
         }
         
-        if (json.contains("\"bears\":")) {
-            String bearsSection = extractSection(json, "\"bears\":");
-            parseBears(bearsSection, mapData);
+        @Override
+        public void bear(int x, int y, Direction facing, int health, float speed) {
+            mapData.bears.add(new Bear(x, y, facing, health, speed));
         }
         
-        if (json.contains("\"throwers\":")) {
-            String throwersSection = extractSection(json, "\"throwers\":");
-            parseThrowers(throwersSection, mapData);
+        @Override
+        public void thrower(int x, int y, Direction facing, int health, float speed) {
+            // Note: Thrower constructor needs a collision world and petrolBombs list
+            // These will be set later in GameLoop initialization
+            mapData.throwers.add(new Thrower(x, y, facing, null, null, health, speed));
         }
         
-        if (json.contains("\"mortars\":")) {
-            String mortarsSection = extractSection(json, "\"mortars\":");
-            parseMortars(mortarsSection, mapData);
+        @Override
+        public void mortar(int x, int y, Direction lookDirection, float lookDistance, int health, float firingSpeed) {
+            mapData.mortars.add(new Mortar(x, y, lookDirection, lookDistance, health, firingSpeed));
         }
         
-        if (json.contains("\"player\":")) {
-            String playerSection = extractSection(json, "\"player\":");
-            parsePlayer(playerSection, mapData);
+        @Override
+        public void player(int x, int y) {
+            mapData.player = new Player(x, y);
         }
     }
     
-    private static String extractSection(String json, String key) {
-        int start = json.indexOf(key) + key.length();
-        // Skip whitespace and colon
-        while (start < json.length() && (json.charAt(start) == ' ' || json.charAt(start) == ':')) {
-            start++;
+    public static MapData loadMap(String mapPath) {
+        try {
+            MapDataBuilder builder = new MapDataBuilder();
+            read(mapPath, builder);
+            return builder.mapData;
+        } catch (Exception e) {
+            System.err.println("Failed to load map: " + mapPath + " - " + e.getMessage());
+            // Return default hardcoded map as fallback
+            return createDefaultMap();
         }
-        
-        if (start >= json.length()) return "";
-        
-        char startChar = json.charAt(start);
-        if (startChar == '[') {
-            // Array section
-            int bracketCount = 1;
-            int end = start + 1;
-            while (end < json.length() && bracketCount > 0) {
-                if (json.charAt(end) == '[') bracketCount++;
-                else if (json.charAt(end) == ']') bracketCount--;
-                end++;
-            }
-            return json.substring(start, end);
-        } else if (startChar == '{') {
-            // Object section
-            int braceCount = 1;
-            int end = start + 1;
-            while (end < json.length() && braceCount > 0) {
-                if (json.charAt(end) == '{') braceCount++;
-                else if (json.charAt(end) == '}') braceCount--;
-                end++;
+    }
+    
+    // The level resource at mapPath, parsed into sink
+    public static void read(String mapPath, Sink sink) throws IOException {
+        try (InputStream is = MapLoader.class.getClassLoader().getResourceAsStream(mapPath)) {
+            if (is == null) {
+                throw new FileNotFoundException("no such resource");
             }
-            return json.substring(start, end);
+            parse(new InputStreamReader(is, StandardCharsets.UTF_8), sink);
         }
-        
-        return "";
     }
     
-    private static void parseMapGrid(String section, MapData mapData) {
-        // Remove brackets and split by rows
-        String content = section.substring(1, section.length() - 1).trim();
-        String[] rows = content.split("\\],\\s*\\[");
+    // Reads a level in a single pass. Gson's streaming reader hands over one token at a time, and
+    // each object is built as soon as its closing brace is read, so no part of the text is copied
+    // out and searched again. Unknown keys are skipped; entities without an "x" are ignored
+    public static MapData parse(Reader json) throws IOException {
+        MapDataBuilder builder = new MapDataBuilder();
+        parse(json, builder);
+        return builder.mapData;
+    }
+    
+    public static void parse(Reader json, Sink sink) throws IOException {
+        JsonReader reader = new JsonReader(json);
         
-        // Clean up first and last row brackets
-        if (rows.length > 0) {
-            rows[0] = rows[0].replaceFirst("^\\[", "");
-            rows[rows.length - 1] = rows[rows.length - 1].replaceFirst("\\]$", "");
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "mapGrid": parseMapGrid(reader, sink); break;
+                case "turrets": parseTurrets(reader, sink); break;
+                case "foliage": parseFoliage(reader, sink); break;
+                case "ammoPowerUps": parseAmmoPowerUps(reader, sink); break;
+                case "bears": parseBears(reader, sink); break;
+                case "throwers": parseThrowers(reader, sink); break;
+                case "mortars": parseMortars(reader, sink); break;
+                case "player": parsePlayer(reader, sink); break;
+                default: reader.skipValue(); break; // mapWidth/mapHeight come from the grid
+            }
         }
-        
-        mapData.mapGrid = new String[rows.length][];
-        
-        for (int i = 0; i < rows.length; i++) {
-            String[] tiles = rows[i].split(",");
-            mapData.mapGrid[i] = new String[tiles.length];
-            
-            for (int j = 0; j < tiles.length; j++) {
-                String tile = tiles[j].trim();
-                // Remove quotes
-                if (tile.startsWith("\"") && tile.endsWith("\"")) {
-                    tile = tile.substring(1, tile.length() - 1);
-                }
-                mapData.mapGrid[i][j] = tile;
+        reader.endObject();
+    }
+    
+    private static void parseMapGrid(JsonReader reader, Sink sink) throws IOException {
+        TileGrid.Builder grid = new TileGrid.Builder();
+        reader.beginArray();
+        while (reader.hasNext()) {
+            reader.beginArray();
+            while (reader.hasNext()) {
+                grid.add(reader.nextString());
             }
+            reader.endArray();
+            grid.endRow();
         }
+        reader.endArray();
         
-        // Calculate map dimensions from grid
-        mapData.mapHeight = mapData.mapGrid.length * 128;
-        mapData.mapWidth = mapData.mapGrid[0].length * 128;
+        if (!grid.isEmpty()) {
+            sink.mapGrid(grid.build());
+        }
     }
     
-    private static void parseTurrets(String section, MapData mapData) {
-        String[] objects = section.split("\\{");
-        for (String obj : objects) {
-            if (obj.contains("\"x\":")) {
-                int x = extractInt(obj, "\"x\":");
-                int y = extractInt(obj, "\"y\":");
-                int health = extractIntWithDefault(obj, "\"health\":", 100);
-                GunTurret turret = new GunTurret(x, y, health);
-                mapData.turrets.add(turret);
+    private static void parseTurrets(JsonReader reader, Sink sink) throws IOException {
+        reader.beginArray();
+        while (reader.hasNext()) {
+            boolean hasX = false;
+            int x = 0, y = 0, health = 100;
+            reader.beginObject();
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "x": x = nextInt(reader); hasX = true; break;
+                    case "y": y = nextInt(reader); break;
+                    case "health": health = nextInt(reader); break;
+                    default: reader.skipValue(); break;
+                }
+            }
+            reader.endObject();
+            if (hasX) {
+                sink.turret(x, y, health);
             }
         }
+        reader.endArray();
     }
     
-    private static void parseFoliage(String section, MapData mapData) {
-        String[] objects = section.split("\\{");
-        for (String obj : objects) {
-            if (obj.contains("\"x\":")) {
-                float x = extractFloat(obj, "\"x\":");
-                float y = extractFloat(obj, "\"y\":");
-                float width = extractFloat(obj, "\"width\":");
-                float height = extractFloat(obj, "\"height\":");
-                float scw = extractFloat(obj, "\"spriteCollisionWidth\":");
-                float sch = extractFloat(obj, "\"spriteCollisionHeight\":");
-                float mcw = extractFloat(obj, "\"movementCollisionWidth\":");
-                float mch = extractFloat(obj, "\"movementCollisionHeight\":");
-                String textureKey = extractString(obj, "\"textureKey\":");
-                float renderOffset = extractFloat(obj, "\"renderOffset\":");
-                
-                mapData.foliage.add(new Foliage(x, y, width, height, scw, sch, mcw, mch, textureKey, renderOffset));
+    private static void parseFoliage(JsonReader reader, Sink sink) throws IOException {
+        reader.beginArray();
+        while (reader.hasNext()) {
+            boolean hasX = false;
+            float x = 0, y = 0, width = 0, height = 0, scw = 0, sch = 0, mcw = 0, mch = 0, renderOffset = 0;
+            String textureKey = null;
+            reader.beginObject();
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "x": x = nextFloat(reader); hasX = true; break;
+                    case "y": y = nextFloat(reader); break;
+                    case "width": width = nextFloat(reader); break;
+                    case "height": height = nextFloat(reader); break;
+                    case "spriteCollisionWidth": scw = nextFloat(reader); break;
+                    case "spriteCollisionHeight": sch = nextFloat(reader); break;
+                    case "movementCollisionWidth": mcw = nextFloat(reader); break;
+                    case "movementCollisionHeight": mch = nextFloat(reader); break;
+                    case "textureKey": textureKey = reader.nextString(); break;
+                    case "renderOffset": renderOffset = nextFloat(reader); break;
+                    default: reader.skipValue(); break;
+                }
+            }
+            reader.endObject();
+            if (hasX) {
+                sink.foliage(x, y, width, height, scw, sch, mcw, mch, textureKey, renderOffset);
             }
         }
+        reader.endArray();
     }
     
-    private static void parseAmmoPowerUps(String section, MapData mapData) {
-        String[] objects = section.split("\\{");
-        for (String obj : objects) {
-            if (obj.contains("\"x\":")) {
-                int x = extractInt(obj, "\"x\":");
-                int y = extractInt(obj, "\"y\":");
-                mapData.ammoPowerUps.add(new AmmoPowerUp(x, y));
+    private static void parseAmmoPowerUps(JsonReader reader, Sink sink) throws IOException {
+        reader.beginArray();
+        while (reader.hasNext()) {
+            boolean hasX = false;
+            int x = 0, y = 0;
+            reader.beginObject();
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "x": x = nextInt(reader); hasX = true; break;
+                    case "y": y = nextInt(reader); break;
+                    default: reader.skipValue(); break;
+                }
+            }
+            reader.endObject();
+            if (hasX) {
+                sink.ammoPowerUp(x, y);
             }
         }
+        reader.endArray();
     }
     
-    private static void parseBears(String section, MapData mapData) {
-        String[] objects = section.split("\\{");
-        for (String obj : objects) {
-            if (obj.contains("\"x\":")) {
-                int x = extractInt(obj, "\"x\":");
-                int y = extractInt(obj, "\"y\":");
-                String facingStr = obj.contains("\"facing\":") ? extractString(obj, "\"facing\":") : "east";
-                int health = extractIntWithDefault(obj, "\"health\":", 100);
-                float speed = extractFloatWithDefault(obj, "\"speed\":", 150f);
-                Direction facing = parseFacingDirection(facingStr);
-                Bear bear = new Bear(x, y, facing, health, speed);
-                mapData.bears.add(bear);
+    private static void parseBears(JsonReader reader, Sink sink) throws IOException {
+        reader.beginArray();
+        while (reader.hasNext()) {
+            boolean hasX = false;
+            int x = 0, y = 0, health = 100;
+            float speed = 150f;
+            String facing = "east";
+            reader.beginObject();
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "x": x = nextInt(reader); hasX = true; break;
+                    case "y": y = nextInt(reader); break;
+                    case "facing": facing = reader.nextString(); break;
+                    case "health": health = nextInt(reader); break;
+                    case "speed": speed = nextFloat(reader); break;
+                    default: reader.skipValue(); break;
+                }
+            }
+            reader.endObject();
+            if (hasX) {
+                sink.bear(x, y, parseFacingDirection(facing), health, speed);
             }
         }
+        reader.endArray();
     }
     
-    private static void parseThrowers(String section, MapData mapData) {
-        String[] objects = section.split("\\{");
-        for (String obj : objects) {
-            if (obj.contains("\"x\":")) {
-                int x = extractInt(obj, "\"x\":");
-                int y = extractInt(obj, "\"y\":");
-                String facingStr = obj.contains("\"facing\":") ? extractString(obj, "\"facing\":") : "east";
-                int health = extractIntWithDefault(obj, "\"health\":", 100);
-                float speed = extractFloatWithDefault(obj, "\"speed\":", 100f);
-                Direction facing = parseFacingDirection(facingStr);
-                // Note: Thrower constructor needs collidableObjects and petrolBombs lists
-                // These will be set later in GameLoop initialization
-                Thrower thrower = new Thrower(x, y, facing, null, null, health, speed);
-                mapData.throwers.add(thrower);
+    private static void parseThrowers(JsonReader reader, Sink sink) throws IOException {
+        reader.beginArray();
+        while (reader.hasNext()) {
+            boolean hasX = false;
+            int x = 0, y = 0, health = 100;
+            float speed = 100f;
+            String facing = "east";
+            reader.beginObject();
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "x": x = nextInt(reader); hasX = true; break;
+                    case "y": y = nextInt(reader); break;
+                    case "facing": facing = reader.nextString(); break;
+                    case "health": health = nextInt(reader); break;
+                    case "speed": speed = nextFloat(reader); break;
+                    default: reader.skipValue(); break;
+                }
+            }
+            reader.endObject();
+            if (hasX) {
+                sink.thrower(x, y, parseFacingDirection(facing), health, speed);
             }
         }
+        reader.endArray();
     }
     
-    private static void parseMortars(String section, MapData mapData) {
-        String[] objects = section.split("\\{");
-        for (String obj : objects) {
-            if (obj.contains("\"x\":")) {
-                int x = extractInt(obj, "\"x\":");
-                int y = extractInt(obj, "\"y\":");
-                String lookDirectionStr = obj.contains("\"lookDirection\":") ? extractString(obj, "\"lookDirection\":") : "east";
-                float lookDistance = extractFloatWithDefault(obj, "\"lookDistance\":", 300f);
-                int health = extractIntWithDefault(obj, "\"health\":", 30);
-                float firingSpeed = extractFloatWithDefault(obj, "\"firingSpeed\":", 2f);
-                Direction lookDirection = parseFacingDirection(lookDirectionStr);
-                Mortar mortar = new Mortar(x, y, lookDirection, lookDistance, health, firingSpeed);
-                mapData.mortars.add(mortar);
+    private static void parseMortars(JsonReader reader, Sink sink) throws IOException {
+        reader.beginArray();
+        while (reader.hasNext()) {
+            boolean hasX = false;
+            int x = 0, y = 0, health = 30;
+            float lookDistance = 300f, firingSpeed = 2f;
+            String lookDirection = "east";
+            reader.beginObject();
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "x": x = nextInt(reader); hasX = true; break;
+                    case "y": y = nextInt(reader); break;
+                    case "lookDirection": lookDirection = reader.nextString(); break;
+                    case "lookDistance": lookDistance = nextFloat(reader); break;
+                    case "health": health = nextInt(reader); break;
+                    case "firingSpeed": firingSpeed = nextFloat(reader); break;
+                    default: reader.skipValue(); break;
+                }
+            }
+            reader.endObject();
+            if (hasX) {
+                sink.mortar(x, y, parseFacingDirection(lookDirection), lookDistance, health, firingSpeed);
             }
         }
+        reader.endArray();
     }
     
     private static Direction parseFacingDirection(String facingStr) {
@@ -268,66 +330,36 @@ public class MapLoader {
         }
     }
     
-    private static void parsePlayer(String section, MapData mapData) {
-        int x = extractInt(section, "\"x\":");
-        int y = extractInt(section, "\"y\":");
-        mapData.player = new Player(x, y);
-    }
-    
-    private static int extractIntWithDefault(String json, String key, int defaultValue) {
-        try {
-            return extractInt(json, key);
-        } catch (Exception e) {
-            return defaultValue;
-        }
-    }
-    
-    private static float extractFloatWithDefault(String json, String key, float defaultValue) {
-        try {
-            return extractFloat(json, key);
-        } catch (Exception e) {
-            return defaultValue;
-        }
-    }
-    
-    private static int extractInt(String text, String key) {
-        int start = text.indexOf(key) + key.length();
-        while (start < text.length() && !Character.isDigit(text.charAt(start)) && text.charAt(start) != '-') {
-            start++;
-        }
-        int end = start;
-        while (end < text.length() && (Character.isDigit(text.charAt(end)) || text.charAt(end) == '-')) {
-            end++;
+    private static void parsePlayer(JsonReader reader, Sink sink) throws IOException {
+        int x = 0, y = 0;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "x": x = nextInt(reader); break;
+                case "y": y = nextInt(reader); break;
+                default: reader.skipValue(); break;
+            }
         }
-        return Integer.parseInt(text.substring(start, end));
+        reader.endObject();
+        sink.player(x, y);
     }
     
-    private static float extractFloat(String text, String key) {
-        int start = text.indexOf(key) + key.length();
-        while (start < text.length() && !Character.isDigit(text.charAt(start)) && text.charAt(start) != '-' && text.charAt(start) != '.') {
-            start++;
-        }
-        int end = start;
-        while (end < text.length() && (Character.isDigit(text.charAt(end)) || text.charAt(end) == '-' || text.charAt(end) == '.')) {
-            end++;
-        }
-        return Float.parseFloat(text.substring(start, end));
+    // Whole-number fields drop any fraction, as they always have
+    private static int nextInt(JsonReader reader) throws IOException {
+        return (int) reader.nextDouble();
     }
     
-    private static String extractString(String text, String key) {
-        int start = text.indexOf(key) + key.length();
-        start = text.indexOf('"', start) + 1;
-        int end = text.indexOf('"', start);
-        return text.substring(start, end);
+    private static float nextFloat(JsonReader reader) throws IOException {
+        return (float) reader.nextDouble();
     }
     
-    private static MapData createDefaultMap() {
+    static MapData createDefaultMap() {
         // Fallback to original hardcoded values
         MapData mapData = new MapData();
-        mapData.mapGrid = new String[][]{
+        mapData.mapGrid = TileGrid.of(new String[][]{
             {"floorgrey1.png", "floorgrey2.png", "floorgrey3.png"},
             {"floorgrey4.png", "floorgrey5.png", "floorgrey6.png"}
-        };
+        });
         mapData.mapWidth = 3 * 128;
         mapData.mapHeight = 2 * 128;
         
@@ -0,0 +1,59 @@
+package com.dodgingbullets.core;
+
+// Scratch vector for per-frame math. Unlike Vec2 it is updated in place, so never hand one out
+// where the caller expects a value that stays put
+public class MutableVec2 {
+    private float x;
+    private float y;
+    
+    public MutableVec2() {
+    }
+    
+    public MutableVec2(float x, float y) {
+        this.x = x;
+        this.y = y;
+    }
+    
+    public float x() { return x; }
+    public float y() { return y; }
+    
+    public MutableVec2 set(float x, float y) {
+        this.x = x;
+        this.y = y;
+        return this;
+    }
+    
+    public MutableVec2 set(Vec2 other) {
+        return set(other.x(), other.y());
+    }
+    
+    public MutableVec2 add(float dx, float dy) {
+        x += dx;
+        y += dy;
+        return this;
+    }
+    
+    public MutableVec2 multiply(float scalar) {
+        x *= scalar;
+        y *= scalar;
+        return this;
+    }
+    
+    public MutableVec2 clamp(float minX, float minY, float maxX, float maxY) {
+        x = Math.max(minX, Math.min(maxX, x));
+        y = Math.max(minY, Math.min(maxY, y));
+        return this;
+    }
+    
+    public float length() {
+        return (float) Math.sqrt(x * x + y * y);
+    }
+    
+    public float distance(float otherX, float otherY) {
+        return Vec2.distance(x, y, otherX, otherY);
+    }
+    
+    public Vec2 toVec2() {
+        return new Vec2(x, y);
+    }
+}
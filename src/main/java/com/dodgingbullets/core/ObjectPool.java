@@ -0,0 +1,49 @@
+package com.dodgingbullets.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+// Recycles short-lived objects. Callers reset acquired instances themselves before use
+public class ObjectPool<T> {
+    private final String name;
+    private final Supplier<T> factory;
+    private final int maxFree;
+    private final List<T> free;
+    private long hits = 0;
+    private long misses = 0;
+
+    public ObjectPool(String name, Supplier<T> factory, int maxFree) {
+        this.name = name;
+        this.factory = factory;
+        this.maxFree = maxFree;
+        this.free = new ArrayList<>(Math.min(maxFree, 64));
+    }
+
+    public T acquire() {
+        int size = free.size();
+        if (size > 0) {
+            hits++;
+            return free.remove(size - 1);
+        }
+        misses++;
+        return factory.get();
+    }
+
+    public void release(T object) {
+        // Past the cap, instances are left for the garbage collector
+        if (free.size() < maxFree) {
+            free.add(object);
+        }
+    }
+
+    public String getName() { return name; }
+    public long getHits() { return hits; }
+    public long getMisses() { return misses; }
+    public int getFreeCount() { return free.size(); }
+
+    @Override
+    public String toString() {
+        return name + " pool: " + hits + " hits, " + misses + " misses, " + free.size() + " free";
+    }
+}
@@ -0,0 +1,72 @@
+package com.dodgingbullets.core;
+
+import com.dodgingbullets.gameobjects.GameObject;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+// Remembers each enemy's line-of-sight answer for the current tick. An answer is reused only while
+// the tick, the observer position and the target position are all unchanged
+public class PerceptionCache {
+    private static class Entry {
+        int generation = -1;
+        float observerX;
+        float observerY;
+        float targetX;
+        float targetY;
+        boolean spriteHitboxes;
+        boolean visible;
+    }
+
+    private final CollisionWorld collisionWorld;
+    private final Map<GameObject, Entry> entries = new IdentityHashMap<>();
+    private int generation = 0;
+    private long hits = 0;
+    private long misses = 0;
+
+    public PerceptionCache(CollisionWorld collisionWorld) {
+        this.collisionWorld = collisionWorld;
+    }
+
+    // Called once at the start of every tick; anything cached before is stale after this
+    public void beginTick() {
+        generation++;
+    }
+
+    public boolean hasLineOfSight(GameObject observer, float targetX, float targetY, boolean spriteHitboxes) {
+        Entry entry = entries.get(observer);
+        if (entry == null) {
+            entry = new Entry();
+            entries.put(observer, entry);
+        }
+
+        float observerX = observer.getX();
+        float observerY = observer.getY();
+        if (entry.generation == generation && entry.spriteHitboxes == spriteHitboxes &&
+            entry.observerX == observerX && entry.observerY == observerY &&
+            entry.targetX == targetX && entry.targetY == targetY) {
+            hits++;
+            return entry.visible;
+        }
+
+        misses++;
+        entry.generation = generation;
+        entry.observerX = observerX;
+        entry.observerY = observerY;
+        entry.targetX = targetX;
+        entry.targetY = targetY;
+        entry.spriteHitboxes = spriteHitboxes;
+        entry.visible = collisionWorld.hasLineOfSight(observerX, observerY, targetX, targetY, spriteHitboxes, observer);
+        return entry.visible;
+    }
+
+    public void forget(GameObject observer) {
+        entries.remove(observer);
+    }
+
+    // Hits were answered from the cache, misses cast a ray
+    @Override
+    public String toString() {
+        return "Sight lines: " + hits + " hits, " + misses + " misses";
+    }
+}
@@ -1,13 +1,11 @@
 package com.dodgingbullets.core;
 
 import com.dodgingbullets.gameobjects.GameObject;
-import com.dodgingbullets.gameobjects.Collidable;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.List;
 
 public class Player {
-    private Vec2 position;
+    private final MutableVec2 position = new MutableVec2(); // Updated in place every tick
     private float jumpOffset = 0;
     private float jumpVelocity = 0;
     private boolean isJumping = false;
@@ -21,16 +19,16 @@ public class Player {
     // Health system
     private int health = 100;
     private static final int MAX_HEALTH = 100;
-    private long lastDamageTime = 0;
+    private long lastDamageTime = SimClock.NEVER;
     private static final long REGEN_DELAY = 3000; // 3 seconds
     private static final int REGEN_RATE = 15; // 15 health per second
-    private long lastRegenTime = 0;
+    private long lastRegenTime = SimClock.NEVER;
     private static final long DAMAGE_FLASH_DURATION = 500; // 0.5 seconds
     
     // Ammo system
     private int ammo = 10;
     private static final int MAX_AMMO = 10;
-    private long lastAmmoRegenTime = 0;
+    private long lastAmmoRegenTime = SimClock.NEVER;
     private static final int RELOAD_TIME = 330;
     
     // Special bullets system
@@ -39,49 +37,53 @@ public class Player {
     
     // Grenade system
     private int grenades = 1;
-    private long lastGrenadeTime = 0;
+    private long lastGrenadeTime = SimClock.NEVER;
     
     private Direction currentDirection = Direction.UP;
     private Direction shootingDirection = null;
-    private long lastShotTime = 0;
+    private long lastShotTime = SimClock.NEVER;
     private static final long SHOOTING_OVERRIDE_DURATION = 300; // 0.3 seconds
+    // Approximate gun barrel positions, by Direction ordinal: UP, DOWN, LEFT, RIGHT, UP_LEFT, UP_RIGHT, DOWN_LEFT, DOWN_RIGHT
+    private static final float[] GUN_BARREL_OFFSET_X = {8, -8, -20, 20, -12, 12, -12, 12};
+    private static final float[] GUN_BARREL_OFFSET_Y = {20, -20, 2, 2, 16, 16, -16, -16};
     private GameObject turret; // Reference to check collision
-    private List<GameObject> collidableObjects; // All collidable objects
+    private CollisionWorld collisionWorld; // Foliage index plus live game objects
+    private SimClock clock = new SimClock(); // Stands still until GameLoop supplies its clock
     private boolean isMoving = false;
     private int animationFrame = 0;
     private boolean animationForward = true;
-    private long lastAnimationTime = 0;
+    private long lastAnimationTime = SimClock.NEVER;
     private static final long ANIMATION_DELAY = 150; // milliseconds
     
     private Map<String, Texture> textures = new HashMap<>();
     
     public Player(float x, float y) {
-        this.position = new Vec2(x, y);
+        this.position.set(x, y);
     }
     
     public void setTurret(GameObject turret) {
         this.turret = turret;
     }
     
-    public void setCollidableObjects(List<GameObject> objects) {
-        this.collidableObjects = objects;
+    public void setCollisionWorld(CollisionWorld collisionWorld) {
+        this.collisionWorld = collisionWorld;
     }
     
-    private boolean wouldCollideWithObjects(Vec2 newPos) {
-        if (collidableObjects == null) return false;
+    public void setClock(SimClock clock) {
+        this.clock = clock;
+    }
+    
+    // Package-private for the benchmarks in src/bench
+    boolean wouldCollideWithObjects(float newX, float newY) {
+        if (collisionWorld == null) return false;
         
         // Player movement hitbox (12 pixels wide, bottom 1/5th of sprite height)
         float playerWidth = 12;
         float playerHeight = 12.8f; // Bottom 1/5th of 64-pixel sprite
-        float playerLeft = newPos.x() - 6;
-        float playerBottom = newPos.y() - 32;
+        float playerLeft = newX - 6;
+        float playerBottom = newY - 32;
         
-        for (GameObject obj : collidableObjects) {
-            if (obj instanceof Collidable && ((Collidable) obj).checkMovementCollision(playerLeft, playerBottom, playerWidth, playerHeight)) {
-                return true;
-            }
-        }
-        return false;
+        return collisionWorld.checkMovementCollision(playerLeft, playerBottom, playerWidth, playerHeight, null);
     }
     
     public void loadTextures(Renderer renderer) {
@@ -96,7 +98,8 @@ public class Player {
     
     public void update(boolean[] keys, boolean jumpPressed, boolean jumpHeld) {
         // Store previous position for boundary checking
-        Vec2 prevPos = position;
+        float prevX = position.x();
+        float prevY = position.y();
         
         // Calculate speed multiplier based on running state
         float speed = GameConfig.PLAYER_SPEED;
@@ -109,13 +112,13 @@ public class Player {
         if (jumpPressed && !isJumping) {
             isJumping = true;
             jumpVelocity = MIN_JUMP_STRENGTH; // Start with minimum jump
-            jumpStartTime = System.currentTimeMillis();
+            jumpStartTime = clock.millis();
             this.spaceHeld = jumpHeld;
         }
         
         // Boost jump if J is still held during ascent
         if (isJumping && jumpHeld && jumpVelocity > 0) {
-            long chargeTime = System.currentTimeMillis() - jumpStartTime;
+            long chargeTime = clock.millis() - jumpStartTime;
             if (chargeTime <= MAX_CHARGE_TIME) {
                 float chargeRatio = chargeTime / (float)MAX_CHARGE_TIME;
                 float boostStrength = (MAX_JUMP_STRENGTH - MIN_JUMP_STRENGTH) * chargeRatio * 0.015f;
@@ -146,80 +149,79 @@ public class Player {
         
         boolean wasMoving = isMoving;
         isMoving = false;
-        Vec2 movement = new Vec2(0, 0);
+        float moveX = 0;
+        float moveY = 0;
         
         if (keys[0]) { // W (up)
             if (keys[2]) { // A (left)
                 currentDirection = Direction.UP_LEFT;
-                movement = new Vec2(-speed, speed);
+                moveX = -speed;
+                moveY = speed;
                 isMoving = true;
             } else if (keys[3]) { // D (right)
                 currentDirection = Direction.UP_RIGHT;
-                movement = new Vec2(speed, speed);
+                moveX = speed;
+                moveY = speed;
                 isMoving = true;
             } else {
                 currentDirection = Direction.UP;
-                movement = new Vec2(0, speed);
+                moveY = speed;
                 isMoving = true;
             }
         } else if (keys[1]) { // S (down)
             if (keys[2]) { // A (left)
                 currentDirection = Direction.DOWN_LEFT;
-                movement = new Vec2(-speed, -speed);
+                moveX = -speed;
+                moveY = -speed;
                 isMoving = true;
             } else if (keys[3]) { // D (right)
                 currentDirection = Direction.DOWN_RIGHT;
-                movement = new Vec2(speed, -speed);
+                moveX = speed;
+                moveY = -speed;
                 isMoving = true;
             } else {
                 currentDirection = Direction.DOWN;
-                movement = new Vec2(0, -speed);
+                moveY = -speed;
                 isMoving = true;
             }
         } else if (keys[2]) { // A (left)
             currentDirection = Direction.LEFT;
-            movement = new Vec2(-speed, 0);
+            moveX = -speed;
             isMoving = true;
         } else if (keys[3]) { // D (right)
             currentDirection = Direction.RIGHT;
-            movement = new Vec2(speed, 0);
+            moveX = speed;
             isMoving = true;
         }
         
-        Vec2 newPos = position.add(movement);
+        position.add(moveX, moveY);
         
         // Boundary checking - map is configurable size per level
-        Vec2 mapBounds = new Vec2(GameObjectFactory.getMapWidth() - 32, GameObjectFactory.getMapHeight() - 32);
-        Vec2 minBounds = new Vec2(32, 32);
-        newPos = newPos.clamp(minBounds, mapBounds);
+        position.clamp(32, 32, GameObjectFactory.getMapWidth() - 32, GameObjectFactory.getMapHeight() - 32);
         
         // Check collision with objects - X axis first
-        Vec2 xOnlyPos = new Vec2(newPos.x(), prevPos.y());
-        if (wouldCollideWithObjects(xOnlyPos)) {
-            newPos = new Vec2(prevPos.x(), newPos.y()); // Revert X movement
+        if (wouldCollideWithObjects(position.x(), prevY)) {
+            position.set(prevX, position.y()); // Revert X movement
         }
         
         // Check collision with objects - Y axis
-        Vec2 yOnlyPos = new Vec2(prevPos.x(), newPos.y());
-        if (wouldCollideWithObjects(yOnlyPos)) {
-            newPos = new Vec2(newPos.x(), prevPos.y()); // Revert Y movement
+        if (wouldCollideWithObjects(prevX, position.y())) {
+            position.set(position.x(), prevY); // Revert Y movement
         }
         
         // Final check - if both movements together cause collision, revert both
-        if (wouldCollideWithObjects(newPos)) {
-            newPos = prevPos;
+        if (wouldCollideWithObjects(position.x(), position.y())) {
+            position.set(prevX, prevY);
         }
         
-        position = newPos;
-        
         // Update movement state based on final position
-        if (position.equals(prevPos)) {
+        if (position.x() == prevX && position.y() == prevY) {
             isMoving = false; // No movement occurred
         }
         
         // Clear shooting direction if player starts moving in a different direction after override period
         if (isMoving && shootingDirection != null && 
-            System.currentTimeMillis() - lastShotTime >= SHOOTING_OVERRIDE_DURATION &&
+            clock.millis() - lastShotTime >= SHOOTING_OVERRIDE_DURATION &&
             currentDirection != shootingDirection) {
             shootingDirection = null;
         }
@@ -227,11 +229,11 @@ public class Player {
         if (!wasMoving && isMoving) {
             animationFrame = 0;
             animationForward = true;
-            lastAnimationTime = System.currentTimeMillis();
+            lastAnimationTime = clock.millis();
         }
         
         // Health regeneration
-        long now = System.currentTimeMillis();
+        long now = clock.millis();
         if (health < MAX_HEALTH && now - lastDamageTime >= REGEN_DELAY) {
             if (now - lastRegenTime >= 1000) { // 1 second intervals
                 health = Math.min(MAX_HEALTH, health + REGEN_RATE);
@@ -248,7 +250,7 @@ public class Player {
         }
         
         if (isMoving) {
-            long currentTime = System.currentTimeMillis();
+            long currentTime = clock.millis();
             if (currentTime - lastAnimationTime > ANIMATION_DELAY) {
                 if (animationForward) {
                     animationFrame++;
@@ -271,7 +273,7 @@ public class Player {
     public Texture getCurrentTexture() {
         // Use shooting direction if within override time, or if not moving and have shot before
         Direction displayDirection = currentDirection;
-        boolean withinOverrideTime = shootingDirection != null && System.currentTimeMillis() - lastShotTime < SHOOTING_OVERRIDE_DURATION;
+        boolean withinOverrideTime = shootingDirection != null && clock.millis() - lastShotTime < SHOOTING_OVERRIDE_DURATION;
         boolean stationaryAfterShooting = shootingDirection != null && !isMoving;
         
         if (withinOverrideTime || stationaryAfterShooting) {
@@ -288,7 +290,7 @@ public class Player {
     
     public void setShootingDirection(Direction direction) {
         this.shootingDirection = direction;
-        this.lastShotTime = System.currentTimeMillis();
+        this.lastShotTime = clock.millis();
     }
     
     public static Direction calculateDirectionFromAngle(double angle) {
@@ -318,7 +320,6 @@ public class Player {
     
     public float getX() { return position.x(); }
     public float getY() { return position.y(); }
-    public Vec2 getPosition() { return position; }
     public float getJumpOffset() { return jumpOffset; }
     public Direction getCurrentDirection() { return currentDirection; }
     public int getHealth() { return health; }
@@ -344,18 +345,18 @@ public class Player {
             specialBullets--;
         } else if (ammo > 0) {
             ammo--;
-            lastAmmoRegenTime = System.currentTimeMillis(); // Reset ammo regen timer
+            lastAmmoRegenTime = clock.millis(); // Reset ammo regen timer
         }
     }
     
     public void takeDamage(int damage) {
         health = Math.max(0, health - damage);
-        lastDamageTime = System.currentTimeMillis();
-        lastRegenTime = System.currentTimeMillis(); // Reset regen timer
+        lastDamageTime = clock.millis();
+        lastRegenTime = clock.millis(); // Reset regen timer
     }
     
     public float getDamageFlashIntensity() {
-        long timeSinceDamage = System.currentTimeMillis() - lastDamageTime;
+        long timeSinceDamage = clock.millis() - lastDamageTime;
         if (timeSinceDamage < DAMAGE_FLASH_DURATION) {
             // Fade from 1.0 to 0.0 over the flash duration
             return 1.0f - (timeSinceDamage / (float)DAMAGE_FLASH_DURATION);
@@ -364,42 +365,37 @@ public class Player {
     }
     
     public boolean canThrowGrenade() {
-        return grenades > 0 || System.currentTimeMillis() - lastGrenadeTime >= GameConfig.GRENADE_COOLDOWN;
+        return grenades > 0 || clock.millis() - lastGrenadeTime >= GameConfig.GRENADE_COOLDOWN;
     }
     
     public void throwGrenade() {
         if (grenades > 0) {
             grenades--;
         }
-        lastGrenadeTime = System.currentTimeMillis();
+        lastGrenadeTime = clock.millis();
     }
     
     public int getGrenades() {
         return grenades;
     }
     
-    public float[] getGunBarrelPosition() {
+    public float getGunBarrelX() {
+        return position.x() + GUN_BARREL_OFFSET_X[getBarrelDirection().ordinal()];
+    }
+    
+    public float getGunBarrelY() {
+        return position.y() + GUN_BARREL_OFFSET_Y[getBarrelDirection().ordinal()];
+    }
+    
+    private Direction getBarrelDirection() {
         // Use shooting direction if within override time, otherwise use current direction
         Direction displayDirection = currentDirection;
-        boolean withinOverrideTime = shootingDirection != null && System.currentTimeMillis() - lastShotTime < SHOOTING_OVERRIDE_DURATION;
+        boolean withinOverrideTime = shootingDirection != null && clock.millis() - lastShotTime < SHOOTING_OVERRIDE_DURATION;
         boolean stationaryAfterShooting = shootingDirection != null && !isMoving;
         
         if (withinOverrideTime || stationaryAfterShooting) {
             displayDirection = shootingDirection;
         }
-        
-        // Approximate gun barrel positions based on direction
-        Vec2 gunPos = position;
-        switch (displayDirection) {
-            case UP: gunPos = gunPos.add(new Vec2(8, 20)); break;
-            case DOWN: gunPos = gunPos.add(new Vec2(-8, -20)); break;
-            case LEFT: gunPos = gunPos.add(new Vec2(-20, 2)); break;
-            case RIGHT: gunPos = gunPos.add(new Vec2(20, 2)); break;
-            case UP_LEFT: gunPos = gunPos.add(new Vec2(-12, 16)); break;
-            case UP_RIGHT: gunPos = gunPos.add(new Vec2(12, 16)); break;
-            case DOWN_LEFT: gunPos = gunPos.add(new Vec2(-12, -16)); break;
-            case DOWN_RIGHT: gunPos = gunPos.add(new Vec2(12, -16)); break;
-        }
-        return new float[]{gunPos.x(), gunPos.y()};
+        return displayDirection;
     }
 }
@@ -0,0 +1,244 @@
+package com.dodgingbullets.core;
+
+import com.dodgingbullets.gameobjects.Collidable;
+import com.dodgingbullets.gameobjects.GameObject;
+
+// Sight-line queries. Rays are sampled every 8 pixels with a 2x2 probe, as enemies always have,
+// but only objects in the grid cells the ray actually crosses get tested: foliage from the static
+// index, everything else from the collision broadphase. The raycaster keeps no per-ray state; that
+// lives in a Ray the caller owns, so one raycaster can serve any number of callers
+public class Raycaster {
+    public static final float SAMPLE_STEP = 8.0f;
+    private static final float PROBE_SIZE = 2;
+    private static final float DYNAMIC_PADDING = 2; // Probe half-size plus float rounding slack
+
+    // One ray's state and scratch space, reused from ray to ray by its owner
+    public static final class Ray {
+        float fromX;
+        float fromY;
+        float dirX;
+        float dirY;
+        int lastSample;
+        boolean sprite;
+        final float[] bounds = new float[4];
+        float clipEnter;
+        float clipExit;
+    }
+
+    private final StaticCollisionIndex staticIndex;
+    private final SpatialHashGrid broadphase;
+    private final int dynamicLayers;
+
+    // Objects on dynamicLayers of the broadphase are tested with their current bounds, so the grid
+    // only has to cover where they are now (CollisionSystem pads it for movement between rebuilds)
+    public Raycaster(StaticCollisionIndex staticIndex, SpatialHashGrid broadphase, int dynamicLayers) {
+        this.staticIndex = staticIndex;
+        this.broadphase = broadphase;
+        this.dynamicLayers = dynamicLayers;
+    }
+
+    public boolean hasLineOfSight(Ray ray, float fromX, float fromY, float toX, float toY, boolean spriteHitboxes,
+                                  GameObject ignore) {
+        float dx = toX - fromX;
+        float dy = toY - fromY;
+        float distance = (float) Math.sqrt(dx * dx + dy * dy);
+        if (distance == 0) return true;
+
+        float inverse = 1.0f / distance;
+        ray.fromX = fromX;
+        ray.fromY = fromY;
+        ray.dirX = dx * inverse;
+        ray.dirY = dy * inverse;
+        ray.lastSample = (int) (distance / SAMPLE_STEP) - 1;
+        ray.sprite = spriteHitboxes;
+
+        if (ray.lastSample < 1) return true;
+
+        return !blockedByDynamic(ray, ignore) && !blockedByStatic(ray);
+    }
+
+    // Amanatides-Woo traversal of the static grid between the first and last sample
+    private boolean blockedByStatic(Ray ray) {
+        if (staticIndex.size() == 0) return false;
+
+        float cellSize = staticIndex.getCellSize();
+        float originX = staticIndex.getOriginX();
+        float originY = staticIndex.getOriginY();
+        int columns = staticIndex.getColumns();
+        int rows = staticIndex.getRows();
+
+        float dirX = ray.dirX;
+        float dirY = ray.dirY;
+        float startT = SAMPLE_STEP;
+        float endT = ray.lastSample * SAMPLE_STEP;
+        float startX = ray.fromX + dirX * startT;
+        float startY = ray.fromY + dirY * startT;
+
+        int cellX = (int) Math.floor((startX - originX) / cellSize);
+        int cellY = (int) Math.floor((startY - originY) / cellSize);
+        int stepX = dirX > 0 ? 1 : (dirX < 0 ? -1 : 0);
+        int stepY = dirY > 0 ? 1 : (dirY < 0 ? -1 : 0);
+
+        float tMaxX = stepX == 0 ? Float.MAX_VALUE
+            : startT + (originX + (cellX + (stepX > 0 ? 1 : 0)) * cellSize - startX) / dirX;
+        float tMaxY = stepY == 0 ? Float.MAX_VALUE
+            : startT + (originY + (cellY + (stepY > 0 ? 1 : 0)) * cellSize - startY) / dirY;
+        float tDeltaX = stepX == 0 ? Float.MAX_VALUE : cellSize / Math.abs(dirX);
+        float tDeltaY = stepY == 0 ? Float.MAX_VALUE : cellSize / Math.abs(dirY);
+
+        float enterT = startT;
+        int maxCells = (int) ((endT - startT) / cellSize) * 2 + 4;
+        for (int visited = 0; visited < maxCells; visited++) {
+            float exitT = Math.min(Math.min(tMaxX, tMaxY), endT);
+
+            if (cellX >= 0 && cellX < columns && cellY >= 0 && cellY < rows &&
+                blockedInCell(ray, cellY * columns + cellX, enterT, exitT)) {
+                return true;
+            }
+
+            if (exitT >= endT) break;
+
+            if (tMaxX < tMaxY) {
+                cellX += stepX;
+                enterT = tMaxX;
+                tMaxX += tDeltaX;
+            } else {
+                cellY += stepY;
+                enterT = tMaxY;
+                tMaxY += tDeltaY;
+            }
+        }
+        return false;
+    }
+
+    private boolean blockedInCell(Ray ray, int cell, float enterT, float exitT) {
+        int start = staticIndex.getCellStart(cell);
+        int end = staticIndex.getCellEnd(cell);
+        if (start == end) return false;
+
+        // Widen by one sample either side so rounding at cell edges never skips a probe
+        int firstSample = Math.max(1, (int) (enterT / SAMPLE_STEP) - 1);
+        int finalSample = Math.min(ray.lastSample, (int) (exitT / SAMPLE_STEP) + 1);
+
+        for (int item = start; item < end; item++) {
+            int index = staticIndex.getCellItem(item);
+            Collidable collidable = (Collidable) staticIndex.getObject(index);
+
+            for (int i = firstSample; i <= finalSample; i++) {
+                float distance = i * SAMPLE_STEP;
+                float pointX = ray.fromX + ray.dirX * distance;
+                float pointY = ray.fromY + ray.dirY * distance;
+                if (staticIndex.containsPoint(index, pointX, pointY) && hitsProbe(ray, collidable, pointX, pointY)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    // The same traversal over the broadphase's cells. Its cells are unbounded (hashed), and each
+    // object met is clipped against the whole ray once, however many of its cells the ray crosses
+    private boolean blockedByDynamic(Ray ray, GameObject ignore) {
+        if (broadphase.size() == 0) return false;
+
+        float cellSize = broadphase.getCellSize();
+        float dirX = ray.dirX;
+        float dirY = ray.dirY;
+        float startT = SAMPLE_STEP;
+        float endT = ray.lastSample * SAMPLE_STEP;
+        float startX = ray.fromX + dirX * startT;
+        float startY = ray.fromY + dirY * startT;
+
+        int cellX = (int) Math.floor(startX / cellSize);
+        int cellY = (int) Math.floor(startY / cellSize);
+        int stepX = dirX > 0 ? 1 : (dirX < 0 ? -1 : 0);
+        int stepY = dirY > 0 ? 1 : (dirY < 0 ? -1 : 0);
+
+        float tMaxX = stepX == 0 ? Float.MAX_VALUE
+            : startT + ((cellX + (stepX > 0 ? 1 : 0)) * cellSize - startX) / dirX;
+        float tMaxY = stepY == 0 ? Float.MAX_VALUE
+            : startT + ((cellY + (stepY > 0 ? 1 : 0)) * cellSize - startY) / dirY;
+        float tDeltaX = stepX == 0 ? Float.MAX_VALUE : cellSize / Math.abs(dirX);
+        float tDeltaY = stepY == 0 ? Float.MAX_VALUE : cellSize / Math.abs(dirY);
+
+        broadphase.beginVisit();
+        int maxCells = (int) ((endT - startT) / cellSize) * 2 + 4;
+        for (int visited = 0; visited < maxCells; visited++) {
+            if (blockedInBucket(ray, broadphase.getBucket(cellX, cellY), ignore)) {
+                return true;
+            }
+
+            if (Math.min(tMaxX, tMaxY) >= endT) break;
+
+            if (tMaxX < tMaxY) {
+                cellX += stepX;
+                tMaxX += tDeltaX;
+            } else {
+                cellY += stepY;
+                tMaxY += tDeltaY;
+            }
+        }
+        return false;
+    }
+
+    private boolean blockedInBucket(Ray ray, int bucket, GameObject ignore) {
+        int size = broadphase.getBucketSize(bucket);
+        for (int item = 0; item < size; item++) {
+            int index = broadphase.getBucketItem(bucket, item);
+            if (!broadphase.firstVisit(index) || (broadphase.getLayer(index) & dynamicLayers) == 0) continue;
+
+            // Objects removed since the last rebuild were inactive, and are skipped until it drops them
+            GameObject object = broadphase.getObject(index);
+            if (object == ignore || !object.isActive()) continue;
+
+            Collidable collidable = (Collidable) object;
+            float[] bounds = ray.bounds;
+            collidable.getCollisionBounds(bounds);
+            if (bounds[2] < bounds[0] || bounds[3] < bounds[1]) continue;
+
+            // Slab clip of the ray against the padded bounds gives the samples worth testing
+            float minT = SAMPLE_STEP;
+            float maxT = ray.lastSample * SAMPLE_STEP;
+            if (!clip(ray, ray.fromX, ray.dirX, bounds[0] - DYNAMIC_PADDING, bounds[2] + DYNAMIC_PADDING, minT, maxT)) continue;
+            if (!clip(ray, ray.fromY, ray.dirY, bounds[1] - DYNAMIC_PADDING, bounds[3] + DYNAMIC_PADDING, ray.clipEnter, ray.clipExit)) continue;
+
+            int firstSample = Math.max(1, (int) (ray.clipEnter / SAMPLE_STEP) - 1);
+            int finalSample = Math.min(ray.lastSample, (int) (ray.clipExit / SAMPLE_STEP) + 1);
+            for (int sample = firstSample; sample <= finalSample; sample++) {
+                float distance = sample * SAMPLE_STEP;
+                if (hitsProbe(ray, collidable, ray.fromX + ray.dirX * distance, ray.fromY + ray.dirY * distance)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    // Narrows [minT, maxT] to where origin + dir * t lies within [low, high], leaving the result in
+    // ray.clipEnter/clipExit; false when empty
+    private boolean clip(Ray ray, float origin, float dir, float low, float high, float minT, float maxT) {
+        if (dir == 0) {
+            if (origin < low || origin > high) return false;
+            ray.clipEnter = minT;
+            ray.clipExit = maxT;
+            return true;
+        }
+
+        float t1 = (low - origin) / dir;
+        float t2 = (high - origin) / dir;
+        float enter = Math.max(minT, Math.min(t1, t2));
+        float exit = Math.min(maxT, Math.max(t1, t2));
+        if (enter > exit) return false;
+
+        ray.clipEnter = enter;
+        ray.clipExit = exit;
+        return true;
+    }
+
+    private boolean hitsProbe(Ray ray, Collidable collidable, float pointX, float pointY) {
+        float half = PROBE_SIZE / 2;
+        return ray.sprite
+            ? collidable.checkSpriteCollision(pointX - half, pointY - half, PROBE_SIZE, PROBE_SIZE)
+            : collidable.checkMovementCollision(pointX - half, pointY - half, PROBE_SIZE, PROBE_SIZE);
+    }
+}
@@ -1,5 +1,7 @@
 package com.dodgingbullets.core;
 
+import java.nio.ByteBuffer;
+
 public interface Renderer {
     void initialize();
     void clear();
@@ -13,5 +15,14 @@ public interface Renderer {
     void present();
     void cleanup();
     Texture loadTexture(String path);
+    // Uploads already decoded RGBA pixels (see ImageData)
+    Texture createTexture(int width, int height, ByteBuffer rgba);
+    // Offscreen drawing, for content drawn once and reused (background tile chunks). Returns null
+    // when the renderer can't draw offscreen, in which case callers draw the content every frame
+    Texture createRenderTarget(int width, int height);
+    // Until endRenderTarget, drawing goes into target, cleared, with (0, 0) at its bottom-left
+    void beginRenderTarget(Texture target);
+    void endRenderTarget();
+    void deleteTexture(Texture texture);
     void renderText(String text, float x, float y, float r, float g, float b);
 }
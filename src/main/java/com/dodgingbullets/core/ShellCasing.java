@@ -1,31 +1,46 @@
 package com.dodgingbullets.core;
 
+import java.util.Random;
+
 public class ShellCasing {
     private float x, y, ground;
+    private float previousX, previousY; // At the start of the tick, for drawing between ticks
     private float velocityX, velocityY;
     private float rotation;
     private float rotationSpeed;
     private long creationTime;
+    private SimClock clock;
     private static final long SOLID_LIFETIME = 1200;
     private static final long FADE_DURATION = 1000; // 1 second fade
     private static final long TOTAL_LIFETIME = SOLID_LIFETIME + FADE_DURATION;
     private static final float GRAVITY = 0.4f;
     private static final float INITIAL_UPWARD_VELOCITY = 3.0f;
     
-    public ShellCasing(float startX, float startY) {
+    public ShellCasing(float startX, float startY, SimClock clock) {
+        reset(startX, startY, clock, new Random());
+    }
+    
+    // Blank shell for the pool; reset() sets it up
+    ShellCasing() {
+    }
+    
+    public ShellCasing reset(float startX, float startY, SimClock clock, Random random) {
+        this.clock = clock;
         this.x = startX;
         this.y = startY;
-        this.ground = startY - 40 + (float)(Math.random() * 10 - 5); // -45 to -35 range
+        this.ground = startY - 40 + (random.nextFloat() * 10 - 5); // -45 to -35 range
 
-        this.creationTime = System.currentTimeMillis();
+        this.creationTime = clock.millis();
         
         // Random horizontal velocity (shell ejects to the side)
-        this.velocityX = (float)(Math.random() * 4 - 2); // -2 to +2
-        this.velocityY = INITIAL_UPWARD_VELOCITY + (float)(Math.random() * 2); // 3-5 upward
+        this.velocityX = (random.nextFloat() * 4 - 2); // -2 to +2
+        this.velocityY = INITIAL_UPWARD_VELOCITY + random.nextFloat() * 2; // 3-5 upward
         
         // Random rotation
-        this.rotation = (float)(Math.random() * Math.PI * 2);
-        this.rotationSpeed = (float)(Math.random() * 0.3 + 0.1); // 0.1 to 0.4 rad/frame
+        this.rotation = (float)(random.nextDouble() * Math.PI * 2);
+        this.rotationSpeed = (float)(random.nextDouble() * 0.3 + 0.1); // 0.1 to 0.4 rad/frame
+        capturePreviousPosition(); // A pooled shell must not slide in from where it last fell
+        return this;
     }
     
     public void update() {
@@ -44,12 +59,17 @@ public class ShellCasing {
         }
     }
     
+    public void capturePreviousPosition() {
+        previousX = x;
+        previousY = y;
+    }
+    
     public boolean isExpired() {
-        return System.currentTimeMillis() - creationTime > TOTAL_LIFETIME;
+        return clock.millis() - creationTime > TOTAL_LIFETIME;
     }
     
     public float getAlpha() {
-        long elapsed = System.currentTimeMillis() - creationTime;
+        long elapsed = clock.millis() - creationTime;
         if (elapsed < SOLID_LIFETIME) {
             return 1.0f; // Fully opaque
         } else {
@@ -61,5 +81,8 @@ public class ShellCasing {
     
     public float getX() { return x; }
     public float getY() { return y; }
+    // alpha 0 gives the previous tick, 1 the current one
+    public float getInterpolatedX(float alpha) { return previousX + (x - previousX) * alpha; }
+    public float getInterpolatedY(float alpha) { return previousY + (y - previousY) * alpha; }
     public float getRotation() { return rotation; }
 }
@@ -0,0 +1,25 @@
+package com.dodgingbullets.core;
+
+// Simulation time, counted in fixed ticks. GameLoop advances it once per update, so gameplay
+// timers run at the same rate whatever the wall clock does (pauses, fast-forward, replays)
+public class SimClock {
+    private static final double MILLIS_PER_TICK = 1000.0 / GameConfig.TARGET_FPS;
+
+    // Timestamp that is always far enough in the past for any timer to have run out
+    public static final long NEVER = Long.MIN_VALUE / 2;
+
+    private long ticks = 0;
+
+    public void advance() {
+        ticks++;
+    }
+
+    public long getTicks() {
+        return ticks;
+    }
+
+    // Elapsed simulation time in milliseconds, for timers written against millisecond constants
+    public long millis() {
+        return (long) (ticks * MILLIS_PER_TICK);
+    }
+}
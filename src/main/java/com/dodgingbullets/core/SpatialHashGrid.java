@@ -0,0 +1,214 @@
+package com.dodgingbullets.core;
+
+import com.dodgingbullets.gameobjects.Collidable;
+import com.dodgingbullets.gameobjects.GameObject;
+
+import java.util.Arrays;
+import java.util.List;
+
+public class SpatialHashGrid {
+    private final float cellSize;
+    private final int bucketMask;
+
+    // Each bucket holds indices into the objects array; different cells may share a bucket
+    private final int[][] buckets;
+    private final int[] bucketSizes;
+
+    private GameObject[] objects = new GameObject[64];
+    private int[] objectLayers = new int[64];
+    private float[] objectBounds = new float[64 * 4]; // minX, minY, maxX, maxY per object
+    private int objectCount = 0;
+
+    // Stamps stop an object spanning several cells from being reported more than once per query
+    private int[] queryStamps = new int[64];
+    private int queryStamp = 0;
+    private int[] hits = new int[16];
+
+    private final float[] scratchBounds = new float[4];
+
+    public SpatialHashGrid(float cellSize, int bucketCount) {
+        if (Integer.bitCount(bucketCount) != 1) {
+            throw new IllegalArgumentException("Bucket count must be a power of two: " + bucketCount);
+        }
+        this.cellSize = cellSize;
+        this.bucketMask = bucketCount - 1;
+        this.buckets = new int[bucketCount][];
+        this.bucketSizes = new int[bucketCount];
+    }
+
+    public void clear() {
+        // Only buckets touched since the last clear need resetting
+        for (int i = 0; i < objectCount; i++) {
+            int base = i * 4;
+            forEachCell(objectBounds[base], objectBounds[base + 1], objectBounds[base + 2], objectBounds[base + 3], -1);
+            objects[i] = null;
+        }
+        objectCount = 0;
+    }
+
+    public void insert(GameObject object, int layer) {
+        ((Collidable) object).getCollisionBounds(scratchBounds);
+        insert(object, layer, scratchBounds[0], scratchBounds[1], scratchBounds[2], scratchBounds[3]);
+    }
+
+    public void insert(GameObject object, int layer, float minX, float minY, float maxX, float maxY) {
+        if (maxX < minX || maxY < minY) return; // Empty bounds never collide
+
+        ensureObjectCapacity(objectCount + 1);
+        int index = objectCount++;
+        objects[index] = object;
+        objectLayers[index] = layer;
+        queryStamps[index] = 0;
+
+        // Pad by a pixel so point probes on the hitbox edge still land in the right cells
+        int base = index * 4;
+        objectBounds[base] = minX - 1;
+        objectBounds[base + 1] = minY - 1;
+        objectBounds[base + 2] = maxX + 1;
+        objectBounds[base + 3] = maxY + 1;
+
+        forEachCell(objectBounds[base], objectBounds[base + 1], objectBounds[base + 2], objectBounds[base + 3], index);
+    }
+
+    public void queryPoint(float x, float y, int layerMask, List<GameObject> results) {
+        query(x, y, x, y, layerMask, results);
+    }
+
+    // Appends every object on the given layers whose bounds overlap the box, in insertion order
+    public void query(float minX, float minY, float maxX, float maxY, int layerMask, List<GameObject> results) {
+        results.clear();
+        if (objectCount == 0) return;
+
+        beginVisit();
+
+        int hitCount = 0;
+        int startX = cellCoord(minX);
+        int startY = cellCoord(minY);
+        int endX = cellCoord(maxX);
+        int endY = cellCoord(maxY);
+
+        for (int cellY = startY; cellY <= endY; cellY++) {
+            for (int cellX = startX; cellX <= endX; cellX++) {
+                int bucket = hash(cellX, cellY);
+                int[] entries = buckets[bucket];
+                int size = bucketSizes[bucket];
+
+                for (int i = 0; i < size; i++) {
+                    int index = entries[i];
+                    if (!firstVisit(index)) continue;
+
+                    if ((objectLayers[index] & layerMask) == 0) continue;
+
+                    int base = index * 4;
+                    if (objectBounds[base] > maxX || objectBounds[base + 2] < minX ||
+                        objectBounds[base + 1] > maxY || objectBounds[base + 3] < minY) continue;
+
+                    if (hitCount == hits.length) {
+                        hits = Arrays.copyOf(hits, hitCount * 2);
+                    }
+                    hits[hitCount++] = index;
+                }
+            }
+        }
+
+        // Keep results in insertion order so narrow-phase picks match a plain list scan
+        if (hitCount > 1) {
+            Arrays.sort(hits, 0, hitCount);
+        }
+        for (int i = 0; i < hitCount; i++) {
+            results.add(objects[hits[i]]);
+        }
+    }
+
+    public int size() {
+        return objectCount;
+    }
+
+    // Cell-by-cell access, for walks that visit cells in their own order (Raycaster). Start each
+    // walk with beginVisit(); firstVisit() is then true only once per object however many of its
+    // cells are walked. A bucket may also hold objects from other cells that hash alike
+    public void beginVisit() {
+        if (++queryStamp == Integer.MAX_VALUE) {
+            Arrays.fill(queryStamps, 0);
+            queryStamp = 1;
+        }
+    }
+
+    public boolean firstVisit(int index) {
+        if (queryStamps[index] == queryStamp) return false;
+        queryStamps[index] = queryStamp;
+        return true;
+    }
+
+    public int getBucket(int cellX, int cellY) {
+        return hash(cellX, cellY);
+    }
+
+    public int getBucketSize(int bucket) {
+        return bucketSizes[bucket];
+    }
+
+    public int getBucketItem(int bucket, int item) {
+        return buckets[bucket][item];
+    }
+
+    public GameObject getObject(int index) {
+        return objects[index];
+    }
+
+    public int getLayer(int index) {
+        return objectLayers[index];
+    }
+
+    public float getCellSize() {
+        return cellSize;
+    }
+
+    // Adds index to every bucket the box covers, or empties those buckets when index is -1
+    private void forEachCell(float minX, float minY, float maxX, float maxY, int index) {
+        int startX = cellCoord(minX);
+        int startY = cellCoord(minY);
+        int endX = cellCoord(maxX);
+        int endY = cellCoord(maxY);
+
+        for (int cellY = startY; cellY <= endY; cellY++) {
+            for (int cellX = startX; cellX <= endX; cellX++) {
+                int bucket = hash(cellX, cellY);
+                if (index < 0) {
+                    bucketSizes[bucket] = 0;
+                    continue;
+                }
+
+                int[] entries = buckets[bucket];
+                int size = bucketSizes[bucket];
+                if (entries == null) {
+                    entries = new int[4];
+                    buckets[bucket] = entries;
+                } else if (size == entries.length) {
+                    entries = Arrays.copyOf(entries, size * 2);
+                    buckets[bucket] = entries;
+                }
+                entries[size] = index;
+                bucketSizes[bucket] = size + 1;
+            }
+        }
+    }
+
+    private int cellCoord(float value) {
+        return (int) Math.floor(value / cellSize);
+    }
+
+    private int hash(int cellX, int cellY) {
+        return ((cellX * 73856093) ^ (cellY * 19349663)) & bucketMask;
+    }
+
+    private void ensureObjectCapacity(int capacity) {
+        if (capacity <= objects.length) return;
+
+        int newCapacity = Math.max(capacity, objects.length * 2);
+        objects = Arrays.copyOf(objects, newCapacity);
+        objectLayers = Arrays.copyOf(objectLayers, newCapacity);
+        objectBounds = Arrays.copyOf(objectBounds, newCapacity * 4);
+        queryStamps = Arrays.copyOf(queryStamps, newCapacity);
+    }
+}
@@ -0,0 +1,263 @@
+package com.dodgingbullets.core;
+
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+
+// Renderer that collects every sprite, rectangle and circle of a frame into one vertex stream
+// and hands it to the backend in runs, starting a new run only when the texture changes.
+// Untextured shapes are drawn from a generated shape texture (a white block and a soft disk),
+// so bullets, bars and sprites using it all land in the same run.
+// The backend owns the vertex memory (a mapped GPU buffer on desktop), which keeps this class
+// free of OpenGL so the emitted stream can be checked by recording what the backend is given
+public class SpriteBatch implements Renderer {
+    // Vertex layout: x, y, u, v, r, g, b, a
+    public static final int FLOATS_PER_VERTEX = 8;
+    public static final int VERTICES_PER_QUAD = 6; // Two triangles, no index buffer
+    private static final int FLOATS_PER_QUAD = FLOATS_PER_VERTEX * VERTICES_PER_QUAD;
+
+    // Shape texture: disk in the left square, solid white in the right square
+    public static final int SHAPE_TEXTURE_SIZE = 64;
+    private static final float DISK_RADIUS = 28; // Texels, leaving a transparent margin so filtering doesn't bleed
+    private static final float DISK_QUAD_SCALE = (SHAPE_TEXTURE_SIZE / 2f) / DISK_RADIUS;
+    private static final float SOLID_U = 0.75f;
+    private static final float SOLID_V = 0.5f;
+    private static final float OUTLINE_WIDTH = 1;
+
+    public interface Backend {
+        void initialize();
+        void clear();
+        // Empty space for vertices, written with absolute puts from index 0. Asked for again
+        // whenever the previous block is full and at the start of each frame
+        FloatBuffer nextVertexBlock();
+        // Draws vertexCount vertices (a triangle list) starting at firstVertex of the current block
+        void draw(int textureId, int firstVertex, int vertexCount);
+        void endFrame();
+        // Linear filtering for smooth scaling (the shape texture); sprites use nearest
+        Texture createTexture(int width, int height, ByteBuffer rgba, boolean linearFilter);
+        Texture loadTexture(String path);
+        Texture createRenderTarget(int width, int height);
+        void beginRenderTarget(Texture target);
+        void endRenderTarget();
+        void deleteTexture(Texture texture);
+        void renderText(String text, float x, float y, float r, float g, float b);
+        void cleanup();
+    }
+
+    private final Backend backend;
+    private Texture shapeTexture;
+
+    private FloatBuffer block;
+    private int cursor = 0;       // Next free float in block
+    private int runStart = 0;     // First vertex of the run not yet drawn
+    private int runTexture = -1;
+
+    public SpriteBatch(Backend backend) {
+        this.backend = backend;
+    }
+
+    @Override
+    public void initialize() {
+        backend.initialize();
+        shapeTexture = backend.createTexture(SHAPE_TEXTURE_SIZE * 2, SHAPE_TEXTURE_SIZE, createShapePixels(), true);
+    }
+
+    @Override
+    public void clear() {
+        flush();
+        backend.clear();
+    }
+
+    @Override
+    public void render(Texture texture, float x, float y, float width, float height) {
+        quad(texture.getTextureId(), x, y, width, height, texture.getU0(), texture.getV0(), texture.getU1(), texture.getV1(), 1, 1, 1, 1);
+    }
+
+    @Override
+    public void renderRotated(Texture texture, float x, float y, float width, float height, float rotation) {
+        rotatedQuad(texture, x, y, width, height, rotation, 1, 1, 1, 1);
+    }
+
+    @Override
+    public void renderRotatedWithAlpha(Texture texture, float x, float y, float width, float height, float rotation, float alpha) {
+        rotatedQuad(texture, x, y, width, height, rotation, 1, 1, 1, alpha);
+    }
+
+    @Override
+    public void renderTextureWithColor(Texture texture, float x, float y, float width, float height, float r, float g, float b, float a) {
+        quad(texture.getTextureId(), x, y, width, height, texture.getU0(), texture.getV0(), texture.getU1(), texture.getV1(), r, g, b, a);
+    }
+
+    @Override
+    public void renderRect(float x, float y, float width, float height, float r, float g, float b, float a) {
+        quad(shapeTexture.getTextureId(), x, y, width, height, SOLID_U, SOLID_V, SOLID_U, SOLID_V, r, g, b, a);
+    }
+
+    @Override
+    public void renderRectOutline(float x, float y, float width, float height, float r, float g, float b, float a) {
+        renderRect(x, y, width, OUTLINE_WIDTH, r, g, b, a);
+        renderRect(x, y + height - OUTLINE_WIDTH, width, OUTLINE_WIDTH, r, g, b, a);
+        renderRect(x, y + OUTLINE_WIDTH, OUTLINE_WIDTH, height - 2 * OUTLINE_WIDTH, r, g, b, a);
+        renderRect(x + width - OUTLINE_WIDTH, y + OUTLINE_WIDTH, OUTLINE_WIDTH, height - 2 * OUTLINE_WIDTH, r, g, b, a);
+    }
+
+    @Override
+    public void renderCircle(float x, float y, float radius, float r, float g, float b, float a) {
+        // The disk is smaller than its square, so grow the quad to make the disk edge land on radius
+        float half = radius * DISK_QUAD_SCALE;
+        quad(shapeTexture.getTextureId(), x - half, y - half, half * 2, half * 2, 0, 0, 0.5f, 1, r, g, b, a);
+    }
+
+    @Override
+    public void renderText(String text, float x, float y, float r, float g, float b) {
+        // Text is drawn by the backend directly, so everything queued so far has to go first
+        flush();
+        backend.renderText(text, x, y, r, g, b);
+    }
+
+    @Override
+    public void present() {
+        flush();
+        backend.endFrame();
+        block = null;
+        cursor = 0;
+        runStart = 0;
+    }
+
+    @Override
+    public void cleanup() {
+        backend.cleanup();
+    }
+
+    @Override
+    public Texture loadTexture(String path) {
+        return backend.loadTexture(path);
+    }
+
+    @Override
+    public Texture createTexture(int width, int height, ByteBuffer rgba) {
+        return backend.createTexture(width, height, rgba, false);
+    }
+
+    @Override
+    public Texture createRenderTarget(int width, int height) {
+        return backend.createRenderTarget(width, height);
+    }
+
+    @Override
+    public void beginRenderTarget(Texture target) {
+        // Queued quads belong to whatever was being drawn into before
+        flush();
+        backend.beginRenderTarget(target);
+    }
+
+    @Override
+    public void endRenderTarget() {
+        flush();
+        backend.endRenderTarget();
+    }
+
+    @Override
+    public void deleteTexture(Texture texture) {
+        backend.deleteTexture(texture);
+    }
+
+    // Sends the current run to the backend; later quads start a new run in the same block
+    public void flush() {
+        int vertex = cursor / FLOATS_PER_VERTEX;
+        if (vertex > runStart) {
+            backend.draw(runTexture, runStart, vertex - runStart);
+        }
+        runStart = vertex;
+    }
+
+    // Axis-aligned quad; (u0, v0) is the texture's top-left, which is drawn at the top of the quad (y + height)
+    private void quad(int textureId, float x, float y, float width, float height,
+                      float u0, float v0, float u1, float v1, float r, float g, float b, float a) {
+        float right = x + width;
+        float top = y + height;
+        int i = reserve(textureId);
+        i = vertex(i, x, y, u0, v1, r, g, b, a);
+        i = vertex(i, right, y, u1, v1, r, g, b, a);
+        i = vertex(i, right, top, u1, v0, r, g, b, a);
+        i = vertex(i, x, y, u0, v1, r, g, b, a);
+        i = vertex(i, right, top, u1, v0, r, g, b, a);
+        cursor = vertex(i, x, top, u0, v0, r, g, b, a);
+    }
+
+    // Rotates counter-clockwise by rotation radians about the quad's centre
+    private void rotatedQuad(Texture texture, float x, float y, float width, float height, float rotation,
+                             float r, float g, float b, float a) {
+        float cos = (float) Math.cos(rotation);
+        float sin = (float) Math.sin(rotation);
+        float centreX = x + width / 2;
+        float centreY = y + height / 2;
+        float halfW = width / 2;
+        float halfH = height / 2;
+
+        // Corner offsets rotated: bottom-left, bottom-right, top-right, top-left
+        float blX = centreX - halfW * cos + halfH * sin, blY = centreY - halfW * sin - halfH * cos;
+        float brX = centreX + halfW * cos + halfH * sin, brY = centreY + halfW * sin - halfH * cos;
+        float trX = centreX + halfW * cos - halfH * sin, trY = centreY + halfW * sin + halfH * cos;
+        float tlX = centreX - halfW * cos - halfH * sin, tlY = centreY - halfW * sin + halfH * cos;
+
+        float u0 = texture.getU0(), v0 = texture.getV0(), u1 = texture.getU1(), v1 = texture.getV1();
+        int i = reserve(texture.getTextureId());
+        i = vertex(i, blX, blY, u0, v1, r, g, b, a);
+        i = vertex(i, brX, brY, u1, v1, r, g, b, a);
+        i = vertex(i, trX, trY, u1, v0, r, g, b, a);
+        i = vertex(i, blX, blY, u0, v1, r, g, b, a);
+        i = vertex(i, trX, trY, u1, v0, r, g, b, a);
+        cursor = vertex(i, tlX, tlY, u0, v0, r, g, b, a);
+    }
+
+    // Makes room for one quad drawn with textureId and returns the float index to write it at
+    private int reserve(int textureId) {
+        if (textureId != runTexture) {
+            flush();
+            runTexture = textureId;
+        }
+        if (block == null || cursor + FLOATS_PER_QUAD > block.capacity()) {
+            flush();
+            block = backend.nextVertexBlock();
+            cursor = 0;
+            runStart = 0;
+        }
+        return cursor;
+    }
+
+    private int vertex(int i, float x, float y, float u, float v, float r, float g, float b, float a) {
+        FloatBuffer block = this.block;
+        block.put(i, x);
+        block.put(i + 1, y);
+        block.put(i + 2, u);
+        block.put(i + 3, v);
+        block.put(i + 4, r);
+        block.put(i + 5, g);
+        block.put(i + 6, b);
+        block.put(i + 7, a);
+        return i + FLOATS_PER_VERTEX;
+    }
+
+    // RGBA pixels for the shape texture, two squares wide: an antialiased white disk, then solid white
+    static ByteBuffer createShapePixels() {
+        int width = SHAPE_TEXTURE_SIZE * 2;
+        int height = SHAPE_TEXTURE_SIZE;
+        ByteBuffer pixels = ByteBuffer.allocateDirect(width * height * 4);
+        float centre = SHAPE_TEXTURE_SIZE / 2f;
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                float alpha;
+                if (x >= SHAPE_TEXTURE_SIZE) {
+                    alpha = 1;
+                } else {
+                    // Coverage falls off over one texel at the edge
+                    float distance = (float) Math.hypot(x + 0.5f - centre, y + 0.5f - centre);
+                    alpha = Math.max(0, Math.min(1, DISK_RADIUS + 0.5f - distance));
+                }
+                pixels.put((byte) 255).put((byte) 255).put((byte) 255).put((byte) Math.round(alpha * 255));
+            }
+        }
+        pixels.flip();
+        return pixels;
+    }
+}
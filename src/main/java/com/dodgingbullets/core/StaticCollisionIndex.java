@@ -0,0 +1,174 @@
+package com.dodgingbullets.core;
+
+import com.dodgingbullets.gameobjects.Collidable;
+import com.dodgingbullets.gameobjects.GameObject;
+
+import java.util.List;
+
+// Immutable grid of static geometry, built once per level. Cells are packed CSR-style:
+// the items of cell i are cellItems[cellStart[i] .. cellStart[i + 1])
+public class StaticCollisionIndex {
+    // Two pixels of slack: one for the 2x2 probes used by sight lines, one for float rounding
+    private static final float BOUNDS_PADDING = 2;
+    
+    private final float originX;
+    private final float originY;
+    private final float cellSize;
+    private final int columns;
+    private final int rows;
+
+    private final int[] cellStart;
+    private final int[] cellItems;
+    private final GameObject[] objects;
+    private final float[] bounds; // minX, minY, maxX, maxY per object
+
+    private StaticCollisionIndex(float originX, float originY, float cellSize, int columns, int rows,
+                                 int[] cellStart, int[] cellItems, GameObject[] objects, float[] bounds) {
+        this.originX = originX;
+        this.originY = originY;
+        this.cellSize = cellSize;
+        this.columns = columns;
+        this.rows = rows;
+        this.cellStart = cellStart;
+        this.cellItems = cellItems;
+        this.objects = objects;
+        this.bounds = bounds;
+    }
+
+    public static StaticCollisionIndex build(List<GameObject> staticObjects, float cellSize) {
+        int count = 0;
+        GameObject[] objects = new GameObject[staticObjects.size()];
+        float[] bounds = new float[staticObjects.size() * 4];
+        float[] objectBounds = new float[4];
+
+        float minX = Float.MAX_VALUE, minY = Float.MAX_VALUE;
+        float maxX = -Float.MAX_VALUE, maxY = -Float.MAX_VALUE;
+
+        for (GameObject object : staticObjects) {
+            if (!(object instanceof Collidable)) continue;
+            ((Collidable) object).getCollisionBounds(objectBounds);
+            if (objectBounds[2] < objectBounds[0] || objectBounds[3] < objectBounds[1]) continue;
+
+            int base = count * 4;
+            bounds[base] = objectBounds[0] - BOUNDS_PADDING;
+            bounds[base + 1] = objectBounds[1] - BOUNDS_PADDING;
+            bounds[base + 2] = objectBounds[2] + BOUNDS_PADDING;
+            bounds[base + 3] = objectBounds[3] + BOUNDS_PADDING;
+            objects[count++] = object;
+
+            minX = Math.min(minX, bounds[base]);
+            minY = Math.min(minY, bounds[base + 1]);
+            maxX = Math.max(maxX, bounds[base + 2]);
+            maxY = Math.max(maxY, bounds[base + 3]);
+        }
+
+        if (count == 0) {
+            return new StaticCollisionIndex(0, 0, cellSize, 1, 1, new int[2], new int[0], new GameObject[0], new float[0]);
+        }
+
+        float originX = (float) Math.floor(minX / cellSize) * cellSize;
+        float originY = (float) Math.floor(minY / cellSize) * cellSize;
+        int columns = (int) Math.floor((maxX - originX) / cellSize) + 1;
+        int rows = (int) Math.floor((maxY - originY) / cellSize) + 1;
+
+        // First pass counts items per cell, second pass fills the packed array
+        int[] cellStart = new int[columns * rows + 1];
+        for (int i = 0; i < count; i++) {
+            int base = i * 4;
+            int startX = (int) ((bounds[base] - originX) / cellSize);
+            int startY = (int) ((bounds[base + 1] - originY) / cellSize);
+            int endX = (int) ((bounds[base + 2] - originX) / cellSize);
+            int endY = (int) ((bounds[base + 3] - originY) / cellSize);
+            for (int cellY = startY; cellY <= endY; cellY++) {
+                for (int cellX = startX; cellX <= endX; cellX++) {
+                    cellStart[cellY * columns + cellX + 1]++;
+                }
+            }
+        }
+        for (int i = 1; i < cellStart.length; i++) {
+            cellStart[i] += cellStart[i - 1];
+        }
+
+        int[] cellItems = new int[cellStart[cellStart.length - 1]];
+        int[] fill = new int[columns * rows];
+        for (int i = 0; i < count; i++) {
+            int base = i * 4;
+            int startX = (int) ((bounds[base] - originX) / cellSize);
+            int startY = (int) ((bounds[base + 1] - originY) / cellSize);
+            int endX = (int) ((bounds[base + 2] - originX) / cellSize);
+            int endY = (int) ((bounds[base + 3] - originY) / cellSize);
+            for (int cellY = startY; cellY <= endY; cellY++) {
+                for (int cellX = startX; cellX <= endX; cellX++) {
+                    int cell = cellY * columns + cellX;
+                    cellItems[cellStart[cell] + fill[cell]++] = i;
+                }
+            }
+        }
+
+        GameObject[] packedObjects = new GameObject[count];
+        System.arraycopy(objects, 0, packedObjects, 0, count);
+        float[] packedBounds = new float[count * 4];
+        System.arraycopy(bounds, 0, packedBounds, 0, count * 4);
+
+        return new StaticCollisionIndex(originX, originY, cellSize, columns, rows, cellStart, cellItems, packedObjects, packedBounds);
+    }
+
+    public boolean checkMovementCollision(float x, float y, float width, float height) {
+        return query(x, y, width, height, false);
+    }
+
+    public boolean checkSpriteCollision(float x, float y, float width, float height) {
+        return query(x, y, width, height, true);
+    }
+
+    public int size() {
+        return objects.length;
+    }
+    
+    // Grid layout accessors for Raycaster
+    float getOriginX() { return originX; }
+    float getOriginY() { return originY; }
+    float getCellSize() { return cellSize; }
+    int getColumns() { return columns; }
+    int getRows() { return rows; }
+    int getCellStart(int cell) { return cellStart[cell]; }
+    int getCellEnd(int cell) { return cellStart[cell + 1]; }
+    int getCellItem(int item) { return cellItems[item]; }
+    GameObject getObject(int index) { return objects[index]; }
+    
+    boolean containsPoint(int index, float x, float y) {
+        int base = index * 4;
+        return x >= bounds[base] && x <= bounds[base + 2] && y >= bounds[base + 1] && y <= bounds[base + 3];
+    }
+
+    private boolean query(float x, float y, float width, float height, boolean sprite) {
+        if (objects.length == 0) return false;
+
+        float maxX = x + width;
+        float maxY = y + height;
+        int startX = Math.max(0, (int) Math.floor((x - originX) / cellSize));
+        int startY = Math.max(0, (int) Math.floor((y - originY) / cellSize));
+        int endX = Math.min(columns - 1, (int) Math.floor((maxX - originX) / cellSize));
+        int endY = Math.min(rows - 1, (int) Math.floor((maxY - originY) / cellSize));
+
+        // An object spanning several cells may be tested more than once; harmless for a yes/no answer
+        for (int cellY = startY; cellY <= endY; cellY++) {
+            for (int cellX = startX; cellX <= endX; cellX++) {
+                int cell = cellY * columns + cellX;
+                for (int i = cellStart[cell]; i < cellStart[cell + 1]; i++) {
+                    int index = cellItems[i];
+                    int base = index * 4;
+                    if (bounds[base] > maxX || bounds[base + 2] < x ||
+                        bounds[base + 1] > maxY || bounds[base + 3] < y) continue;
+
+                    Collidable collidable = (Collidable) objects[index];
+                    boolean hit = sprite
+                        ? collidable.checkSpriteCollision(x, y, width, height)
+                        : collidable.checkMovementCollision(x, y, width, height);
+                    if (hit) return true;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,96 @@
+package com.dodgingbullets.core;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Random;
+
+// Writes a large random binary level for exercising world streaming and its budgets:
+//   ./generate-stress-level.sh stress.lvl [--tiles N] [--entities N] [--seed S]
+// The map is N x N tiles (default 1000) of mixed floor, with the player in the middle and
+// entities scattered evenly over it. Of every ten: four foliage, two turrets, and one each of
+// bear, thrower, mortar and ammo crate. Play it with ./headless.sh stress.lvl
+public class StressLevelGenerator {
+    private static final String[] FLOORS = {
+        "floorgrey1.png", "floorgrey2.png", "floorgrey3.png", "floorgrey4.png", "floorgrey5.png", "floorgrey6.png"
+    };
+    private static final String[] FOLIAGE = {"palm_trees", "foliage"};
+    private static final Direction[] FACINGS = {Direction.LEFT, Direction.RIGHT};
+
+    public static byte[] generate(int tiles, int entities, long seed) {
+        Random random = new Random(seed);
+        BinaryLevel.Writer writer = new BinaryLevel.Writer();
+
+        TileGrid grid = new TileGrid(tiles, tiles, FLOORS[0]);
+        for (int y = 0; y < tiles; y++) {
+            for (int x = 0; x < tiles; x++) {
+                grid.setTile(x, y, FLOORS[random.nextInt(FLOORS.length)]);
+            }
+        }
+        writer.mapGrid(grid);
+
+        int size = tiles * ChunkedWorld.TILE_SIZE;
+        writer.player(size / 2, size / 2);
+        for (int i = 0; i < entities; i++) {
+            int x = 64 + random.nextInt(Math.max(1, size - 128));
+            int y = 64 + random.nextInt(Math.max(1, size - 128));
+            Direction facing = FACINGS[random.nextInt(FACINGS.length)];
+            switch (i % 10) {
+                case 0: case 1: case 2: case 3:
+                    writer.foliage(x, y, 96, 128, 40, 60, 40, 20, FOLIAGE[random.nextInt(FOLIAGE.length)], 0);
+                    break;
+                case 4: case 5:
+                    writer.turret(x, y, 100);
+                    break;
+                case 6:
+                    writer.bear(x, y, facing, 100, 150f);
+                    break;
+                case 7:
+                    writer.thrower(x, y, facing, 100, 120f);
+                    break;
+                case 8:
+                    writer.mortar(x, y, facing, 300f, 30, 2f);
+                    break;
+                default:
+                    writer.ammoPowerUp(x, y);
+                    break;
+            }
+        }
+        return writer.toByteArray();
+    }
+
+    public static void main(String[] args) throws IOException {
+        String output = null;
+        int tiles = 1000;
+        int entities = 50000;
+        long seed = 1;
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--tiles": tiles = Integer.parseInt(args[++i]); break;
+                    case "--entities": entities = Integer.parseInt(args[++i]); break;
+                    case "--seed": seed = Long.parseLong(args[++i]); break;
+                    default:
+                        if (args[i].startsWith("--")) {
+                            throw new IllegalArgumentException("Unknown option " + args[i]);
+                        }
+                        output = args[i];
+                }
+            }
+            if (output == null || tiles < 1 || entities < 0) {
+                throw new IllegalArgumentException("Need an output file, at least one tile and no negative entity count");
+            }
+        } catch (RuntimeException e) {
+            System.err.println(e.getMessage() != null ? e.getMessage() : "Missing option value");
+            System.err.println("Usage: StressLevelGenerator <out.lvl> [--tiles N] [--entities N] [--seed S]");
+            System.exit(1);
+        }
+
+        byte[] bytes = generate(tiles, entities, seed);
+        Path target = Paths.get(output);
+        Files.write(target, bytes);
+        System.out.println(tiles + "x" + tiles + " tiles, " + entities + " entities -> " + target + " (" + bytes.length + " bytes)");
+    }
+}
@@ -4,6 +4,12 @@ public class Texture {
     private int textureId;
     private int width;
     private int height;
+    // Part of the GL texture this covers; the whole of it unless this is a frame on an atlas page.
+    // (u0, v0) is the image's top-left corner
+    private float u0 = 0;
+    private float v0 = 0;
+    private float u1 = 1;
+    private float v1 = 1;
     
     public Texture(int textureId, int width, int height) {
         this.textureId = textureId;
@@ -11,7 +17,29 @@ public class Texture {
         this.height = height;
     }
     
+    // A width x height frame at (x, y) on an atlas page of pageWidth x pageHeight
+    public Texture(int textureId, int x, int y, int width, int height, int pageWidth, int pageHeight) {
+        this(textureId, width, height);
+        this.u0 = (float) x / pageWidth;
+        this.v0 = (float) y / pageHeight;
+        this.u1 = (float) (x + width) / pageWidth;
+        this.v1 = (float) (y + height) / pageHeight;
+    }
+    
+    // Explicit texture coordinates, e.g. a render target, whose top-left ends up at v = 1
+    public Texture(int textureId, int width, int height, float u0, float v0, float u1, float v1) {
+        this(textureId, width, height);
+        this.u0 = u0;
+        this.v0 = v0;
+        this.u1 = u1;
+        this.v1 = v1;
+    }
+    
     public int getTextureId() { return textureId; }
     public int getWidth() { return width; }
     public int getHeight() { return height; }
+    public float getU0() { return u0; }
+    public float getV0() { return v0; }
+    public float getU1() { return u1; }
+    public float getV1() { return v1; }
 }
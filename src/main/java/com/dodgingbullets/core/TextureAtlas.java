@@ -0,0 +1,87 @@
+package com.dodgingbullets.core;
+
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Builds atlas pages from decoded images and hands back one Texture per image, each covering its
+// region of a page. Images are copied in one at a time (addNext) and a page is uploaded as soon
+// as its last image is in, so a loader can spread the work over several frames. The images are
+// only read, so the caller still owns (and frees) them
+public class TextureAtlas {
+    public static final int PAGE_SIZE = 1024;
+    private static final int PADDING = 2;
+
+    private final List<String> keys;
+    private final List<ImageData> images;
+    private final List<AtlasPacker.Placement> placements;
+    private final ByteBuffer[] pages; // Filled as images are added, dropped once uploaded
+    private final int[] imagesLeft; // Per page, images not yet copied in
+    private final int[] pageIds;
+    private int added = 0;
+
+    public TextureAtlas(List<String> keys, List<ImageData> images) {
+        this.keys = keys;
+        this.images = images;
+        int[] widths = new int[images.size()];
+        int[] heights = new int[images.size()];
+        for (int i = 0; i < images.size(); i++) {
+            widths[i] = images.get(i).width;
+            heights[i] = images.get(i).height;
+        }
+        this.placements = new AtlasPacker(PAGE_SIZE, PADDING).pack(widths, heights);
+
+        int pageCount = AtlasPacker.pageCount(placements);
+        this.pages = new ByteBuffer[pageCount];
+        this.imagesLeft = new int[pageCount];
+        this.pageIds = new int[pageCount];
+        for (AtlasPacker.Placement placement : placements) {
+            imagesLeft[placement.page]++;
+        }
+    }
+
+    public boolean isComplete() {
+        return added == images.size();
+    }
+
+    // Copies the next image's rows into its page, then uploads the page if that was its last image
+    public void addNext(Renderer renderer) {
+        ImageData image = images.get(added);
+        AtlasPacker.Placement placement = placements.get(added);
+        added++;
+
+        int page = placement.page;
+        if (pages[page] == null) {
+            pages[page] = ByteBuffer.allocateDirect(PAGE_SIZE * PAGE_SIZE * 4);
+        }
+        int rowBytes = image.width * 4;
+        for (int row = 0; row < image.height; row++) {
+            ByteBuffer source = image.pixels.duplicate();
+            source.limit(row * rowBytes + rowBytes).position(row * rowBytes);
+            pages[page].position(((placement.y + row) * PAGE_SIZE + placement.x) * 4);
+            pages[page].put(source);
+        }
+
+        if (--imagesLeft[page] == 0) {
+            pages[page].clear();
+            pageIds[page] = renderer.createTexture(PAGE_SIZE, PAGE_SIZE, pages[page]).getTextureId();
+            pages[page] = null;
+        }
+        if (isComplete()) {
+            System.out.println("Packed " + keys.size() + " images onto " + pages.length + " atlas page(s)");
+        }
+    }
+
+    // Only once complete, when every page has its texture
+    public Map<String, Texture> getTextures() {
+        Map<String, Texture> textures = new HashMap<>();
+        for (int i = 0; i < keys.size(); i++) {
+            AtlasPacker.Placement placement = placements.get(i);
+            ImageData image = images.get(i);
+            textures.put(keys.get(i), new Texture(pageIds[placement.page], placement.x, placement.y,
+                                                  image.width, image.height, PAGE_SIZE, PAGE_SIZE));
+        }
+        return textures;
+    }
+}
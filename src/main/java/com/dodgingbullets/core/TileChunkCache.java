@@ -0,0 +1,178 @@
+package com.dodgingbullets.core;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// The background tiles baked into one render target per CHUNK_TILES x CHUNK_TILES block of the
+// map grid, so drawing the background is a few large quads per frame however big the map is.
+// Baking needs the GL thread, so chunks are baked as they come into view, for at most
+// TILE_BAKE_BUDGET_NANOS per frame; a frame with visible chunks still unbaked has its tiles
+// drawn one by one instead. Chunks more than WORLD_UNLOAD_MARGIN chunks out of view are freed, as
+// are the farthest off-screen ones past TILE_CHUNK_MEMORY_BUDGET_BYTES, so only the area around
+// the camera is ever held. Everything is dropped when a different grid or palette is passed in,
+// or the grid is edited
+public class TileChunkCache {
+    public static final int CHUNK_TILES = 8; // 1024 x 1024 texels with 128 px tiles
+
+    private final int tileSize;
+    private Texture[][] chunks; // [chunkY][chunkX], null until baked; edge chunks are only as big as the tiles they hold
+    private final List<int[]> baked = new ArrayList<>(); // {chunkX, chunkY} of every baked chunk
+    private long bakedBytes = 0;
+    private TileGrid bakedGrid;
+    private int bakedVersion;
+    private Texture[] bakedTiles;
+    private boolean supported = true;
+
+    public TileChunkCache(int tileSize) {
+        this.tileSize = tileSize;
+    }
+
+    // Draws the chunks that overlap the view, with tileTextures indexed by the grid's palette IDs
+    // (TileGrid.resolve). Returns false if the renderer can't bake chunks, or the view isn't all
+    // baked yet, leaving the caller to draw the tiles itself
+    public boolean render(Renderer renderer, TileGrid grid, Texture[] tileTextures, float cameraX, float cameraY) {
+        if (!supported) {
+            return false;
+        }
+        if (grid != bakedGrid || grid.getVersion() != bakedVersion || tileTextures != bakedTiles) {
+            release(renderer);
+            chunks = new Texture[(grid.getHeight() + CHUNK_TILES - 1) / CHUNK_TILES][(grid.getWidth() + CHUNK_TILES - 1) / CHUNK_TILES];
+            bakedGrid = grid;
+            bakedVersion = grid.getVersion();
+            bakedTiles = tileTextures;
+        }
+        if (chunks.length == 0 || chunks[0].length == 0) {
+            return true;
+        }
+
+        int chunkSize = tileSize * CHUNK_TILES;
+        int startChunkX = Math.max(0, (int) (cameraX / chunkSize));
+        int startChunkY = Math.max(0, (int) (cameraY / chunkSize));
+        int endChunkX = Math.min(chunks[0].length - 1, (int) ((cameraX + GameConfig.SCREEN_WIDTH) / chunkSize));
+        int endChunkY = Math.min(chunks.length - 1, (int) ((cameraY + GameConfig.SCREEN_HEIGHT) / chunkSize));
+
+        // At least one bake per frame, so a slow frame can't hold the background back for good
+        long deadline = System.nanoTime() + GameConfig.TILE_BAKE_BUDGET_NANOS;
+        boolean bakedAny = false;
+        boolean complete = true;
+        for (int chunkY = startChunkY; chunkY <= endChunkY; chunkY++) {
+            for (int chunkX = startChunkX; chunkX <= endChunkX; chunkX++) {
+                if (chunks[chunkY][chunkX] != null) {
+                    continue;
+                }
+                if (bakedAny && System.nanoTime() >= deadline) {
+                    complete = false;
+                    continue;
+                }
+                if (!bake(renderer, grid, tileTextures, chunkX, chunkY)) {
+                    System.err.println("Render targets unavailable, drawing background tiles individually");
+                    release(renderer);
+                    supported = false;
+                    return false;
+                }
+                bakedAny = true;
+            }
+        }
+        evict(renderer, startChunkX, startChunkY, endChunkX, endChunkY);
+        if (!complete) {
+            return false;
+        }
+
+        for (int chunkY = startChunkY; chunkY <= endChunkY; chunkY++) {
+            for (int chunkX = startChunkX; chunkX <= endChunkX; chunkX++) {
+                Texture chunk = chunks[chunkY][chunkX];
+                renderer.render(chunk, chunkX * chunkSize - cameraX, chunkY * chunkSize - cameraY, chunk.getWidth(), chunk.getHeight());
+            }
+        }
+        return true;
+    }
+
+    public void release(Renderer renderer) {
+        for (int[] chunk : baked) {
+            renderer.deleteTexture(chunks[chunk[1]][chunk[0]]);
+        }
+        baked.clear();
+        bakedBytes = 0;
+        chunks = null;
+        bakedGrid = null;
+        bakedTiles = null;
+    }
+
+    public int getBakedChunkCount() {
+        return baked.size();
+    }
+
+    private boolean bake(Renderer renderer, TileGrid grid, Texture[] tileTextures, int chunkX, int chunkY) {
+        int firstColumn = chunkX * CHUNK_TILES;
+        int firstRow = chunkY * CHUNK_TILES;
+        int chunkColumns = Math.min(CHUNK_TILES, grid.getWidth() - firstColumn);
+        int chunkRows = Math.min(CHUNK_TILES, grid.getHeight() - firstRow);
+
+        Texture chunk = renderer.createRenderTarget(chunkColumns * tileSize, chunkRows * tileSize);
+        if (chunk == null) {
+            return false;
+        }
+        chunks[chunkY][chunkX] = chunk;
+        baked.add(new int[] {chunkX, chunkY});
+        bakedBytes += textureBytes(chunk);
+
+        renderer.beginRenderTarget(chunk);
+        for (int row = 0; row < chunkRows; row++) {
+            for (int column = 0; column < chunkColumns; column++) {
+                Texture tileTexture = tileTextures[grid.getTileId(firstColumn + column, firstRow + row)];
+                if (tileTexture != null) {
+                    renderer.render(tileTexture, column * tileSize, row * tileSize, tileSize, tileSize);
+                }
+            }
+        }
+        renderer.endRenderTarget();
+        return true;
+    }
+
+    // Frees chunks past the unload margin, then the farthest off-screen ones while over budget
+    private void evict(Renderer renderer, int startChunkX, int startChunkY, int endChunkX, int endChunkY) {
+        int margin = GameConfig.WORLD_UNLOAD_MARGIN;
+        for (int i = baked.size() - 1; i >= 0; i--) {
+            int[] chunk = baked.get(i);
+            if (chunk[0] < startChunkX - margin || chunk[0] > endChunkX + margin ||
+                chunk[1] < startChunkY - margin || chunk[1] > endChunkY + margin) {
+                free(renderer, i);
+            }
+        }
+
+        float centreX = (startChunkX + endChunkX) / 2f;
+        float centreY = (startChunkY + endChunkY) / 2f;
+        while (bakedBytes > GameConfig.TILE_CHUNK_MEMORY_BUDGET_BYTES) {
+            int farthest = -1;
+            float farthestDistance = -1;
+            for (int i = 0; i < baked.size(); i++) {
+                int[] chunk = baked.get(i);
+                boolean visible = chunk[0] >= startChunkX && chunk[0] <= endChunkX && chunk[1] >= startChunkY && chunk[1] <= endChunkY;
+                float distance = Math.abs(chunk[0] - centreX) + Math.abs(chunk[1] - centreY);
+                if (!visible && distance > farthestDistance) {
+                    farthest = i;
+                    farthestDistance = distance;
+                }
+            }
+            if (farthest < 0) {
+                return; // Only visible chunks left
+            }
+            free(renderer, farthest);
+        }
+    }
+
+    // Swap-removes baked.get(index) and deletes its texture
+    private void free(Renderer renderer, int index) {
+        int[] chunk = baked.get(index);
+        Texture texture = chunks[chunk[1]][chunk[0]];
+        renderer.deleteTexture(texture);
+        bakedBytes -= textureBytes(texture);
+        chunks[chunk[1]][chunk[0]] = null;
+        baked.set(index, baked.get(baked.size() - 1));
+        baked.remove(baked.size() - 1);
+    }
+
+    private static long textureBytes(Texture texture) {
+        return (long) texture.getWidth() * texture.getHeight() * 4;
+    }
+}
@@ -0,0 +1,180 @@
+package com.dodgingbullets.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// The map's floor tiles as a packed row-major short[] of palette IDs, plus the palette that maps
+// each ID to its tile image name. Every distinct name is stored once however many tiles use it,
+// and renderers resolve the palette to textures once (resolve) and then index by ID.
+// Row 0 is the bottom of the map, as in the mapGrid JSON
+public class TileGrid {
+    // Builds a grid one tile name at a time, row by row, for parsers that don't know the size up
+    // front. The first row sets the width; later rows are cut or padded with their last tile to fit
+    public static class Builder {
+        private final TileGrid palette = new TileGrid(0, 0, new short[0]); // Only its palette is used
+        private short[] tiles = new short[256];
+        private int count = 0;
+        private int rowStart = 0;
+        private int width = -1;
+
+        public void add(String name) {
+            if (width >= 0 && count - rowStart == width) {
+                return;
+            }
+            if (count == tiles.length) {
+                tiles = Arrays.copyOf(tiles, count * 2);
+            }
+            tiles[count++] = palette.idFor(name);
+        }
+
+        public void endRow() {
+            if (width < 0) {
+                width = count;
+            }
+            while (count > rowStart && count - rowStart < width) {
+                add(palette.getPaletteName(tiles[count - 1]));
+            }
+            rowStart = count;
+        }
+
+        // Nothing added yet; there is no grid to build
+        public boolean isEmpty() {
+            return count == 0;
+        }
+
+        public TileGrid build() {
+            TileGrid grid = new TileGrid(width, count / width, Arrays.copyOf(tiles, count));
+            for (String name : palette.palette) {
+                grid.idFor(name);
+            }
+            return grid;
+        }
+    }
+
+    private final int width;
+    private final int height;
+    private final short[] tiles;
+    private final List<String> palette = new ArrayList<>();
+    private final Map<String, Short> ids = new HashMap<>();
+    private int version = 0; // Bumped on every edit so cached drawings of the grid can tell they are stale
+
+    public TileGrid(int width, int height, String fill) {
+        this(width, height, new short[width * height]);
+        Arrays.fill(tiles, idFor(fill));
+    }
+
+    private TileGrid(int width, int height, short[] tiles) {
+        this.width = width;
+        this.height = height;
+        this.tiles = tiles;
+    }
+
+    // From already packed palette IDs (a saved grid), taking ownership of ids
+    public static TileGrid fromIds(int width, int height, short[] ids, List<String> palette) {
+        if (ids.length != width * height) {
+            throw new IllegalArgumentException("Tile grid " + width + "x" + height + " needs " + (width * height) + " tiles, got " + ids.length);
+        }
+        TileGrid grid = new TileGrid(width, height, ids);
+        for (String name : palette) {
+            grid.idFor(name);
+        }
+        for (short id : ids) {
+            if (id < 0 || id >= grid.palette.size()) {
+                throw new IllegalArgumentException("Tile ID " + id + " is outside the palette of " + grid.palette.size());
+            }
+        }
+        return grid;
+    }
+
+    // From rows of tile names (the JSON and editor layout); short rows are padded with their last tile
+    public static TileGrid of(String[][] names) {
+        TileGrid grid = new TileGrid(names[0].length, names.length, names[0][0]);
+        for (int y = 0; y < names.length; y++) {
+            for (int x = 0; x < grid.width; x++) {
+                grid.setTile(x, y, names[y][Math.min(x, names[y].length - 1)]);
+            }
+        }
+        grid.version = 0;
+        return grid;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public int getTileId(int x, int y) {
+        return tiles[y * width + x];
+    }
+
+    public String getTileName(int x, int y) {
+        return palette.get(tiles[y * width + x]);
+    }
+
+    public int getPaletteSize() {
+        return palette.size();
+    }
+
+    public String getPaletteName(int id) {
+        return palette.get(id);
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    public void setTile(int x, int y, String name) {
+        tiles[y * width + x] = idFor(name);
+        version++;
+    }
+
+    // Texture for each palette ID (null where textures has none), so drawing a tile is an array index
+    public Texture[] resolve(Map<String, Texture> textures) {
+        Texture[] resolved = new Texture[palette.size()];
+        for (int id = 0; id < resolved.length; id++) {
+            resolved[id] = textures.get(palette.get(id));
+        }
+        return resolved;
+    }
+
+    // A copy grown or shrunk to the new size, keeping the tiles that still fit and filling the rest
+    public TileGrid resize(int newWidth, int newHeight, String fill) {
+        TileGrid resized = new TileGrid(newWidth, newHeight, fill);
+        for (int y = 0; y < Math.min(height, newHeight); y++) {
+            for (int x = 0; x < Math.min(width, newWidth); x++) {
+                resized.setTile(x, y, getTileName(x, y));
+            }
+        }
+        return resized;
+    }
+
+    // Rows of tile names, for saving as JSON
+    public String[][] toNames() {
+        String[][] names = new String[height][width];
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                names[y][x] = getTileName(x, y);
+            }
+        }
+        return names;
+    }
+
+    private short idFor(String name) {
+        Short id = ids.get(name);
+        if (id == null) {
+            if (palette.size() > Short.MAX_VALUE) {
+                throw new RuntimeException("Too many distinct tiles in map (max " + (Short.MAX_VALUE + 1) + ")");
+            }
+            id = (short) palette.size();
+            palette.add(name);
+            ids.put(name, id);
+        }
+        return id;
+    }
+}
@@ -4,6 +4,12 @@ public class Vec2 {
     private final float x;
     private final float y;
     
+    // Unit directions, shared since a Vec2 never changes
+    public static final Vec2 RIGHT = new Vec2(1, 0);
+    public static final Vec2 LEFT = new Vec2(-1, 0);
+    public static final Vec2 UP = new Vec2(0, 1);
+    public static final Vec2 DOWN = new Vec2(0, -1);
+    
     public Vec2(float x, float y) {
         this.x = x;
         this.y = y;
@@ -30,6 +36,11 @@ public class Vec2 {
         return (float) Math.sqrt(dx * dx + dy * dy);
     }
     
+    // Same as distance(new Vec2(0, 0)) without the allocation
+    public float length() {
+        return (float) Math.sqrt(x * x + y * y);
+    }
+    
     public double angle() {
         return Math.atan2(y, x);
     }
@@ -41,6 +52,23 @@ public class Vec2 {
         );
     }
     
+    // Float-pair helpers for hot paths that should not allocate
+    public static float length(float x, float y) {
+        return (float) Math.sqrt(x * x + y * y);
+    }
+    
+    public static float distance(float x1, float y1, float x2, float y2) {
+        float dx = x1 - x2;
+        float dy = y1 - y2;
+        return (float) Math.sqrt(dx * dx + dy * dy);
+    }
+    
+    public static float distanceSq(float x1, float y1, float x2, float y2) {
+        float dx = x1 - x2;
+        float dy = y1 - y2;
+        return dx * dx + dy * dy;
+    }
+    
     public static Vec2 fromAngle(double angle, float magnitude) {
         return new Vec2(
             (float) (Math.cos(angle) * magnitude),
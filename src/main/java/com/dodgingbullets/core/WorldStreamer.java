@@ -0,0 +1,441 @@
+package com.dodgingbullets.core;
+
+import com.dodgingbullets.gameobjects.Damageable;
+import com.dodgingbullets.gameobjects.GameObject;
+import com.dodgingbullets.gameobjects.environment.AmmoPowerUp;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+// Keeps the chunks of a ChunkedWorld around the camera resident: their objects are in GameLoop's
+// lists, so they are updated, collided with and drawn, and everything else costs nothing per tick.
+// A background thread creates the objects for chunks coming into range; the game thread adds
+// each one WORLD_STREAM_JOIN_DELAY_TICKS ticks after asking for it (waiting for the thread if it
+// isn't done yet), at most WORLD_STREAM_CHUNKS_PER_TICK per tick. Joins are counted in ticks
+// rather than timed, so a run plays out the same however fast the machine is. Chunks load within
+// WORLD_LOAD_MARGIN chunks of the view and unload past WORLD_UNLOAD_MARGIN, so walking back and
+// forth over a chunk edge doesn't reload anything. Past WORLD_MEMORY_BUDGET_BYTES (an estimate
+// from the number of resident objects) the farthest chunks out of view are unloaded early, and
+// no more off-screen chunks are loaded until there is room.
+// Enemies belong to the chunk they stand in: each tick those that crossed into another resident
+// chunk move over to it, and a chunk out of range stays resident while one of its live enemies is
+// still within the load margin, so nothing chasing the player vanishes behind it. On unload,
+// destroyed enemies and collected pickups are remembered and won't spawn again; live enemies are
+// parked in their placement as they are (health, AI state, position) and come back that way.
+// Foliage and untouched pickups respawn where the level placed them. Worlds that aren't streamed
+// load every chunk up front
+public class WorldStreamer {
+    private static final long ESTIMATED_OBJECT_BYTES = 512; // Object, its list slots and grid entries
+
+    private static final class LoadedChunk {
+        final ChunkedWorld.Chunk chunk;
+        final List<GameObject> objects;
+        final List<ChunkedWorld.Placement> spawnedFrom;
+
+        LoadedChunk(ChunkedWorld.Chunk chunk, List<GameObject> objects, List<ChunkedWorld.Placement> spawnedFrom) {
+            this.chunk = chunk;
+            this.objects = objects;
+            this.spawnedFrom = spawnedFrom;
+        }
+    }
+
+    private static final class PendingChunk {
+        final ChunkedWorld.Chunk chunk;
+        final Future<LoadedChunk> result;
+        final long joinTick;
+
+        PendingChunk(ChunkedWorld.Chunk chunk, Future<LoadedChunk> result, long joinTick) {
+            this.chunk = chunk;
+            this.result = result;
+            this.joinTick = joinTick;
+        }
+    }
+
+    private final ChunkedWorld world;
+    private final List<GameObject> gameObjects;
+    private final List<GameObject> foliages;
+    private final List<GameObject> pickups;
+    private final Consumer<GameObject> onSpawn;
+    private final Consumer<GameObject> onDespawn;
+
+    private final List<ChunkedWorld.Chunk> resident = new ArrayList<>();
+    private final ArrayDeque<PendingChunk> pending = new ArrayDeque<>(); // In request order, so also join order
+    private final List<ChunkedWorld.Chunk> wanted = new ArrayList<>();
+    private ExecutorService worker; // Started with the first request; unstreamed worlds never need it
+    private long tick = 0;
+
+    // Chunk range the view covered when the resident set was last checked
+    private int viewMinX = -1, viewMinY = -1, viewMaxX = -1, viewMaxY = -1;
+    private int loadingCount = 0;
+    private long residentObjects = 0;
+    private long loadingObjects = 0;
+    private int version = 0;
+    private long chunksLoaded = 0;
+    private long chunksUnloaded = 0;
+
+    // Objects of chunks that load go into the three lists (by placement layer), then to onSpawn;
+    // objects of chunks that unload go to onDespawn, then leave the lists
+    public WorldStreamer(ChunkedWorld world, List<GameObject> gameObjects, List<GameObject> foliages,
+                         List<GameObject> pickups, Consumer<GameObject> onSpawn, Consumer<GameObject> onDespawn) {
+        this.world = world;
+        this.gameObjects = gameObjects;
+        this.foliages = foliages;
+        this.pickups = pickups;
+        this.onSpawn = onSpawn;
+        this.onDespawn = onDespawn;
+    }
+
+    // Loads the chunks in range of the view right away, for the first tick of a session. Objects
+    // join the lists in level order, as if the whole level had been loaded
+    public void loadAround(float cameraX, float cameraY) {
+        List<LoadedChunk> chunks = new ArrayList<>();
+        List<ChunkedWorld.Placement> order = new ArrayList<>();
+        long objectCount = 0;
+        for (ChunkedWorld.Chunk chunk : chunksToLoad(cameraX, cameraY)) {
+            if (world.isStreamed() && !withinBudget(chunk, objectCount + chunk.placements.size())) {
+                continue;
+            }
+            objectCount += chunk.placements.size();
+            LoadedChunk loadedChunk = spawn(chunk);
+            chunks.add(loadedChunk);
+            order.addAll(loadedChunk.spawnedFrom);
+        }
+        IdentityHashMap<ChunkedWorld.Placement, GameObject> objects = new IdentityHashMap<>();
+        for (LoadedChunk loadedChunk : chunks) {
+            for (int i = 0; i < loadedChunk.objects.size(); i++) {
+                objects.put(loadedChunk.spawnedFrom.get(i), loadedChunk.objects.get(i));
+            }
+            markResident(loadedChunk);
+        }
+        order.sort(Comparator.comparingInt(placement -> placement.sequence));
+        for (ChunkedWorld.Placement placement : order) {
+            add(placement.layer, objects.get(placement));
+        }
+        for (ChunkedWorld.Placement placement : order) {
+            onSpawn.accept(objects.get(placement));
+        }
+        version++;
+    }
+
+    // Once per tick, after the camera moves. Returns true when objects joined or left the lists
+    public boolean update(float cameraX, float cameraY) {
+        if (!world.isStreamed()) {
+            return false;
+        }
+        int startVersion = version;
+        tick++;
+
+        refile();
+        boolean viewChanged = updateView(cameraX, cameraY);
+        for (int i = resident.size() - 1; i >= 0; i--) {
+            ChunkedWorld.Chunk chunk = resident.get(i);
+            if (!inRange(chunk, GameConfig.WORLD_UNLOAD_MARGIN) && !holdsLiveEnemy(chunk, GameConfig.WORLD_LOAD_MARGIN)) {
+                unload(i);
+            }
+        }
+        if (viewChanged) {
+            requestLoads(cameraX, cameraY);
+        }
+
+        int joined = 0;
+        while (!pending.isEmpty() && pending.peek().joinTick <= tick && joined < GameConfig.WORLD_STREAM_CHUNKS_PER_TICK) {
+            PendingChunk request = pending.poll();
+            loadingCount--;
+            loadingObjects -= request.chunk.placements.size();
+            if (inRange(request.chunk, GameConfig.WORLD_UNLOAD_MARGIN)) {
+                join(await(request.result));
+                joined++;
+            } else {
+                request.chunk.state = ChunkedWorld.Chunk.State.COLD; // Left range while loading
+            }
+        }
+
+        enforceMemoryBudget(cameraX, cameraY);
+        return version != startVersion;
+    }
+
+    // Stops the background thread; chunks still loading are dropped
+    public void shutdown() {
+        if (worker != null) {
+            worker.shutdownNow();
+        }
+    }
+
+    // Bumped whenever objects join or leave the lists, for caches built over them (GameRenderer)
+    public int getVersion() {
+        return version;
+    }
+
+    public int getResidentChunkCount() {
+        return resident.size();
+    }
+
+    public long getResidentBytes() {
+        return residentObjects * ESTIMATED_OBJECT_BYTES;
+    }
+
+    @Override
+    public String toString() {
+        return "World: " + resident.size() + " of " + world.getChunkCount() + " chunks resident (" + residentObjects +
+               " objects, ~" + (getResidentBytes() >> 10) + " KB), " + loadingCount + " loading, " +
+               chunksLoaded + " loaded, " + chunksUnloaded + " unloaded";
+    }
+
+    // Records the view's chunk range; false if it hasn't changed
+    private boolean updateView(float cameraX, float cameraY) {
+        int minX = ChunkedWorld.chunkIndex(cameraX, world.getChunksX());
+        int minY = ChunkedWorld.chunkIndex(cameraY, world.getChunksY());
+        int maxX = ChunkedWorld.chunkIndex(cameraX + GameConfig.SCREEN_WIDTH, world.getChunksX());
+        int maxY = ChunkedWorld.chunkIndex(cameraY + GameConfig.SCREEN_HEIGHT, world.getChunksY());
+        if (minX == viewMinX && minY == viewMinY && maxX == viewMaxX && maxY == viewMaxY) {
+            return false;
+        }
+        viewMinX = minX;
+        viewMinY = minY;
+        viewMaxX = maxX;
+        viewMaxY = maxY;
+        return true;
+    }
+
+    private boolean inRange(ChunkedWorld.Chunk chunk, int margin) {
+        return chunk.x >= viewMinX - margin && chunk.x <= viewMaxX + margin &&
+               chunk.y >= viewMinY - margin && chunk.y <= viewMaxY + margin;
+    }
+
+    private boolean inView(ChunkedWorld.Chunk chunk) {
+        return inRange(chunk, 0);
+    }
+
+    // Cold chunks within the load margin, nearest the view centre first (every chunk if unstreamed)
+    private List<ChunkedWorld.Chunk> chunksToLoad(float cameraX, float cameraY) {
+        wanted.clear();
+        if (!world.isStreamed()) {
+            for (int y = 0; y < world.getChunksY(); y++) {
+                for (int x = 0; x < world.getChunksX(); x++) {
+                    wanted.add(world.getChunk(x, y));
+                }
+            }
+            return wanted;
+        }
+
+        updateView(cameraX, cameraY);
+        int margin = GameConfig.WORLD_LOAD_MARGIN;
+        for (int y = Math.max(0, viewMinY - margin); y <= Math.min(world.getChunksY() - 1, viewMaxY + margin); y++) {
+            for (int x = Math.max(0, viewMinX - margin); x <= Math.min(world.getChunksX() - 1, viewMaxX + margin); x++) {
+                ChunkedWorld.Chunk chunk = world.getChunk(x, y);
+                if (chunk.state == ChunkedWorld.Chunk.State.COLD) {
+                    wanted.add(chunk);
+                }
+            }
+        }
+        float centreX = (cameraX + GameConfig.SCREEN_WIDTH / 2) / ChunkedWorld.CHUNK_SIZE - 0.5f;
+        float centreY = (cameraY + GameConfig.SCREEN_HEIGHT / 2) / ChunkedWorld.CHUNK_SIZE - 0.5f;
+        wanted.sort(Comparator.comparingDouble(chunk -> Math.abs(chunk.x - centreX) + Math.abs(chunk.y - centreY)));
+        return wanted;
+    }
+
+    private void requestLoads(float cameraX, float cameraY) {
+        for (ChunkedWorld.Chunk chunk : chunksToLoad(cameraX, cameraY)) {
+            if (!withinBudget(chunk, residentObjects + loadingObjects + chunk.placements.size())) {
+                continue;
+            }
+            chunk.state = ChunkedWorld.Chunk.State.LOADING;
+            loadingCount++;
+            loadingObjects += chunk.placements.size();
+            if (worker == null) {
+                startWorker();
+            }
+            pending.add(new PendingChunk(chunk, worker.submit(() -> spawn(chunk)), tick + GameConfig.WORLD_STREAM_JOIN_DELAY_TICKS));
+        }
+    }
+
+    // Chunks in view always load; the margin only while the budget has room for objectCount objects
+    private boolean withinBudget(ChunkedWorld.Chunk chunk, long objectCount) {
+        return inView(chunk) || objectCount * ESTIMATED_OBJECT_BYTES <= GameConfig.WORLD_MEMORY_BUDGET_BYTES;
+    }
+
+    private void startWorker() {
+        worker = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "world-streamer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // The chunk's objects, blocking if the worker hasn't got to them yet
+    private static LoadedChunk await(Future<LoadedChunk> result) {
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for a chunk to load", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            throw cause instanceof RuntimeException ? (RuntimeException) cause : new RuntimeException(cause);
+        }
+    }
+
+    // Creates the chunk's objects; runs on the worker thread and touches nothing the game thread owns
+    private static LoadedChunk spawn(ChunkedWorld.Chunk chunk) {
+        List<GameObject> objects = new ArrayList<>(chunk.placements.size());
+        List<ChunkedWorld.Placement> spawnedFrom = new ArrayList<>(chunk.placements.size());
+        for (ChunkedWorld.Placement placement : chunk.placements) {
+            if (!placement.gone) {
+                objects.add(placement.spawn());
+                spawnedFrom.add(placement);
+            }
+        }
+        return new LoadedChunk(chunk, objects, spawnedFrom);
+    }
+
+    private void join(LoadedChunk loadedChunk) {
+        markResident(loadedChunk);
+        for (int i = 0; i < loadedChunk.objects.size(); i++) {
+            add(loadedChunk.spawnedFrom.get(i).layer, loadedChunk.objects.get(i));
+        }
+        for (GameObject object : loadedChunk.objects) {
+            onSpawn.accept(object);
+        }
+        version++;
+    }
+
+    private void markResident(LoadedChunk loadedChunk) {
+        ChunkedWorld.Chunk chunk = loadedChunk.chunk;
+        chunk.objects = loadedChunk.objects;
+        chunk.spawnedFrom = loadedChunk.spawnedFrom;
+        chunk.state = ChunkedWorld.Chunk.State.RESIDENT;
+        resident.add(chunk);
+        residentObjects += chunk.objects.size();
+        chunksLoaded++;
+    }
+
+    private void add(ChunkedWorld.Layer layer, GameObject object) {
+        switch (layer) {
+            case FOLIAGE: foliages.add(object); break;
+            case PICKUP: pickups.add(object); break;
+            default: gameObjects.add(object); break;
+        }
+    }
+
+    // Moves each live enemy standing in another resident chunk over to that chunk
+    private void refile() {
+        for (int c = 0; c < resident.size(); c++) {
+            ChunkedWorld.Chunk chunk = resident.get(c);
+            for (int i = chunk.objects.size() - 1; i >= 0; i--) {
+                GameObject object = chunk.objects.get(i);
+                if (chunk.spawnedFrom.get(i).layer != ChunkedWorld.Layer.OBJECT || isGone(object)) {
+                    continue;
+                }
+                ChunkedWorld.Chunk target = world.chunkAt(object.getX(), object.getY());
+                if (target != chunk && target.state == ChunkedWorld.Chunk.State.RESIDENT) {
+                    moveObject(chunk, i, target);
+                }
+            }
+        }
+    }
+
+    // True if one of the chunk's live enemies stands within margin chunks of the view
+    private boolean holdsLiveEnemy(ChunkedWorld.Chunk chunk, int margin) {
+        for (int i = 0; i < chunk.objects.size(); i++) {
+            GameObject object = chunk.objects.get(i);
+            if (chunk.spawnedFrom.get(i).layer == ChunkedWorld.Layer.OBJECT && !isGone(object) &&
+                inRange(world.chunkAt(object.getX(), object.getY()), margin)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isGone(GameObject object) {
+        return !object.isActive() || (object instanceof Damageable && ((Damageable) object).isDestroyed()) ||
+               (object instanceof AmmoPowerUp && ((AmmoPowerUp) object).isCollected());
+    }
+
+    // Swap-removes chunk's object at index, with its placement, and files both under target
+    private static void moveObject(ChunkedWorld.Chunk chunk, int index, ChunkedWorld.Chunk target) {
+        GameObject object = chunk.objects.get(index);
+        ChunkedWorld.Placement placement = chunk.spawnedFrom.get(index);
+        int last = chunk.objects.size() - 1;
+        chunk.objects.set(index, chunk.objects.get(last));
+        chunk.objects.remove(last);
+        chunk.spawnedFrom.set(index, chunk.spawnedFrom.get(last));
+        chunk.spawnedFrom.remove(last);
+        chunk.placements.remove(placement);
+        target.objects.add(object);
+        target.spawnedFrom.add(placement);
+        target.placements.add(placement);
+    }
+
+    // Swap-removes resident.get(index)
+    private void unload(int index) {
+        ChunkedWorld.Chunk chunk = resident.get(index);
+        resident.set(index, resident.get(resident.size() - 1));
+        resident.remove(resident.size() - 1);
+
+        Set<GameObject> leaving = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int i = chunk.objects.size() - 1; i >= 0; i--) {
+            GameObject object = chunk.objects.get(i);
+            ChunkedWorld.Placement placement = chunk.spawnedFrom.get(i);
+            if (isGone(object)) {
+                placement.gone = true;
+                placement.parked = null;
+            } else if (placement.layer == ChunkedWorld.Layer.OBJECT) {
+                ChunkedWorld.Chunk target = world.chunkAt(object.getX(), object.getY());
+                if (target != chunk && target.state == ChunkedWorld.Chunk.State.RESIDENT) {
+                    moveObject(chunk, i, target); // Stays live where it now stands
+                    continue;
+                }
+                placement.parked = object;
+                if (target != chunk && target.state == ChunkedWorld.Chunk.State.COLD) {
+                    // A loading chunk's placements are being read on the worker, so those stay put
+                    chunk.placements.remove(placement);
+                    target.placements.add(placement);
+                }
+            }
+            onDespawn.accept(object);
+            leaving.add(object);
+        }
+        gameObjects.removeAll(leaving);
+        foliages.removeAll(leaving);
+        pickups.removeAll(leaving);
+
+        residentObjects -= leaving.size();
+        chunk.objects = null;
+        chunk.spawnedFrom = null;
+        chunk.state = ChunkedWorld.Chunk.State.COLD;
+        chunksUnloaded++;
+        version++;
+    }
+
+    // Drops the farthest off-screen chunks until the estimate is back under budget
+    private void enforceMemoryBudget(float cameraX, float cameraY) {
+        float centreX = (cameraX + GameConfig.SCREEN_WIDTH / 2) / ChunkedWorld.CHUNK_SIZE - 0.5f;
+        float centreY = (cameraY + GameConfig.SCREEN_HEIGHT / 2) / ChunkedWorld.CHUNK_SIZE - 0.5f;
+        while (getResidentBytes() > GameConfig.WORLD_MEMORY_BUDGET_BYTES) {
+            int farthest = -1;
+            float farthestDistance = -1;
+            for (int i = 0; i < resident.size(); i++) {
+                ChunkedWorld.Chunk chunk = resident.get(i);
+                float distance = Math.abs(chunk.x - centreX) + Math.abs(chunk.y - centreY);
+                if (!inView(chunk) && !holdsLiveEnemy(chunk, 0) && distance > farthestDistance) {
+                    farthest = i;
+                    farthestDistance = distance;
+                }
+            }
+            if (farthest < 0) {
+                return; // Everything left is on screen
+            }
+            unload(farthest);
+        }
+    }
+}
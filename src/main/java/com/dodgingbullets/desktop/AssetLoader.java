@@ -0,0 +1,176 @@
+package com.dodgingbullets.desktop;
+
+import com.dodgingbullets.core.ImageData;
+import com.dodgingbullets.core.LoadingState;
+import com.dodgingbullets.core.Renderer;
+import com.dodgingbullets.core.Texture;
+import com.dodgingbullets.core.TextureAtlas;
+import org.lwjgl.stb.STBImage;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+// Decodes PNGs on a pool of worker threads (one per core) as soon as they are requested, and
+// turns them into textures on the GL thread when uploadPending is called. Each request's
+// callback runs on the GL thread once its texture (or whole atlas) is ready. An atlas is built
+// an image at a time, so it may take several calls and still stays within the budget
+public class AssetLoader implements LoadingState.Task {
+    private static class Job {
+        final List<String> keys;
+        final List<Future<ImageData>> images;
+        final Consumer<Map<String, Texture>> atlasCallback; // Exactly one of these is set
+        final Consumer<Texture> textureCallback;
+        List<ImageData> decoded; // Set on the first upload call
+        TextureAtlas atlas; // For atlas jobs, from the first upload call until it completes
+
+        Job(List<String> keys, List<Future<ImageData>> images,
+            Consumer<Map<String, Texture>> atlasCallback, Consumer<Texture> textureCallback) {
+            this.keys = keys;
+            this.images = images;
+            this.atlasCallback = atlasCallback;
+            this.textureCallback = textureCallback;
+        }
+
+        boolean isDecoded() {
+            for (Future<ImageData> image : images) {
+                if (!image.isDone()) return false;
+            }
+            return true;
+        }
+    }
+
+    private final Renderer renderer;
+    private final ExecutorService workers;
+    private final List<Job> pending = new ArrayList<>();
+    private final AtomicInteger decodedImages = new AtomicInteger();
+    private int totalImages = 0;
+    private int uploadedImages = 0;
+
+    public AssetLoader(Renderer renderer) {
+        this.renderer = renderer;
+        this.workers = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), runnable -> {
+            Thread thread = new Thread(runnable, "asset-decoder");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void load(String path, Consumer<Texture> onLoaded) {
+        List<String> keys = new ArrayList<>();
+        keys.add(path);
+        pending.add(new Job(keys, decodeAll(keys, key -> key), null, onLoaded));
+    }
+
+    // Every image ends up on a shared atlas page (TextureAtlas), keyed as given
+    public void loadAtlas(Map<String, String> pathsByKey, Consumer<Map<String, Texture>> onLoaded) {
+        List<String> keys = new ArrayList<>(pathsByKey.keySet());
+        pending.add(new Job(keys, decodeAll(keys, pathsByKey::get), onLoaded, null));
+    }
+
+    @Override
+    public void uploadPending(long budgetNanos) {
+        long deadline = System.nanoTime() + budgetNanos;
+        // Upload whatever has finished decoding, in any order; at least one image per call
+        Iterator<Job> jobs = pending.iterator();
+        while (jobs.hasNext()) {
+            Job job = jobs.next();
+            if (!job.isDecoded()) {
+                continue;
+            }
+            if (upload(job, deadline)) {
+                jobs.remove();
+            }
+            if (System.nanoTime() >= deadline) {
+                break;
+            }
+        }
+    }
+
+    @Override
+    public float getProgress() {
+        if (totalImages == 0) {
+            return 1;
+        }
+        // Decoding and uploading each count for half
+        return (decodedImages.get() + uploadedImages) / (2.0f * totalImages);
+    }
+
+    @Override
+    public boolean isDone() {
+        return pending.isEmpty();
+    }
+
+    public void shutdown() {
+        workers.shutdown();
+    }
+
+    private List<Future<ImageData>> decodeAll(List<String> keys, Function<String, String> pathForKey) {
+        List<Future<ImageData>> images = new ArrayList<>();
+        for (String key : keys) {
+            String path = pathForKey.apply(key);
+            images.add(workers.submit(() -> {
+                ImageData image = DesktopRenderer.decode(path);
+                decodedImages.incrementAndGet();
+                return image;
+            }));
+        }
+        totalImages += keys.size();
+        return images;
+    }
+
+    // Returns true once the job is fully uploaded and its callback has run
+    private boolean upload(Job job, long deadline) {
+        try {
+            if (job.decoded == null) {
+                job.decoded = new ArrayList<>();
+                for (Future<ImageData> image : job.images) {
+                    job.decoded.add(image.get());
+                }
+                if (job.atlasCallback != null) {
+                    job.atlas = new TextureAtlas(job.keys, job.decoded);
+                }
+            }
+            if (job.textureCallback != null) {
+                ImageData image = job.decoded.get(0);
+                job.textureCallback.accept(renderer.createTexture(image.width, image.height, image.pixels));
+                uploadedImages++;
+                return true;
+            }
+            while (!job.atlas.isComplete()) {
+                job.atlas.addNext(renderer);
+                uploadedImages++;
+                if (System.nanoTime() >= deadline) {
+                    break;
+                }
+            }
+            if (!job.atlas.isComplete()) {
+                return false;
+            }
+            job.atlasCallback.accept(job.atlas.getTextures());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while loading " + job.keys, e);
+        } catch (ExecutionException e) {
+            // Decoding failed on a worker; fail the same way a direct loadTexture would
+            Throwable cause = e.getCause();
+            throw cause instanceof RuntimeException ? (RuntimeException) cause : new RuntimeException(cause);
+        } finally {
+            // An unfinished atlas still reads its images on the next call
+            if (job.atlas == null || job.atlas.isComplete()) {
+                for (ImageData image : job.decoded) {
+                    STBImage.stbi_image_free(image.pixels);
+                }
+            }
+        }
+    }
+}
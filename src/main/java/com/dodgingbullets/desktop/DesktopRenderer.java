@@ -1,21 +1,28 @@
 package com.dodgingbullets.desktop;
 
+import com.dodgingbullets.core.ImageData;
 import com.dodgingbullets.core.Renderer;
 import com.dodgingbullets.core.Texture;
 import org.lwjgl.BufferUtils;
 import org.lwjgl.opengl.GL;
+import org.lwjgl.opengl.GLCapabilities;
 import org.lwjgl.stb.STBImage;
 import org.lwjgl.system.MemoryStack;
 
 import java.nio.ByteBuffer;
 import java.nio.IntBuffer;
+import java.util.HashMap;
+import java.util.Map;
 
 import static org.lwjgl.opengl.GL11.*;
 import static org.lwjgl.opengl.GL13.*;
+import static org.lwjgl.opengl.GL30.*;
 
 public class DesktopRenderer implements Renderer {
-    
     private FontRenderer fontRenderer;
+    private int boundTextureId = -1; // Skips rebinding when consecutive sprites share an atlas page
+    private final Map<Integer, Integer> framebuffers = new HashMap<>(); // Render target texture id -> framebuffer
+    private final int[] savedViewport = new int[4];
     
     @Override
     public void initialize() {
@@ -32,7 +39,7 @@ public class DesktopRenderer implements Renderer {
         glMatrixMode(GL_MODELVIEW);
         glLoadIdentity();
         
-        glClearColor(0.2f, 0.3f, 0.3f, 1.0f);
+        setClearColor();
         
         // Initialize font renderer
         fontRenderer = new FontRenderer();
@@ -46,19 +53,16 @@ public class DesktopRenderer implements Renderer {
     
     @Override
     public void render(Texture texture, float x, float y, float width, float height) {
-        glBindTexture(GL_TEXTURE_2D, texture.getTextureId());
+        bind(texture);
         
         glBegin(GL_QUADS);
-        glTexCoord2f(0, 1); glVertex2f(x, y);
-        glTexCoord2f(1, 1); glVertex2f(x + width, y);
-        glTexCoord2f(1, 0); glVertex2f(x + width, y + height);
-        glTexCoord2f(0, 0); glVertex2f(x, y + height);
+        texturedQuad(texture, x, y, width, height);
         glEnd();
     }
     
     @Override
     public void renderRotated(Texture texture, float x, float y, float width, float height, float rotation) {
-        glBindTexture(GL_TEXTURE_2D, texture.getTextureId());
+        bind(texture);
         
         glPushMatrix();
         glTranslatef(x + width/2, y + height/2, 0);
@@ -66,10 +70,7 @@ public class DesktopRenderer implements Renderer {
         glTranslatef(-width/2, -height/2, 0);
         
         glBegin(GL_QUADS);
-        glTexCoord2f(0, 1); glVertex2f(0, 0);
-        glTexCoord2f(1, 1); glVertex2f(width, 0);
-        glTexCoord2f(1, 0); glVertex2f(width, height);
-        glTexCoord2f(0, 0); glVertex2f(0, height);
+        texturedQuad(texture, 0, 0, width, height);
         glEnd();
         
         glPopMatrix();
@@ -77,7 +78,7 @@ public class DesktopRenderer implements Renderer {
     
     @Override
     public void renderRotatedWithAlpha(Texture texture, float x, float y, float width, float height, float rotation, float alpha) {
-        glBindTexture(GL_TEXTURE_2D, texture.getTextureId());
+        bind(texture);
         
         glPushMatrix();
         glColor4f(1.0f, 1.0f, 1.0f, alpha); // Set alpha
@@ -86,10 +87,7 @@ public class DesktopRenderer implements Renderer {
         glTranslatef(-width/2, -height/2, 0);
         
         glBegin(GL_QUADS);
-        glTexCoord2f(0, 1); glVertex2f(0, 0);
-        glTexCoord2f(1, 1); glVertex2f(width, 0);
-        glTexCoord2f(1, 0); glVertex2f(width, height);
-        glTexCoord2f(0, 0); glVertex2f(0, height);
+        texturedQuad(texture, 0, 0, width, height);
         glEnd();
         
         glColor4f(1.0f, 1.0f, 1.0f, 1.0f); // Reset alpha
@@ -130,14 +128,11 @@ public class DesktopRenderer implements Renderer {
     
     @Override
     public void renderTextureWithColor(Texture texture, float x, float y, float width, float height, float r, float g, float b, float a) {
-        glBindTexture(GL_TEXTURE_2D, texture.getTextureId());
+        bind(texture);
         glColor4f(r, g, b, a);
         
         glBegin(GL_QUADS);
-        glTexCoord2f(0, 1); glVertex2f(x, y);
-        glTexCoord2f(1, 1); glVertex2f(x + width, y);
-        glTexCoord2f(1, 0); glVertex2f(x + width, y + height);
-        glTexCoord2f(0, 0); glVertex2f(x, y + height);
+        texturedQuad(texture, x, y, width, height);
         glEnd();
         
         glColor4f(1.0f, 1.0f, 1.0f, 1.0f);
@@ -157,32 +152,133 @@ public class DesktopRenderer implements Renderer {
     
     @Override
     public Texture loadTexture(String path) {
+        ImageData image = decode(path);
+        Texture texture = createTexture(image.width, image.height, image.pixels);
+        STBImage.stbi_image_free(image.pixels);
+        return texture;
+    }
+    
+    @Override
+    public Texture createTexture(int width, int height, ByteBuffer rgba) {
+        int textureId = glGenTextures();
+        glBindTexture(GL_TEXTURE_2D, textureId);
+        boundTextureId = textureId;
+        
+        glTexParameteri(GL_TEXTURE_2D, GL_TEXTURE_MIN_FILTER, GL_NEAREST);
+        glTexParameteri(GL_TEXTURE_2D, GL_TEXTURE_MAG_FILTER, GL_NEAREST);
+        
+        glTexImage2D(GL_TEXTURE_2D, 0, GL_RGBA, width, height, 0, GL_RGBA, GL_UNSIGNED_BYTE, rgba);
+        return new Texture(textureId, width, height);
+    }
+    
+    @Override
+    public Texture createRenderTarget(int width, int height) {
+        // Framebuffer objects are core from GL 3.0; the legacy macOS context has them as ARB_framebuffer_object
+        GLCapabilities caps = GL.getCapabilities();
+        if (!caps.OpenGL30 && !caps.GL_ARB_framebuffer_object) {
+            return null;
+        }
+        
+        int textureId = glGenTextures();
+        glBindTexture(GL_TEXTURE_2D, textureId);
+        boundTextureId = textureId;
+        glTexParameteri(GL_TEXTURE_2D, GL_TEXTURE_MIN_FILTER, GL_NEAREST);
+        glTexParameteri(GL_TEXTURE_2D, GL_TEXTURE_MAG_FILTER, GL_NEAREST);
+        glTexImage2D(GL_TEXTURE_2D, 0, GL_RGBA, width, height, 0, GL_RGBA, GL_UNSIGNED_BYTE, (ByteBuffer) null);
+        
+        int framebuffer = glGenFramebuffers();
+        glBindFramebuffer(GL_FRAMEBUFFER, framebuffer);
+        glFramebufferTexture2D(GL_FRAMEBUFFER, GL_COLOR_ATTACHMENT0, GL_TEXTURE_2D, textureId, 0);
+        int status = glCheckFramebufferStatus(GL_FRAMEBUFFER);
+        glBindFramebuffer(GL_FRAMEBUFFER, 0);
+        if (status != GL_FRAMEBUFFER_COMPLETE) {
+            System.err.println("Render target " + width + "x" + height + " is incomplete (status " + status + ")");
+            glDeleteFramebuffers(framebuffer);
+            glDeleteTextures(textureId);
+            boundTextureId = -1;
+            return null;
+        }
+        framebuffers.put(textureId, framebuffer);
+        
+        // Rows are drawn bottom-up, so the image's top-left is at v = 1
+        return new Texture(textureId, width, height, 0, 1, 1, 0);
+    }
+    
+    @Override
+    public void beginRenderTarget(Texture target) {
+        glBindFramebuffer(GL_FRAMEBUFFER, framebuffers.get(target.getTextureId()));
+        glGetIntegerv(GL_VIEWPORT, savedViewport);
+        glViewport(0, 0, target.getWidth(), target.getHeight());
+        
+        glMatrixMode(GL_PROJECTION);
+        glPushMatrix();
+        glLoadIdentity();
+        glOrtho(0, target.getWidth(), 0, target.getHeight(), -1, 1);
+        glMatrixMode(GL_MODELVIEW);
+        
+        glClearColor(0.0f, 0.0f, 0.0f, 0.0f);
+        glClear(GL_COLOR_BUFFER_BIT);
+        setClearColor();
+    }
+    
+    @Override
+    public void endRenderTarget() {
+        glBindFramebuffer(GL_FRAMEBUFFER, 0);
+        glViewport(savedViewport[0], savedViewport[1], savedViewport[2], savedViewport[3]);
+        
+        glMatrixMode(GL_PROJECTION);
+        glPopMatrix();
+        glMatrixMode(GL_MODELVIEW);
+    }
+    
+    @Override
+    public void deleteTexture(Texture texture) {
+        Integer framebuffer = framebuffers.remove(texture.getTextureId());
+        if (framebuffer != null) {
+            glDeleteFramebuffers(framebuffer);
+        }
+        glDeleteTextures(texture.getTextureId());
+        if (boundTextureId == texture.getTextureId()) {
+            boundTextureId = -1;
+        }
+    }
+    
+    private void setClearColor() {
+        glClearColor(0.2f, 0.3f, 0.3f, 1.0f);
+    }
+    
+    // Reads a PNG into RGBA pixels owned by STB (release with stbi_image_free). Needs no GL
+    // context, so asset loading calls it from worker threads
+    static ImageData decode(String path) {
         try (MemoryStack stack = MemoryStack.stackPush()) {
             IntBuffer w = stack.mallocInt(1);
             IntBuffer h = stack.mallocInt(1);
             IntBuffer channels = stack.mallocInt(1);
             
-            STBImage.stbi_set_flip_vertically_on_load(false);
             ByteBuffer image = STBImage.stbi_load(path, w, h, channels, 4);
-            
             if (image == null) {
-                throw new RuntimeException("Failed to load texture: " + STBImage.stbi_failure_reason());
+                throw new RuntimeException("Failed to load texture: " + path + " (" + STBImage.stbi_failure_reason() + ")");
             }
-            
-            int textureId = glGenTextures();
-            glBindTexture(GL_TEXTURE_2D, textureId);
-            
-            glTexParameteri(GL_TEXTURE_2D, GL_TEXTURE_MIN_FILTER, GL_NEAREST);
-            glTexParameteri(GL_TEXTURE_2D, GL_TEXTURE_MAG_FILTER, GL_NEAREST);
-            
-            glTexImage2D(GL_TEXTURE_2D, 0, GL_RGBA, w.get(0), h.get(0), 0, GL_RGBA, GL_UNSIGNED_BYTE, image);
-            
-            STBImage.stbi_image_free(image);
-            
-            return new Texture(textureId, w.get(0), h.get(0));
+            return new ImageData(w.get(0), h.get(0), image);
         }
     }
     
+    private void bind(Texture texture) {
+        if (texture.getTextureId() != boundTextureId) {
+            glBindTexture(GL_TEXTURE_2D, texture.getTextureId());
+            boundTextureId = texture.getTextureId();
+        }
+    }
+    
+    // Quad vertices for glBegin(GL_QUADS), mapped onto the texture's region of its GL texture
+    private void texturedQuad(Texture texture, float x, float y, float width, float height) {
+        float u0 = texture.getU0(), v0 = texture.getV0(), u1 = texture.getU1(), v1 = texture.getV1();
+        glTexCoord2f(u0, v1); glVertex2f(x, y);
+        glTexCoord2f(u1, v1); glVertex2f(x + width, y);
+        glTexCoord2f(u1, v0); glVertex2f(x + width, y + height);
+        glTexCoord2f(u0, v0); glVertex2f(x, y + height);
+    }
+    
     @Override
     public void renderCircle(float x, float y, float radius, float r, float g, float b, float a) {
         glDisable(GL_TEXTURE_2D);
@@ -200,5 +296,7 @@ public class DesktopRenderer implements Renderer {
     @Override
     public void renderText(String text, float x, float y, float r, float g, float b) {
         fontRenderer.renderText(text, x, y, r, g, b);
+        boundTextureId = -1; // The font binds its own texture
     }
+
 }
@@ -6,7 +6,9 @@ import org.lwjgl.glfw.GLFWErrorCallback;
 import org.lwjgl.opengl.GL;
 import org.lwjgl.system.Configuration;
 
+import java.io.File;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
@@ -27,9 +29,6 @@ public class Game {
     private Texture shellTexture;
     private Texture brokenTurretTexture;
     private Texture vignetteTexture;
-    private Texture foliageTexture;
-    private Texture palmTreesTexture;
-    private Texture palmTreesGroupTexture;
     private Texture ammoFullTexture;
     private Texture ammoEmptyTexture;
     private Texture grenadeTexture;
@@ -53,6 +52,12 @@ public class Game {
     private boolean qPressed = false;
     private double mouseX = 0;
     private double mouseY = 0;
+    private final InputState inputState = new InputState(keys, false, false, false, false, false, 0, 0, 0, 0); // Refilled every tick
+    private final boolean useSpriteBatch;
+    
+    public Game(boolean useSpriteBatch) {
+        this.useSpriteBatch = useSpriteBatch;
+    }
     
     public void run() {
         init();
@@ -98,16 +103,16 @@ public class Game {
         glfwSwapInterval(1);
         glfwShowWindow(window);
         
-        renderer = new DesktopRenderer();
+        // Sprite batch draws from a vertex buffer; the default renderer draws each quad in immediate mode
+        renderer = useSpriteBatch ? new SpriteBatch(new VertexStreamBackend()) : new DesktopRenderer();
         renderer.initialize();
 
-        loadTextures();
+        // Decoding runs on worker threads while the loading screen shows; the splash itself loads first
+        Texture loadingTexture = renderer.loadTexture("assets/loading.png");
+        AssetLoader assetLoader = new AssetLoader(renderer);
+        loadTextures(assetLoader);
 
         gameRenderer = new GameRenderer();
-        gameRenderer.setTextures(turretTextures, tileTextures, shadowTexture, bulletTexture, 
-                                 shellTexture, brokenTurretTexture, vignetteTexture, foliageTextures,
-                                 explosionTextures, ammoFullTexture, ammoEmptyTexture, grenadeTexture, 
-                                 bearTextures, throwerTextures, mortarTextures, petrolBombTexture, bombTexture);
         
         // Initialize state machine
         stateManager = new StateManager();
@@ -129,7 +134,12 @@ public class Game {
         // Now update the GamePlayState with the correct LevelSelectState reference
         gamePlayState.setLevelSelectState(levelSelectState);
         
-        stateManager.setState(levelSelectState);
+        // Textures reach the game renderer once they have all loaded
+        LoadingState loadingState = new LoadingState(stateManager, assetLoader, loadingTexture, levelSelectState, () -> {
+            backgroundUpdater.run();
+            assetLoader.shutdown();
+        });
+        stateManager.setState(loadingState);
     }
     
     private void setupInputCallbacks() {
@@ -137,6 +147,9 @@ public class Game {
             if (key == GLFW_KEY_ESCAPE && action == GLFW_RELEASE) {
                 glfwSetWindowShouldClose(window, true);
             }
+            if (key == GLFW_KEY_F3 && action == GLFW_PRESS) {
+                gameLoop.getProfiler().toggleOverlay();
+            }
             
             boolean pressed = action == GLFW_PRESS || action == GLFW_REPEAT;
             switch (key) {
@@ -181,202 +194,201 @@ public class Game {
         });
     }
     
-    private void loadTextures() {
+    // Queues every texture on the loader; fields and maps fill in as uploads finish
+    private void loadTextures(AssetLoader loader) {
         // Load tile textures
-        tileTextures.put("floorgrey1.png", renderer.loadTexture("assets/floorgrey1.png"));
-        tileTextures.put("floorgrey2.png", renderer.loadTexture("assets/floorgrey2.png"));
-        tileTextures.put("floorgrey3.png", renderer.loadTexture("assets/floorgrey3.png"));
-        tileTextures.put("floorgrey4.png", renderer.loadTexture("assets/floorgrey4.png"));
-        tileTextures.put("floorgrey5.png", renderer.loadTexture("assets/floorgrey5.png"));
-        tileTextures.put("floorgrey6.png", renderer.loadTexture("assets/floorgrey6.png"));
-        
-        grassTexture = renderer.loadTexture("assets/vibrant_random_grass.png");
-        shadowTexture = renderer.loadTexture("assets/shadow.png");
-        bulletTexture = renderer.loadTexture("assets/bullet.png");
-        shellTexture = renderer.loadTexture("assets/shell.png");
-        brokenTurretTexture = renderer.loadTexture("assets/gunturret_broken.png");
-        vignetteTexture = renderer.loadTexture("assets/vignette.png");
-        foliageTexture = renderer.loadTexture("assets/foliage01.png");
-        palmTreesTexture = renderer.loadTexture("assets/palm_trees01.png");
-        palmTreesGroupTexture = renderer.loadTexture("assets/palm_trees_group.png");
-        Texture palmTreesGroupLongTexture = renderer.loadTexture("assets/palm_trees_group_long.png");
-        Texture palmTreesGroupVerticalTexture = renderer.loadTexture("assets/palm_trees_group_vertical.png");
-        Texture palmTreesGroupVerticalLongTexture = renderer.loadTexture("assets/palm_trees_group_vertical_long.png");
-        ammoFullTexture = renderer.loadTexture("assets/ammocratefull.png");
-        ammoEmptyTexture = renderer.loadTexture("assets/ammocrateempty.png");
-        grenadeTexture = renderer.loadTexture("assets/grenade2_alpha.png");
+        for (int i = 1; i <= 6; i++) {
+            String name = "floorgrey" + i + ".png";
+            loader.load("assets/" + name, texture -> tileTextures.put(name, texture));
+        }
+        
+        loader.load("assets/vibrant_random_grass.png", texture -> grassTexture = texture);
+        loader.load("assets/shadow.png", texture -> shadowTexture = texture);
+        loader.load("assets/bullet.png", texture -> bulletTexture = texture);
+        loader.load("assets/shell.png", texture -> shellTexture = texture);
+        loader.load("assets/gunturret_broken.png", texture -> brokenTurretTexture = texture);
+        loader.load("assets/vignette.png", texture -> vignetteTexture = texture);
+        loader.load("assets/ammocratefull.png", texture -> ammoFullTexture = texture);
+        loader.load("assets/ammocrateempty.png", texture -> ammoEmptyTexture = texture);
+        loader.load("assets/grenade2_alpha.png", texture -> grenadeTexture = texture);
         
         // Load turret textures for all 8 directions
-        turretTextures.put(Direction.UP, renderer.loadTexture("assets/gunturret_n.png"));
-        turretTextures.put(Direction.UP_RIGHT, renderer.loadTexture("assets/gunturret_ne.png"));
-        turretTextures.put(Direction.RIGHT, renderer.loadTexture("assets/gunturret_e.png"));
-        turretTextures.put(Direction.DOWN_RIGHT, renderer.loadTexture("assets/gunturret_se.png"));
-        turretTextures.put(Direction.DOWN, renderer.loadTexture("assets/gunturret_s.png"));
-        turretTextures.put(Direction.DOWN_LEFT, renderer.loadTexture("assets/gunturret_sw.png"));
-        turretTextures.put(Direction.LEFT, renderer.loadTexture("assets/gunturret_w.png"));
-        turretTextures.put(Direction.UP_LEFT, renderer.loadTexture("assets/gunturret_nw.png"));
+        loader.load("assets/gunturret_n.png", texture -> turretTextures.put(Direction.UP, texture));
+        loader.load("assets/gunturret_ne.png", texture -> turretTextures.put(Direction.UP_RIGHT, texture));
+        loader.load("assets/gunturret_e.png", texture -> turretTextures.put(Direction.RIGHT, texture));
+        loader.load("assets/gunturret_se.png", texture -> turretTextures.put(Direction.DOWN_RIGHT, texture));
+        loader.load("assets/gunturret_s.png", texture -> turretTextures.put(Direction.DOWN, texture));
+        loader.load("assets/gunturret_sw.png", texture -> turretTextures.put(Direction.DOWN_LEFT, texture));
+        loader.load("assets/gunturret_w.png", texture -> turretTextures.put(Direction.LEFT, texture));
+        loader.load("assets/gunturret_nw.png", texture -> turretTextures.put(Direction.UP_LEFT, texture));
         
         // Load explosion textures
-        explosionTextures.put("explosionanim_1_0.png", renderer.loadTexture("assets/explosionanim_1_0.png"));
-        explosionTextures.put("explosionanim_1_17.png", renderer.loadTexture("assets/explosionanim_1_17.png"));
-        explosionTextures.put("explosionanim_1_34.png", renderer.loadTexture("assets/explosionanim_1_34.png"));
-        explosionTextures.put("explosionanim_1_51.png", renderer.loadTexture("assets/explosionanim_1_51.png"));
-        explosionTextures.put("explosionanim_1_68.png", renderer.loadTexture("assets/explosionanim_1_68.png"));
-        explosionTextures.put("explosionanim_1_85.png", renderer.loadTexture("assets/explosionanim_1_85.png"));
-        explosionTextures.put("explosionanim_1_102.png", renderer.loadTexture("assets/explosionanim_1_102.png"));
-        explosionTextures.put("explosionanim_1_119.png", renderer.loadTexture("assets/explosionanim_1_119.png"));
-        explosionTextures.put("explosionanim_1_136.png", renderer.loadTexture("assets/explosionanim_1_136.png"));
+        for (int frame = 0; frame <= 136; frame += 17) {
+            String name = "explosionanim_1_" + frame + ".png";
+            loader.load("assets/" + name, texture -> explosionTextures.put(name, texture));
+        }
         
         // Load foliage textures
-        foliageTextures.put("foliage", foliageTexture);
-        foliageTextures.put("palm_trees", palmTreesTexture);
-        foliageTextures.put("palm_trees_group", palmTreesGroupTexture);
-        foliageTextures.put("palm_trees_group_long", palmTreesGroupLongTexture);
-        foliageTextures.put("palm_trees_group_vertical", palmTreesGroupVerticalTexture);
-        foliageTextures.put("palm_trees_group_vertical_long", palmTreesGroupVerticalLongTexture);
+        loader.load("assets/foliage01.png", texture -> foliageTextures.put("foliage", texture));
+        loader.load("assets/palm_trees01.png", texture -> foliageTextures.put("palm_trees", texture));
+        loader.load("assets/palm_trees_group.png", texture -> foliageTextures.put("palm_trees_group", texture));
+        loader.load("assets/palm_trees_group_long.png", texture -> foliageTextures.put("palm_trees_group_long", texture));
+        loader.load("assets/palm_trees_group_vertical.png", texture -> foliageTextures.put("palm_trees_group_vertical", texture));
+        loader.load("assets/palm_trees_group_vertical_long.png", texture -> foliageTextures.put("palm_trees_group_vertical_long", texture));
         
-        // Load bear textures
-        loadBearTextures();
-        
-        // Load thrower textures
-        loadThrowerTextures();
-        
-        // Load mortar textures
-        loadMortarTextures();
+        // Load bear, thrower and mortar textures
+        loadCharacterTextures(loader);
         
         // Load petrol bomb texture
-        petrolBombTexture = renderer.loadTexture("assets/petrol_bomb.png");
+        loader.load("assets/petrol_bomb.png", texture -> petrolBombTexture = texture);
         
         // Load bomb texture
-        bombTexture = renderer.loadTexture("assets/bomb.png");
+        loader.load("assets/bomb.png", texture -> bombTexture = texture);
+    }
+    
+    // Enemy animation frames are packed onto shared atlas pages, so consecutive enemies in the
+    // depth-sorted draw usually need no texture rebind
+    private void loadCharacterTextures(AssetLoader loader) {
+        Map<String, String> paths = new LinkedHashMap<>();
+        addBearTexturePaths(paths);
+        addThrowerTexturePaths(paths);
+        addMortarTexturePaths(paths);
+        
+        loader.loadAtlas(paths, frames -> {
+            for (Map.Entry<String, Texture> frame : frames.entrySet()) {
+                String key = frame.getKey();
+                if (key.startsWith("bear_")) {
+                    bearTextures.put(key, frame.getValue());
+                } else if (key.startsWith("thrower_")) {
+                    throwerTextures.put(key, frame.getValue());
+                } else {
+                    mortarTextures.put(key, frame.getValue());
+                }
+            }
+        });
     }
     
-    private void loadBearTextures() {
-        // Load idle animations
+    private void addBearTexturePaths(Map<String, String> paths) {
+        // Idle animations
         for (int i = 0; i <= 9; i++) {
-            bearTextures.put("bear_idle_east_" + String.format("%03d", i), 
-                renderer.loadTexture("assets/bear/animations/idle/east/frame_" + String.format("%03d", i) + ".png"));
-            bearTextures.put("bear_idle_west_" + String.format("%03d", i), 
-                renderer.loadTexture("assets/bear/animations/idle/west/frame_" + String.format("%03d", i) + ".png"));
+            paths.put("bear_idle_east_" + String.format("%03d", i), 
+                "assets/bear/animations/idle/east/frame_" + String.format("%03d", i) + ".png");
+            paths.put("bear_idle_west_" + String.format("%03d", i), 
+                "assets/bear/animations/idle/west/frame_" + String.format("%03d", i) + ".png");
         }
         
-        // Load waking up animations
+        // Waking up animations
         for (int i = 0; i <= 6; i++) {
-            bearTextures.put("bear_wakingUp_east_" + String.format("%03d", i), 
-                renderer.loadTexture("assets/bear/animations/wakingUp/east/frame_" + String.format("%03d", i) + ".png"));
-            bearTextures.put("bear_wakingUp_west_" + String.format("%03d", i), 
-                renderer.loadTexture("assets/bear/animations/wakingUp/west/frame_" + String.format("%03d", i) + ".png"));
+            paths.put("bear_wakingUp_east_" + String.format("%03d", i), 
+                "assets/bear/animations/wakingUp/east/frame_" + String.format("%03d", i) + ".png");
+            paths.put("bear_wakingUp_west_" + String.format("%03d", i), 
+                "assets/bear/animations/wakingUp/west/frame_" + String.format("%03d", i) + ".png");
         }
         
-        // Load running animations for all 8 directions
+        // Running animations for all 8 directions
         String[] fileDirs = {"north", "north-east", "east", "south-east", "south", "south-west", "west", "north-west"};
         String[] keyDirs = {"north", "northeast", "east", "southeast", "south", "southwest", "west", "northwest"};
         for (int d = 0; d < fileDirs.length; d++) {
             for (int i = 0; i <= 3; i++) {
-                bearTextures.put("bear_running_" + keyDirs[d] + "_" + String.format("%03d", i), 
-                    renderer.loadTexture("assets/bear/animations/running/" + fileDirs[d] + "/frame_" + String.format("%03d", i) + ".png"));
+                paths.put("bear_running_" + keyDirs[d] + "_" + String.format("%03d", i), 
+                    "assets/bear/animations/running/" + fileDirs[d] + "/frame_" + String.format("%03d", i) + ".png");
             }
         }
         
-        // Load hit animations for all 8 directions
+        // Hit animations for all 8 directions
         for (int d = 0; d < fileDirs.length; d++) {
             for (int i = 0; i <= 11; i++) {
-                bearTextures.put("bear_hit_" + keyDirs[d] + "_" + String.format("%03d", i), 
-                    renderer.loadTexture("assets/bear/animations/hit/" + fileDirs[d] + "/frame_" + String.format("%03d", i) + ".png"));
+                paths.put("bear_hit_" + keyDirs[d] + "_" + String.format("%03d", i), 
+                    "assets/bear/animations/hit/" + fileDirs[d] + "/frame_" + String.format("%03d", i) + ".png");
             }
         }
     }
     
-    private void loadThrowerTextures() {
-        // Load rotation textures (idle, hit, dying states)
+    private void addThrowerTexturePaths(Map<String, String> paths) {
+        // Rotation textures (idle, hit, dying states)
         String[] fileDirs = {"north", "north-east", "east", "south-east", "south", "south-west", "west", "north-west"};
         String[] keyDirs = {"north", "northeast", "east", "southeast", "south", "southwest", "west", "northwest"};
         
         for (int i = 0; i < fileDirs.length; i++) {
-            String path = "assets/thrower/rotations/" + fileDirs[i] + ".png";
-            try {
-                throwerTextures.put("thrower_rotation_" + keyDirs[i], renderer.loadTexture(path));
-            } catch (Exception e) {
-                System.err.println("Failed to load texture: " + path);
-                throw e;
-            }
+            paths.put("thrower_rotation_" + keyDirs[i], "assets/thrower/rotations/" + fileDirs[i] + ".png");
         }
         
-        // Load walking animations for all 8 directions (4 frames each)
+        // Walking animations for all 8 directions (4 frames each)
         for (int i = 0; i < fileDirs.length; i++) {
             for (int frame = 0; frame <= 3; frame++) {
-                String path = "assets/thrower/animations/walking/" + fileDirs[i] + "/frame_" + String.format("%03d", frame) + ".png";
-                try {
-                    throwerTextures.put("thrower_walking_" + keyDirs[i] + "_" + String.format("%03d", frame), renderer.loadTexture(path));
-                } catch (Exception e) {
-                    System.err.println("Failed to load texture: " + path);
-                    throw e;
-                }
+                paths.put("thrower_walking_" + keyDirs[i] + "_" + String.format("%03d", frame),
+                    "assets/thrower/animations/walking/" + fileDirs[i] + "/frame_" + String.format("%03d", frame) + ".png");
             }
         }
         
-        // Load throwing animations for all 8 directions (6 frames each)
+        // Throwing animations for all 8 directions (6 frames each)
         for (int i = 0; i < fileDirs.length; i++) {
             for (int frame = 0; frame <= 6; frame++) {
-                String path = "assets/thrower/animations/throw/" + fileDirs[i] + "/frame_" + String.format("%03d", frame) + ".png";
-                try {
-                    throwerTextures.put("thrower_throw_" + keyDirs[i] + "_" + String.format("%03d", frame), renderer.loadTexture(path));
-                } catch (Exception e) {
-                    System.err.println("Failed to load texture: " + path);
-                    throw e;
-                }
+                paths.put("thrower_throw_" + keyDirs[i] + "_" + String.format("%03d", frame),
+                    "assets/thrower/animations/throw/" + fileDirs[i] + "/frame_" + String.format("%03d", frame) + ".png");
             }
         }
     }
     
-    private void loadMortarTextures() {
+    private void addMortarTexturePaths(Map<String, String> paths) {
         String[] fileDirs = {"north", "north-east", "east", "south-east", "south", "south-west", "west", "north-west"};
         String[] keyDirs = {"north", "northeast", "east", "southeast", "south", "southwest", "west", "northwest"};
         
-        // Load rotation textures (patrol state)
+        // Rotation textures (patrol state)
         for (int i = 0; i < fileDirs.length; i++) {
-            String path = "assets/mortar/rotations/" + fileDirs[i] + ".png";
-            try {
-                mortarTextures.put("mortar_rotation_" + keyDirs[i], renderer.loadTexture(path));
-            } catch (Exception e) {
-                System.err.println("Failed to load mortar texture: " + path + " - skipping");
-            }
+            addOptionalMortarPath(paths, "mortar_rotation_" + keyDirs[i], "assets/mortar/rotations/" + fileDirs[i] + ".png");
         }
         
-        // Load sitting animation frames (engaged and firing states)
+        // Sitting animation frames (engaged and firing states)
         for (int i = 0; i < fileDirs.length; i++) {
             for (int frame = 0; frame <= 8; frame++) {
-                String path = "assets/mortar/animations/sitting/" + fileDirs[i] + "/frame_" + String.format("%03d", frame) + ".png";
-                try {
-                    mortarTextures.put("mortar_sitting_" + keyDirs[i] + "_" + String.format("%03d", frame + 1), renderer.loadTexture(path));
-                } catch (Exception e) {
-                    System.err.println("Failed to load mortar texture: " + path + " - skipping");
-                }
+                addOptionalMortarPath(paths, "mortar_sitting_" + keyDirs[i] + "_" + String.format("%03d", frame + 1),
+                    "assets/mortar/animations/sitting/" + fileDirs[i] + "/frame_" + String.format("%03d", frame) + ".png");
             }
         }
     }
     
+    // Mortar art is incomplete; missing frames fall back to turret textures when rendered
+    private void addOptionalMortarPath(Map<String, String> paths, String key, String path) {
+        if (new File(path).isFile()) {
+            paths.put(key, path);
+        } else {
+            System.err.println("Failed to load mortar texture: " + path + " - skipping");
+        }
+    }
+    
     private void loop() {
+        // Simulation runs at a fixed rate; the display refresh rate only decides how often we draw
+        FixedTimestep timestep = new FixedTimestep(GameConfig.TARGET_FPS, GameConfig.MAX_TICKS_PER_FRAME);
+        
         while (!glfwWindowShouldClose(window)) {
-            // Create input state
-            double worldMouseX = mouseX + (gameLoop != null ? gameLoop.getCamera().x() : 0) - GameConfig.SCREEN_WIDTH / 2.0;
-            double worldMouseY = mouseY + (gameLoop != null ? gameLoop.getCamera().y() : 0) - GameConfig.SCREEN_HEIGHT / 2.0;
-            
-            InputState inputState = new InputState(keys, jumpPressed, jumpHeld, mousePressed, mouseHeld, 
-                                                  grenadePressed, spacePressed, spaceHeld, qPressed, mouseX, mouseY, worldMouseX, worldMouseY);
+            int ticks = timestep.advance(glfwGetTime());
+            for (int tick = 0; tick < ticks; tick++) {
+                // Update input state
+                double worldMouseX = mouseX + (gameLoop != null ? gameLoop.getCameraX() : 0) - GameConfig.SCREEN_WIDTH / 2.0;
+                double worldMouseY = mouseY + (gameLoop != null ? gameLoop.getCameraY() : 0) - GameConfig.SCREEN_HEIGHT / 2.0;
+                
+                inputState.set(keys, jumpPressed, jumpHeld, mousePressed, mouseHeld, 
+                               grenadePressed, spacePressed, spaceHeld, qPressed, mouseX, mouseY, worldMouseX, worldMouseY);
+                
+                // Update state machine
+                stateManager.update(timestep.getStepSeconds(), inputState);
+                
+                // Reset single-frame inputs once a tick has seen them
+                jumpPressed = false;
+                mousePressed = false;
+                grenadePressed = false;
+                qPressed = false;
+            }
             
-            // Update state machine
-            stateManager.update(0.016f, inputState);
+            gameRenderer.setInterpolationAlpha(timestep.getAlpha());
             stateManager.render(renderer);
             
-            // Reset single-frame inputs
-            jumpPressed = false;
-            mousePressed = false;
-            grenadePressed = false;
-            qPressed = false;
-            
+            FrameProfiler profiler = gameLoop.getProfiler();
+            profiler.begin(FrameProfiler.Scope.SWAP_POLL);
             glfwSwapBuffers(window);
             glfwPollEvents();
+            profiler.end(FrameProfiler.Scope.SWAP_POLL);
         }
     }
     
@@ -388,6 +400,13 @@ public class Game {
     }
     
     public static void main(String[] args) {
-        new Game().run();
+        // --renderer batch|immediate
+        boolean useSpriteBatch = false;
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("--renderer") && i + 1 < args.length) {
+                useSpriteBatch = args[++i].equals("batch");
+            }
+        }
+        new Game(useSpriteBatch).run();
     }
 }
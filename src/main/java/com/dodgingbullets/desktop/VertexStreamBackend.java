@@ -0,0 +1,205 @@
+package com.dodgingbullets.desktop;
+
+import com.dodgingbullets.core.SpriteBatch;
+import com.dodgingbullets.core.Texture;
+import org.lwjgl.BufferUtils;
+import org.lwjgl.opengl.GL;
+import org.lwjgl.opengl.GLCapabilities;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+
+import static org.lwjgl.opengl.GL11.*;
+import static org.lwjgl.opengl.GL15.*;
+import static org.lwjgl.opengl.GL30.glMapBufferRange;
+import static org.lwjgl.opengl.GL30.GL_MAP_WRITE_BIT;
+import static org.lwjgl.opengl.GL32.*;
+import static org.lwjgl.opengl.GL44.*;
+
+// SpriteBatch backend for desktop OpenGL. Vertices go into a vertex buffer split into SEGMENTS
+// blocks used in turn. With GL 4.4 the buffer is mapped once, persistently, and SpriteBatch writes
+// straight into GPU-visible memory; a fence per block stops us overwriting one the GPU is still
+// reading. Older contexts (the legacy 2.1 context macOS gives us) write to a client-side block
+// and upload each run with glBufferSubData, orphaning the buffer whenever a new block starts.
+// Texture loading, clearing and text are left to DesktopRenderer
+public class VertexStreamBackend implements SpriteBatch.Backend {
+    private static final int SEGMENTS = 3;
+    private static final int SEGMENT_VERTICES = SpriteBatch.VERTICES_PER_QUAD * 4096;
+    private static final int STRIDE = SpriteBatch.FLOATS_PER_VERTEX * Float.BYTES;
+    private static final long SEGMENT_BYTES = (long) SEGMENT_VERTICES * STRIDE;
+    private static final long FENCE_TIMEOUT_NANOS = 1_000_000_000L;
+
+    private final DesktopRenderer desktopRenderer = new DesktopRenderer();
+
+    private int vertexBuffer;
+    private boolean persistent;
+    private FloatBuffer[] segments;          // Views into the mapped buffer (persistent only)
+    private final long[] fences = new long[SEGMENTS];
+    private FloatBuffer clientBlock;         // Staging block (fallback only)
+    private int segment = -1;
+
+    @Override
+    public void initialize() {
+        desktopRenderer.initialize();
+
+        GLCapabilities caps = GL.getCapabilities();
+        persistent = caps.OpenGL44;
+
+        vertexBuffer = glGenBuffers();
+        glBindBuffer(GL_ARRAY_BUFFER, vertexBuffer);
+        if (persistent) {
+            int flags = GL_MAP_WRITE_BIT | GL_MAP_PERSISTENT_BIT | GL_MAP_COHERENT_BIT;
+            glBufferStorage(GL_ARRAY_BUFFER, SEGMENT_BYTES * SEGMENTS, flags);
+            ByteBuffer mapped = glMapBufferRange(GL_ARRAY_BUFFER, 0, SEGMENT_BYTES * SEGMENTS, flags);
+            if (mapped == null) {
+                throw new RuntimeException("Failed to map sprite vertex buffer");
+            }
+            segments = new FloatBuffer[SEGMENTS];
+            for (int i = 0; i < SEGMENTS; i++) {
+                mapped.limit((int) (SEGMENT_BYTES * (i + 1))).position((int) (SEGMENT_BYTES * i));
+                segments[i] = mapped.slice().order(ByteOrder.nativeOrder()).asFloatBuffer();
+            }
+        } else {
+            clientBlock = BufferUtils.createFloatBuffer(SEGMENT_VERTICES * SpriteBatch.FLOATS_PER_VERTEX);
+        }
+        glBindBuffer(GL_ARRAY_BUFFER, 0);
+
+        System.out.println("Sprite batch using " + (persistent ? "persistent mapped" : "streamed") + " vertex buffer");
+    }
+
+    @Override
+    public void clear() {
+        desktopRenderer.clear();
+    }
+
+    @Override
+    public FloatBuffer nextVertexBlock() {
+        if (!persistent) {
+            // Orphan: the driver gives us fresh storage while earlier draws keep reading the old one
+            glBindBuffer(GL_ARRAY_BUFFER, vertexBuffer);
+            glBufferData(GL_ARRAY_BUFFER, SEGMENT_BYTES, GL_STREAM_DRAW);
+            glBindBuffer(GL_ARRAY_BUFFER, 0);
+            return clientBlock;
+        }
+
+        // Fence the block we're leaving, then wait until the GPU has finished with the next one
+        if (segment >= 0) {
+            fences[segment] = glFenceSync(GL_SYNC_GPU_COMMANDS_COMPLETE, 0);
+        }
+        segment = (segment + 1) % SEGMENTS;
+        waitForFence(segment);
+        return segments[segment];
+    }
+
+    @Override
+    public void draw(int textureId, int firstVertex, int vertexCount) {
+        glBindTexture(GL_TEXTURE_2D, textureId);
+        glBindBuffer(GL_ARRAY_BUFFER, vertexBuffer);
+
+        int baseVertex = 0;
+        if (persistent) {
+            baseVertex = segment * SEGMENT_VERTICES;
+        } else {
+            int floatsPerVertex = SpriteBatch.FLOATS_PER_VERTEX;
+            clientBlock.limit((firstVertex + vertexCount) * floatsPerVertex).position(firstVertex * floatsPerVertex);
+            glBufferSubData(GL_ARRAY_BUFFER, (long) firstVertex * STRIDE, clientBlock);
+            clientBlock.clear();
+        }
+
+        glEnableClientState(GL_VERTEX_ARRAY);
+        glEnableClientState(GL_TEXTURE_COORD_ARRAY);
+        glEnableClientState(GL_COLOR_ARRAY);
+        glVertexPointer(2, GL_FLOAT, STRIDE, 0);
+        glTexCoordPointer(2, GL_FLOAT, STRIDE, 2 * Float.BYTES);
+        glColorPointer(4, GL_FLOAT, STRIDE, 4 * Float.BYTES);
+
+        glDrawArrays(GL_TRIANGLES, baseVertex + firstVertex, vertexCount);
+
+        // Leave state as the immediate-mode text drawing expects it
+        glDisableClientState(GL_COLOR_ARRAY);
+        glDisableClientState(GL_TEXTURE_COORD_ARRAY);
+        glDisableClientState(GL_VERTEX_ARRAY);
+        glBindBuffer(GL_ARRAY_BUFFER, 0);
+        glColor4f(1.0f, 1.0f, 1.0f, 1.0f);
+    }
+
+    @Override
+    public void endFrame() {
+        // Nothing to do: the next frame asks for a fresh block, which fences this one
+    }
+
+    @Override
+    public Texture createTexture(int width, int height, ByteBuffer rgba, boolean linearFilter) {
+        if (!linearFilter) {
+            return desktopRenderer.createTexture(width, height, rgba);
+        }
+        int textureId = glGenTextures();
+        glBindTexture(GL_TEXTURE_2D, textureId);
+        // Linear so the disk keeps a soft edge when scaled down to bullet size
+        glTexParameteri(GL_TEXTURE_2D, GL_TEXTURE_MIN_FILTER, GL_LINEAR);
+        glTexParameteri(GL_TEXTURE_2D, GL_TEXTURE_MAG_FILTER, GL_LINEAR);
+        glTexImage2D(GL_TEXTURE_2D, 0, GL_RGBA, width, height, 0, GL_RGBA, GL_UNSIGNED_BYTE, rgba);
+        return new Texture(textureId, width, height);
+    }
+
+    @Override
+    public Texture loadTexture(String path) {
+        return desktopRenderer.loadTexture(path);
+    }
+
+    @Override
+    public Texture createRenderTarget(int width, int height) {
+        return desktopRenderer.createRenderTarget(width, height);
+    }
+
+    @Override
+    public void beginRenderTarget(Texture target) {
+        desktopRenderer.beginRenderTarget(target);
+    }
+
+    @Override
+    public void endRenderTarget() {
+        desktopRenderer.endRenderTarget();
+    }
+
+    @Override
+    public void deleteTexture(Texture texture) {
+        desktopRenderer.deleteTexture(texture);
+    }
+
+    @Override
+    public void renderText(String text, float x, float y, float r, float g, float b) {
+        desktopRenderer.renderText(text, x, y, r, g, b);
+    }
+
+    @Override
+    public void cleanup() {
+        for (int i = 0; i < SEGMENTS; i++) {
+            if (fences[i] != 0) {
+                glDeleteSync(fences[i]);
+                fences[i] = 0;
+            }
+        }
+        if (persistent) {
+            glBindBuffer(GL_ARRAY_BUFFER, vertexBuffer);
+            glUnmapBuffer(GL_ARRAY_BUFFER);
+            glBindBuffer(GL_ARRAY_BUFFER, 0);
+        }
+        glDeleteBuffers(vertexBuffer);
+        desktopRenderer.cleanup();
+    }
+
+    private void waitForFence(int index) {
+        long fence = fences[index];
+        if (fence == 0) {
+            return;
+        }
+        int result = glClientWaitSync(fence, GL_SYNC_FLUSH_COMMANDS_BIT, FENCE_TIMEOUT_NANOS);
+        if (result == GL_WAIT_FAILED || result == GL_TIMEOUT_EXPIRED) {
+            System.err.println("Sprite vertex buffer fence wait failed (" + result + "), continuing");
+        }
+        glDeleteSync(fence);
+        fences[index] = 0;
+    }
+}
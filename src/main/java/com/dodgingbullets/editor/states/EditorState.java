@@ -5,6 +5,7 @@ import com.dodgingbullets.core.GameObjectFactory;
 import com.dodgingbullets.core.Vec2;
 import com.dodgingbullets.core.Renderer;
 import com.dodgingbullets.core.Texture;
+import com.dodgingbullets.core.TileGrid;
 import com.dodgingbullets.editor.EditorInputState;
 import com.dodgingbullets.editor.LevelData;
 import com.dodgingbullets.editor.MapLoader;
@@ -85,6 +86,9 @@ public class EditorState implements EditorGameState {
     private int selectedBackgroundIndex = 0;
     
     private LevelData levelData;
+    private TileGrid tileGrid; // Edited in place of levelData.mapGrid, which is only filled in on save
+    private Texture[] tilePalette = new Texture[0]; // Tile texture per palette ID of paletteGrid
+    private TileGrid paletteGrid;
     private List<GameObject> gameObjects;
     private GameObject selectedObject;
     private boolean playerSelected = false;
@@ -125,7 +129,7 @@ public class EditorState implements EditorGameState {
         
         // Render background (grid or single texture)
         if (levelData != null) {
-            if (levelData.mapGrid != null) {
+            if (tileGrid != null) {
                 renderTileGrid();
             } else if (backgroundTexture != null) {
                 // Render as single texture covering entire map (like the game)
@@ -497,7 +501,7 @@ public class EditorState implements EditorGameState {
     private void saveLevel() {
         try {
             LevelData saveData = new LevelData();
-            saveData.mapGrid = levelData.mapGrid;
+            saveData.mapGrid = tileGrid != null ? tileGrid.toNames() : null;
             // Don't save backgroundTexture, mapWidth, mapHeight for grid-based levels
             
             // Initialize lists in the EXACT order expected by core MapLoader
@@ -911,6 +915,7 @@ public class EditorState implements EditorGameState {
     private void loadLevel() {
         try {
             levelData = MapLoader.loadLevel(levelFile);
+            tileGrid = levelData.mapGrid != null ? TileGrid.of(levelData.mapGrid) : null;
             gameObjects.clear();
             
             // Find background texture index
@@ -973,6 +978,7 @@ public class EditorState implements EditorGameState {
         } catch (Exception e) {
             System.err.println("Failed to load level: " + e.getMessage());
             levelData = new LevelData();
+            tileGrid = null;
         }
     }
 
@@ -1041,76 +1047,62 @@ public class EditorState implements EditorGameState {
     }
     
     private void handleGridMode(Vec2 worldPos) {
-        if (levelData.mapGrid == null) {
+        if (tileGrid == null) {
             initializeGrid();
         }
         
         int tileX = (int) (worldPos.x() / 128);
         int tileY = (int) (worldPos.y() / 128);
         
-        if (tileX >= 0 && tileX < levelData.mapGrid[0].length && 
-            tileY >= 0 && tileY < levelData.mapGrid.length) {
-            levelData.mapGrid[tileY][tileX] = selectedTileTexture.fileName;
+        if (tileX >= 0 && tileX < tileGrid.getWidth() && 
+            tileY >= 0 && tileY < tileGrid.getHeight()) {
+            tileGrid.setTile(tileX, tileY, selectedTileTexture.fileName);
             hasUnsavedChanges = true;
         }
     }
     
     private void initializeGrid() {
-        levelData.mapGrid = new String[4][6];
-        for (int y = 0; y < 4; y++) {
-            for (int x = 0; x < 6; x++) {
-                levelData.mapGrid[y][x] = "floorgrey1.png";
-            }
-        }
+        tileGrid = new TileGrid(6, 4, "floorgrey1.png");
         levelData.mapWidth = 6 * 128;
         levelData.mapHeight = 4 * 128;
     }
 
     
     private void addGridColumn() {
-        if (levelData.mapGrid == null) {
+        if (tileGrid == null) {
             initializeGrid();
             return;
         }
         
-        String[][] newGrid = new String[levelData.mapGrid.length][levelData.mapGrid[0].length + 1];
-        for (int y = 0; y < levelData.mapGrid.length; y++) {
-            System.arraycopy(levelData.mapGrid[y], 0, newGrid[y], 0, levelData.mapGrid[0].length);
-            newGrid[y][levelData.mapGrid[0].length] = selectedTileTexture.fileName;
-        }
-        
-        levelData.mapGrid = newGrid;
-        levelData.mapWidth = levelData.mapGrid[0].length * 128;
+        tileGrid = tileGrid.resize(tileGrid.getWidth() + 1, tileGrid.getHeight(), selectedTileTexture.fileName);
+        levelData.mapWidth = tileGrid.getWidth() * 128;
         hasUnsavedChanges = true;
     }
     
     private void addGridRow() {
-        if (levelData.mapGrid == null) {
+        if (tileGrid == null) {
             initializeGrid();
             return;
         }
         
-        String[][] newGrid = new String[levelData.mapGrid.length + 1][levelData.mapGrid[0].length];
-        for (int y = 0; y < levelData.mapGrid.length; y++) {
-            System.arraycopy(levelData.mapGrid[y], 0, newGrid[y], 0, levelData.mapGrid[0].length);
-        }
-        for (int x = 0; x < levelData.mapGrid[0].length; x++) {
-            newGrid[levelData.mapGrid.length][x] = selectedTileTexture.fileName;
-        }
-        
-        levelData.mapGrid = newGrid;
-        levelData.mapHeight = levelData.mapGrid.length * 128;
+        tileGrid = tileGrid.resize(tileGrid.getWidth(), tileGrid.getHeight() + 1, selectedTileTexture.fileName);
+        levelData.mapHeight = tileGrid.getHeight() * 128;
         hasUnsavedChanges = true;
     }
     
     private void renderTileGrid() {
-        if (levelData.mapGrid == null) return;
+        if (tileGrid == null) return;
+        
+        // Resizing makes a new grid and painting can add tiles to the palette; look them up again then
+        if (tileGrid != paletteGrid || tilePalette.length != tileGrid.getPaletteSize()) {
+            tilePalette = tileGrid.resolve(textures);
+            paletteGrid = tileGrid;
+        }
         
         int tileSize = 128;
-        for (int y = 0; y < levelData.mapGrid.length; y++) {
-            for (int x = 0; x < levelData.mapGrid[y].length; x++) {
-                String tileTextureName = levelData.mapGrid[y][x];
-                Texture tileTexture = textures.get(tileTextureName);
+        for (int y = 0; y < tileGrid.getHeight(); y++) {
+            for (int x = 0; x < tileGrid.getWidth(); x++) {
+                Texture tileTexture = tilePalette[tileGrid.getTileId(x, y)];
                 
                 float renderX = x * tileSize - cameraOffset.x() + GameConfig.SCREEN_WIDTH / 2;
                 float renderY = y * tileSize - cameraOffset.y() + GameConfig.SCREEN_HEIGHT / 2;
@@ -3,4 +3,7 @@ package com.dodgingbullets.gameobjects;
 public interface Collidable {
     boolean checkSpriteCollision(float x, float y, float width, float height);
     boolean checkMovementCollision(float x, float y, float width, float height);
+
+    // Fills bounds with {minX, minY, maxX, maxY} enclosing every hitbox; max < min means nothing can collide
+    void getCollisionBounds(float[] bounds);
 }
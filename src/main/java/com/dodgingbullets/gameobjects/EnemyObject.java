@@ -32,4 +32,13 @@ public abstract class EnemyObject extends GameObject implements Renderable, Coll
     public float getRenderY() {
         return position.y();
     }
+    
+    @Override
+    public void getCollisionBounds(float[] bounds) {
+        // Enemy sprite and movement hitboxes all sit inside a 64x64 box around the position
+        bounds[0] = position.x() - 32;
+        bounds[1] = position.y() - 32;
+        bounds[2] = position.x() + 32;
+        bounds[3] = position.y() + 32;
+    }
 }
@@ -1,25 +1,36 @@
 package com.dodgingbullets.gameobjects;
 
+import com.dodgingbullets.core.MutableVec2;
 import com.dodgingbullets.core.Vec2;
 
 public abstract class GameObject {
-    protected Vec2 position;
+    protected final MutableVec2 position = new MutableVec2(); // Updated in place as the object moves
+    private float previousX, previousY; // Position at the start of the tick, for drawing between ticks
     protected boolean active = true;
     
     public GameObject(float x, float y) {
-        this.position = new Vec2(x, y);
+        this.position.set(x, y);
+        this.previousX = x;
+        this.previousY = y;
     }
     
     public GameObject(Vec2 position) {
-        this.position = position;
+        this.position.set(position);
+        this.previousX = position.x();
+        this.previousY = position.y();
     }
     
     public abstract void update(float deltaTime);
     
     public float getX() { return position.x(); }
     public float getY() { return position.y(); }
-    public Vec2 getPosition() { return position; }
-    public void setPosition(Vec2 position) { this.position = position; }
+    // Moves the object without drawing it sliding there from where it was
+    public void setPosition(float x, float y) { position.set(x, y); capturePreviousPosition(); }
+    public void setPosition(Vec2 position) { this.position.set(position); capturePreviousPosition(); }
+    public void capturePreviousPosition() { previousX = position.x(); previousY = position.y(); }
+    // alpha 0 gives the previous tick, 1 the current one
+    public float getInterpolatedX(float alpha) { return previousX + (position.x() - previousX) * alpha; }
+    public float getInterpolatedY(float alpha) { return previousY + (position.y() - previousY) * alpha; }
     public boolean isActive() { return active; }
     public void setActive(boolean active) { this.active = active; }
 }
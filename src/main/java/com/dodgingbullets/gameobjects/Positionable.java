@@ -1,6 +1,7 @@
 package com.dodgingbullets.gameobjects;
 
 public interface Positionable {
-    float[] getBarrelPosition();
+    float getBarrelX();
+    float getBarrelY();
     boolean isInSpriteHitbox(float x, float y);
 }
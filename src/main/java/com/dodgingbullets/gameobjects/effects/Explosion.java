@@ -25,6 +25,19 @@ public class Explosion extends GameObject implements Renderable, Collidable {
         super(x, y);
     }
     
+    // Blank explosion for pooling; reset() places it
+    public Explosion() {
+        super(0, 0);
+    }
+    
+    public Explosion reset(float x, float y) {
+        position.set(x, y);
+        active = true;
+        currentFrame = 0;
+        frameTimer = 0f;
+        return this;
+    }
+    
     @Override
     public void update(float deltaTime) {
         frameTimer += deltaTime;
@@ -60,6 +73,14 @@ public class Explosion extends GameObject implements Renderable, Collidable {
         return false; // Explosions don't block movement
     }
     
+    @Override
+    public void getCollisionBounds(float[] bounds) {
+        bounds[0] = position.x() - SIZE/2;
+        bounds[1] = position.y() - SIZE/2;
+        bounds[2] = position.x() + SIZE/2;
+        bounds[3] = position.y() + SIZE/2;
+    }
+    
     public String getCurrentTexture() {
         if (currentFrame >= TEXTURE_NAMES.length) return null;
         return TEXTURE_NAMES[currentFrame];
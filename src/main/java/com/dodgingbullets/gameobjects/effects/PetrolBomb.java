@@ -1,18 +1,18 @@
 package com.dodgingbullets.gameobjects.effects;
 
+import com.dodgingbullets.core.MutableVec2;
 import com.dodgingbullets.core.Vec2;
 import com.dodgingbullets.gameobjects.*;
-import java.util.List;
 
 public class PetrolBomb extends GameObject implements Renderable, Collidable {
     
-    private Vec2 velocity;
+    private final MutableVec2 velocity = new MutableVec2();
     private float verticalVelocity;
     private float height;
+    private float previousHeight;
     private float rotation = 0f;
     private float rotationSpeed;
     private boolean hasLanded = false;
-    private List<GameObject> collidableObjects;
     
     // Constants
     private static final float GRAVITY = 300f;
@@ -20,15 +20,29 @@ public class PetrolBomb extends GameObject implements Renderable, Collidable {
     private static final float GROUND_LEVEL = 0f;
     private static final float EXPLOSION_RADIUS = 80f;
     
-    public PetrolBomb(float x, float y, Vec2 velocity, List<GameObject> collidableObjects) {
+    public PetrolBomb(float x, float y, Vec2 velocity) {
         super(x, y);
-        this.velocity = velocity;
+        reset(x, y, velocity.x(), velocity.y());
+    }
+    
+    // Blank bomb for pooling; reset() throws it
+    public PetrolBomb() {
+        super(0, 0);
+    }
+    
+    public PetrolBomb reset(float x, float y, float velocityX, float velocityY) {
+        position.set(x, y);
+        active = true;
+        hasLanded = false;
+        velocity.set(velocityX, velocityY);
         this.verticalVelocity = 150f; // Initial upward velocity
         this.height = INITIAL_HEIGHT;
-        this.collidableObjects = collidableObjects;
+        this.rotation = 0f;
+        capturePreviousPosition(); // A pooled bomb must not slide in from where it last landed
         
         // Set rotation direction based on horizontal velocity
-        this.rotationSpeed = (velocity.x() > 0) ? 180f : -180f; // Clockwise for east, counter-clockwise for west
+        this.rotationSpeed = (velocityX > 0) ? 180f : -180f; // Clockwise for east, counter-clockwise for west
+        return this;
     }
     
     @Override
@@ -39,7 +53,7 @@ public class PetrolBomb extends GameObject implements Renderable, Collidable {
         }
         
         // Update horizontal position
-        position = position.add(velocity.multiply(deltaTime));
+        position.add(velocity.x() * deltaTime, velocity.y() * deltaTime);
         
         // Update vertical physics
         verticalVelocity -= GRAVITY * deltaTime;
@@ -58,11 +72,7 @@ public class PetrolBomb extends GameObject implements Renderable, Collidable {
     private void land() {
         hasLanded = true;
         
-        // Create explosion at landing position
-        Explosion explosion = new Explosion(position.x(), position.y());
-        
-        // Add explosion to the game (this will be handled by GameLoop)
-        // For now, we'll mark this bomb as inactive and let GameLoop handle explosion creation
+        // GameLoop creates the explosion at the landing position from its pool
         active = false;
     }
     
@@ -70,10 +80,6 @@ public class PetrolBomb extends GameObject implements Renderable, Collidable {
         return hasLanded;
     }
     
-    public Vec2 getExplosionPosition() {
-        return position;
-    }
-    
     // Shadow properties for rendering
     public float getShadowScale() {
         // Shadow gets larger as bomb gets higher
@@ -82,11 +88,6 @@ public class PetrolBomb extends GameObject implements Renderable, Collidable {
         return Math.max(0.3f, Math.min(1.0f, scale));
     }
     
-    public Vec2 getShadowPosition() {
-        // Shadow stays on the ground directly below the bomb
-        return position;
-    }
-    
     // Interface implementations
     @Override
     public float getRenderY() {
@@ -101,9 +102,7 @@ public class PetrolBomb extends GameObject implements Renderable, Collidable {
     @Override
     public boolean checkSpriteCollision(float x, float y, float width, float height) {
         // Small collision box for the bomb
-        Vec2 testPos = new Vec2(x + width/2, y + height/2);
-        Vec2 bombCenter = new Vec2(position.x(), position.y() + this.height);
-        return testPos.distance(bombCenter) <= 16f; // 16 pixel radius
+        return Vec2.distance(x + width/2, y + height/2, position.x(), position.y() + this.height) <= 16f; // 16 pixel radius
     }
     
     @Override
@@ -112,8 +111,23 @@ public class PetrolBomb extends GameObject implements Renderable, Collidable {
         return false;
     }
     
+    @Override
+    public void getCollisionBounds(float[] bounds) {
+        bounds[0] = position.x() - 16;
+        bounds[1] = position.y() + height - 16;
+        bounds[2] = position.x() + 16;
+        bounds[3] = position.y() + height + 16;
+    }
+    
+    @Override
+    public void capturePreviousPosition() {
+        super.capturePreviousPosition();
+        previousHeight = height;
+    }
+    
     // Getters for rendering
     public float getHeight() { return height; }
+    public float getInterpolatedHeight(float alpha) { return previousHeight + (height - previousHeight) * alpha; }
     public float getRotation() { return rotation; }
-    public Vec2 getVelocity() { return velocity; }
+    public Vec2 getVelocity() { return velocity.toVec2(); }
 }
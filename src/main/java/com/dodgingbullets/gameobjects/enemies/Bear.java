@@ -1,11 +1,12 @@
 package com.dodgingbullets.gameobjects.enemies;
 
 import com.dodgingbullets.gameobjects.*;
+import com.dodgingbullets.core.CollisionWorld;
 import com.dodgingbullets.core.Direction;
+import com.dodgingbullets.core.MutableVec2;
+import com.dodgingbullets.core.PerceptionCache;
 import com.dodgingbullets.core.Vec2;
 
-import java.util.List;
-
 public class Bear extends EnemyObject implements Trackable, Positionable {
     
     public enum BearState {
@@ -14,10 +15,11 @@ public class Bear extends EnemyObject implements Trackable, Positionable {
     
     private BearState state = BearState.IDLE;
     private Direction facingDirection;
-    private Vec2 velocity = new Vec2(0, 0);
-    private Vec2 knockbackVelocity = new Vec2(0, 0);
-    private Vec2 playerPosition = new Vec2(0, 0);
-    private List<GameObject> collidableObjects;
+    private final MutableVec2 velocity = new MutableVec2();
+    private final MutableVec2 knockbackVelocity = new MutableVec2();
+    private final MutableVec2 playerPosition = new MutableVec2();
+    private CollisionWorld collisionWorld;
+    private PerceptionCache perceptionCache;
     
     // Animation
     private int currentFrame = 0;
@@ -38,6 +40,7 @@ public class Bear extends EnemyObject implements Trackable, Positionable {
     private float directionCommitTimer = 0.0f;
     
     // Constants
+    private static final Vec2[] PERPENDICULARS = {Vec2.RIGHT, Vec2.LEFT, Vec2.UP, Vec2.DOWN}; // Tried in order when both axes are blocked
     private static final float SIGHT_RANGE = 250f;
     private static final float ATTACK_RANGE = 30f;
     private final float moveSpeed;
@@ -87,18 +90,19 @@ public class Bear extends EnemyObject implements Trackable, Positionable {
         directionCommitTimer += deltaTime;
         
         // Apply knockback velocity with friction
-        if (knockbackVelocity.distance(new Vec2(0, 0)) > 1f) {
-            Vec2 newPosition = position.add(knockbackVelocity.multiply(deltaTime));
+        if (knockbackVelocity.length() > 1f) {
+            float newX = position.x() + knockbackVelocity.x() * deltaTime;
+            float newY = position.y() + knockbackVelocity.y() * deltaTime;
             
             // Check collision before applying knockback movement
-            if (!checkCollisionAtPosition(newPosition)) {
-                position = newPosition;
+            if (!checkCollisionAtPosition(newX, newY)) {
+                position.set(newX, newY);
             } else {
                 // Stop knockback if hitting obstacle
-                knockbackVelocity = new Vec2(0, 0);
+                knockbackVelocity.set(0, 0);
             }
             
-            knockbackVelocity = knockbackVelocity.multiply(FRICTION);
+            knockbackVelocity.multiply(FRICTION);
         }
         
         updateAnimation(deltaTime);
@@ -107,10 +111,10 @@ public class Bear extends EnemyObject implements Trackable, Positionable {
     
     @Override
     public void update(float playerX, float playerY) {
-        playerPosition = new Vec2(playerX, playerY);
+        playerPosition.set(playerX, playerY);
         
         if (state == BearState.IDLE) {
-            float distance = position.distance(playerPosition);
+            float distance = playerPosition.distance(position.x(), position.y());
             if (distance <= SIGHT_RANGE && hasLineOfSight()) {
                 state = BearState.WAKING_UP;
                 stateTimer = 0;
@@ -172,7 +176,7 @@ public class Bear extends EnemyObject implements Trackable, Positionable {
                     verticalVelocity = 0;
                 }
                 
-                position = new Vec2(position.x(), newY);
+                position.set(position.x(), newY);
                 
                 if (currentFrame >= 7) {
                     if (stateTimer >= animationTime + FADE_DURATION) {
@@ -250,50 +254,45 @@ public class Bear extends EnemyObject implements Trackable, Positionable {
     }
     
     private void moveTowardsPlayer(float deltaTime) {
-        Vec2 direction = playerPosition.subtract(position);
-        float distance = direction.distance(new Vec2(0, 0));
+        float directionX = playerPosition.x() - position.x();
+        float directionY = playerPosition.y() - position.y();
+        float distance = Vec2.length(directionX, directionY);
         
         if (distance > 0) {
-            Vec2 normalizedDirection = direction.multiply(1.0f / distance);
-            velocity = normalizedDirection.multiply(moveSpeed);
+            float inverseDistance = 1.0f / distance;
+            float normalX = directionX * inverseDistance;
+            float normalY = directionY * inverseDistance;
+            velocity.set(normalX, normalY).multiply(moveSpeed);
             
             // Calculate new position
-            Vec2 newPosition = position.add(velocity.multiply(deltaTime));
+            float newX = position.x() + velocity.x() * deltaTime;
+            float newY = position.y() + velocity.y() * deltaTime;
             
             // Check if direct path is blocked
-            if (!checkCollisionAtPosition(newPosition)) {
+            if (!checkCollisionAtPosition(newX, newY)) {
                 // Direct path clear - move towards player
-                position = newPosition;
-                updateFacingDirection(normalizedDirection);
+                position.set(newX, newY);
+                updateFacingDirection(normalX, normalY);
             } else {
                 // Path blocked - use smart movement to find way around
                 if (randomMoveTimer >= RANDOM_MOVE_INTERVAL && directionCommitTimer >= MIN_DIRECTION_COMMIT_TIME) {
                     // Determine which axis is blocked by testing X and Y movement separately
-                    Vec2 xOnlyDirection = new Vec2(normalizedDirection.x(), 0).multiply(1.0f / Math.abs(normalizedDirection.x()));
-                    Vec2 yOnlyDirection = new Vec2(0, normalizedDirection.y()).multiply(1.0f / Math.abs(normalizedDirection.y()));
-                    
-                    Vec2 xTestPos = position.add(xOnlyDirection.multiply(moveSpeed * 0.5f * deltaTime));
-                    Vec2 yTestPos = position.add(yOnlyDirection.multiply(moveSpeed * 0.5f * deltaTime));
-                    
-                    boolean xBlocked = checkCollisionAtPosition(xTestPos);
-                    boolean yBlocked = checkCollisionAtPosition(yTestPos);
-                    
+                    float testStep = moveSpeed * 0.5f * deltaTime;
+                    boolean xBlocked = checkCollisionAtPosition(position.x() + normalX / Math.abs(normalX) * testStep, position.y());
+                    boolean yBlocked = checkCollisionAtPosition(position.x(), position.y() + normalY / Math.abs(normalY) * testStep);
+
                     Vec2 bestDirection = null;
-                    
+
                     if (xBlocked && !yBlocked) {
                         // X movement blocked, try moving north/south
-                        bestDirection = new Vec2(0, normalizedDirection.y() > 0 ? 1 : -1);
+                        bestDirection = normalY > 0 ? Vec2.UP : Vec2.DOWN;
                     } else if (yBlocked && !xBlocked) {
-                        // Y movement blocked, try moving east/west  
-                        bestDirection = new Vec2(normalizedDirection.x() > 0 ? 1 : -1, 0);
+                        // Y movement blocked, try moving east/west
+                        bestDirection = normalX > 0 ? Vec2.RIGHT : Vec2.LEFT;
                     } else if (xBlocked && yBlocked) {
                         // Both blocked, try perpendicular directions
-                        Vec2[] perpendiculars = {
-                            new Vec2(1, 0), new Vec2(-1, 0), new Vec2(0, 1), new Vec2(0, -1)
-                        };
-                        for (Vec2 testDir : perpendiculars) {
-                            Vec2 testPos = position.add(testDir.multiply(moveSpeed * 0.5f * deltaTime));
-                            if (!checkCollisionAtPosition(testPos)) {
+                        for (Vec2 testDir : PERPENDICULARS) {
+                            if (!checkCollisionAtPosition(position.x() + testDir.x() * testStep, position.y() + testDir.y() * testStep)) {
                                 bestDirection = testDir;
                                 break;
                             }
@@ -308,12 +307,13 @@ public class Bear extends EnemyObject implements Trackable, Positionable {
                 }
                 
                 // Try random movement if we have a valid direction
-                if (randomDirection.distance(new Vec2(0, 0)) > 0) {
-                    Vec2 randomVelocity = randomDirection.multiply(moveSpeed * 0.5f);
-                    Vec2 randomNewPosition = position.add(randomVelocity.multiply(deltaTime));
+                if (randomDirection.length() > 0) {
+                    float randomSpeed = moveSpeed * 0.5f;
+                    float randomNewX = position.x() + randomDirection.x() * randomSpeed * deltaTime;
+                    float randomNewY = position.y() + randomDirection.y() * randomSpeed * deltaTime;
                     
-                    if (!checkCollisionAtPosition(randomNewPosition)) {
-                        position = randomNewPosition;
+                    if (!checkCollisionAtPosition(randomNewX, randomNewY)) {
+                        position.set(randomNewX, randomNewY);
                         updateFacingDirection(randomDirection);
                     }
                 }
@@ -321,30 +321,32 @@ public class Bear extends EnemyObject implements Trackable, Positionable {
         }
     }
     
-    private boolean checkCollisionAtPosition(Vec2 newPos) {
-        if (collidableObjects == null) return false;
+    private boolean checkCollisionAtPosition(float newX, float newY) {
+        if (collisionWorld == null) return false;
         
         // Bear movement hitbox (64x32 pixels, bottom half)
         float bearWidth = 64;
         float bearHeight = 32;
-        float bearLeft = newPos.x() - 32;
-        float bearBottom = newPos.y() - 16;
+        float bearLeft = newX - 32;
+        float bearBottom = newY - 16;
         
-        for (GameObject obj : collidableObjects) {
-            if (obj != this && obj instanceof Collidable && 
-                ((Collidable) obj).checkMovementCollision(bearLeft, bearBottom, bearWidth, bearHeight)) {
-                return true;
-            }
-        }
-        return false;
+        return collisionWorld.checkMovementCollision(bearLeft, bearBottom, bearWidth, bearHeight, this);
     }
     
-    public void setCollidableObjects(List<GameObject> collidableObjects) {
-        this.collidableObjects = collidableObjects;
+    public void setCollisionWorld(CollisionWorld collisionWorld) {
+        this.collisionWorld = collisionWorld;
+    }
+    
+    public void setPerceptionCache(PerceptionCache perceptionCache) {
+        this.perceptionCache = perceptionCache;
     }
     
     private void updateFacingDirection(Vec2 direction) {
-        float angle = (float) Math.atan2(direction.y(), direction.x());
+        updateFacingDirection(direction.x(), direction.y());
+    }
+    
+    private void updateFacingDirection(float directionX, float directionY) {
+        float angle = (float) Math.atan2(directionY, directionX);
         angle = (float) Math.toDegrees(angle);
         if (angle < 0) angle += 360;
         
@@ -369,44 +371,22 @@ public class Bear extends EnemyObject implements Trackable, Positionable {
     }
     
     private void checkPlayerAttack() {
-        float distance = position.distance(playerPosition);
+        float distance = playerPosition.distance(position.x(), position.y());
         if (distance <= ATTACK_RANGE) {
             // Player takes damage - this will be handled by GameLoop
         }
     }
     
     public boolean isAttackingPlayer() { 
-        return state == BearState.RUNNING && position.distance(playerPosition) <= ATTACK_RANGE; 
+        return state == BearState.RUNNING && playerPosition.distance(position.x(), position.y()) <= ATTACK_RANGE; 
     }
     
-    private boolean hasLineOfSight() {
-        if (collidableObjects == null) return true;
-        
-        // Cast a ray from bear to player
-        Vec2 direction = playerPosition.subtract(position);
-        float distance = direction.distance(new Vec2(0, 0));
-        
-        if (distance == 0) return true;
-        
-        Vec2 normalizedDirection = direction.multiply(1.0f / distance);
+    // Package-private for the benchmarks in src/bench
+    boolean hasLineOfSight() {
+        if (perceptionCache == null) return true;
         
-        // Step along the ray and check for collisions
-        float stepSize = 8.0f; // Check every 8 pixels
-        int steps = (int) (distance / stepSize);
-        
-        for (int i = 1; i < steps; i++) {
-            Vec2 rayPoint = position.add(normalizedDirection.multiply(i * stepSize));
-            
-            // Check if this point collides with any blocking object
-            for (GameObject obj : collidableObjects) {
-                if (obj != this && obj instanceof Collidable && 
-                    ((Collidable) obj).checkMovementCollision(rayPoint.x() - 1, rayPoint.y() - 1, 2, 2)) {
-                    return false; // Line of sight blocked
-                }
-            }
-        }
-        
-        return true; // Clear line of sight
+        // Cast a ray from bear to player, reusing this tick's answer when nothing has moved
+        return perceptionCache.hasLineOfSight(this, playerPosition.x(), playerPosition.y(), false);
     }
     
     @Override
@@ -425,11 +405,11 @@ public class Bear extends EnemyObject implements Trackable, Positionable {
             groundY = position.y(); // Remember ground position
             
             // Set rotation speed and vertical velocity based on knockback direction
-            Vec2 knockbackDirection = position.subtract(playerPosition);
-            float distance = knockbackDirection.distance(new Vec2(0, 0));
+            float knockbackX = position.x() - playerPosition.x();
+            float knockbackY = position.y() - playerPosition.y();
+            float distance = Vec2.length(knockbackX, knockbackY);
             if (distance > 0) {
-                Vec2 normalizedKnockback = knockbackDirection.multiply(1.0f / distance);
-                knockbackVelocity = normalizedKnockback.multiply(KNOCKBACK_FORCE * 3f);
+                knockbackVelocity.set(knockbackX, knockbackY).multiply(1.0f / distance).multiply(KNOCKBACK_FORCE * 3f);
                 
                 // Determine rotation direction based on facing direction
                 rotationSpeed = (facingDirection == Direction.RIGHT) ? 60f : -60f;
@@ -444,11 +424,11 @@ public class Bear extends EnemyObject implements Trackable, Positionable {
             currentFrame = 0;
             
             // Apply knockback force in opposite direction from player
-            Vec2 knockbackDirection = position.subtract(playerPosition);
-            float distance = knockbackDirection.distance(new Vec2(0, 0));
+            float knockbackX = position.x() - playerPosition.x();
+            float knockbackY = position.y() - playerPosition.y();
+            float distance = Vec2.length(knockbackX, knockbackY);
             if (distance > 0) {
-                Vec2 normalizedKnockback = knockbackDirection.multiply(1.0f / distance);
-                knockbackVelocity = normalizedKnockback.multiply(KNOCKBACK_FORCE);
+                knockbackVelocity.set(knockbackX, knockbackY).multiply(1.0f / distance).multiply(KNOCKBACK_FORCE);
             }
         }
     }
@@ -456,7 +436,7 @@ public class Bear extends EnemyObject implements Trackable, Positionable {
     // Trackable interface methods
     @Override
     public boolean canSeePlayer(float playerX, float playerY) {
-        float distance = position.distance(new Vec2(playerX, playerY));
+        float distance = Vec2.distance(position.x(), position.y(), playerX, playerY);
         return distance <= SIGHT_RANGE && hasLineOfSight();
     }
     
@@ -474,12 +454,8 @@ public class Bear extends EnemyObject implements Trackable, Positionable {
     @Override
     public boolean checkSpriteCollision(float x, float y, float width, float height) {
         // Bear sprite collision (64x64 pixels)
-        Vec2 bulletPos = new Vec2(x, y);
-        Vec2 halfSize = new Vec2(32, 32);
-        Vec2 min = position.subtract(halfSize);
-        Vec2 max = position.add(halfSize);
-        return bulletPos.x() >= min.x() && bulletPos.x() <= max.x() && 
-               bulletPos.y() >= min.y() && bulletPos.y() <= max.y();
+        return x >= position.x() - 32 && x <= position.x() + 32 &&
+               y >= position.y() - 32 && y <= position.y() + 32;
     }
     
     @Override
@@ -499,8 +475,13 @@ public class Bear extends EnemyObject implements Trackable, Positionable {
         return !active;
     }
     @Override
-    public float[] getBarrelPosition() {
-        return new float[]{position.x(), position.y()};
+    public float getBarrelX() {
+        return position.x();
+    }
+    
+    @Override
+    public float getBarrelY() {
+        return position.y();
     }
     
     @Override
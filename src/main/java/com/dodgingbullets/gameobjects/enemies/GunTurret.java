@@ -2,7 +2,7 @@ package com.dodgingbullets.gameobjects.enemies;
 
 import com.dodgingbullets.gameobjects.*;
 import com.dodgingbullets.core.Direction;
-import com.dodgingbullets.core.Vec2;
+import com.dodgingbullets.core.SimClock;
 
 public class GunTurret extends EnemyObject implements Shooter, Trackable, Positionable {
     private Direction facingDirection;
@@ -15,7 +15,12 @@ public class GunTurret extends EnemyObject implements Shooter, Trackable, Positi
     private static final long DAMAGE_FLASH_DURATION = 100;
     private static final long FLASH_INTERVAL = 50; // Flash every 50ms
     
-    private long lastDamageTime = 0;
+    // Barrel tip relative to the turret, by Direction ordinal: UP, DOWN, LEFT, RIGHT, UP_LEFT, UP_RIGHT, DOWN_LEFT, DOWN_RIGHT
+    private static final float[] BARREL_OFFSET_X = {0, 0, -45, 45, -30, 30, -42, 42};
+    private static final float[] BARREL_OFFSET_Y = {32, -32, 7, 8, 28, 28, -22, -22};
+    
+    private long lastDamageTime = SimClock.NEVER;
+    private SimClock clock = new SimClock(); // Stands still until GameLoop supplies its clock
     
     public GunTurret(float x, float y) {
         this(x, y, 100); // Default health
@@ -24,8 +29,15 @@ public class GunTurret extends EnemyObject implements Shooter, Trackable, Positi
     public GunTurret(float x, float y, int health) {
         super(x, y, health);
         this.facingDirection = Direction.UP;
-        this.lastShotTime = System.currentTimeMillis();
-        this.lastDirectionChange = System.currentTimeMillis();
+        this.lastShotTime = clock.millis();
+        this.lastDirectionChange = clock.millis();
+    }
+    
+    // Timers restart from the clock's current time, as they would for a turret spawned now
+    public void setClock(SimClock clock) {
+        this.clock = clock;
+        this.lastShotTime = clock.millis();
+        this.lastDirectionChange = clock.millis();
     }
     
     @Override
@@ -33,7 +45,7 @@ public class GunTurret extends EnemyObject implements Shooter, Trackable, Positi
         if (!active) return;
         
         if (isIdle) {
-            long currentTime = System.currentTimeMillis();
+            long currentTime = clock.millis();
             if (currentTime - lastDirectionChange >= IDLE_ROTATION_INTERVAL) {
                 facingDirection = getNextClockwiseDirection(facingDirection);
                 lastDirectionChange = currentTime;
@@ -43,7 +55,6 @@ public class GunTurret extends EnemyObject implements Shooter, Trackable, Positi
     
     @Override
     public void update(float playerX, float playerY) {
-        Vec2 playerPos = new Vec2(playerX, playerY);
         boolean playerInRange = canSeePlayer(playerX, playerY);
         
         if (playerInRange && (!isIdle || canSeePlayerInCurrentDirection(playerX, playerY))) {
@@ -51,8 +62,7 @@ public class GunTurret extends EnemyObject implements Shooter, Trackable, Positi
                 isIdle = false;
             }
             
-            Vec2 delta = playerPos.subtract(position);
-            double angle = delta.angle();
+            double angle = Math.atan2(playerY - position.y(), playerX - position.x());
             double degrees = Math.toDegrees(angle);
             if (degrees < 0) degrees += 360;
             
@@ -76,10 +86,10 @@ public class GunTurret extends EnemyObject implements Shooter, Trackable, Positi
         } else {
             if (!isIdle) {
                 isIdle = true;
-                lastDirectionChange = System.currentTimeMillis();
+                lastDirectionChange = clock.millis();
             }
             
-            long currentTime = System.currentTimeMillis();
+            long currentTime = clock.millis();
             if (currentTime - lastDirectionChange >= IDLE_ROTATION_INTERVAL) {
                 facingDirection = getNextClockwiseDirection(facingDirection);
                 lastDirectionChange = currentTime;
@@ -107,34 +117,32 @@ public class GunTurret extends EnemyObject implements Shooter, Trackable, Positi
     @Override
     public boolean canShoot() {
         if (isDestroyed()) return false;
-        long currentTime = System.currentTimeMillis();
+        long currentTime = clock.millis();
         return currentTime - lastShotTime >= SHOT_INTERVAL;
     }
     
     @Override
     public void shoot(float targetX, float targetY) {
         if (!canShoot()) return;
-        lastShotTime = System.currentTimeMillis();
+        lastShotTime = clock.millis();
     }
     
     @Override
     public void takeDamage(int damage) {
         if (isDestroyed()) return;
         isIdle = false;
-        lastDamageTime = System.currentTimeMillis();
+        lastDamageTime = clock.millis();
         super.takeDamage(damage);
     }
     
     @Override
     public boolean canSeePlayer(float playerX, float playerY) {
-        return position.distance(new Vec2(playerX, playerY)) <= MAX_SIGHT;
+        return position.distance(playerX, playerY) <= MAX_SIGHT;
     }
     
     @Override
     public boolean canSeePlayerInCurrentDirection(float playerX, float playerY) {
-        Vec2 playerPos = new Vec2(playerX, playerY);
-        Vec2 delta = playerPos.subtract(position);
-        double angle = delta.angle();
+        double angle = Math.atan2(playerY - position.y(), playerX - position.x());
         double degrees = Math.toDegrees(angle);
         if (degrees < 0) degrees += 360;
         
@@ -158,29 +166,18 @@ public class GunTurret extends EnemyObject implements Shooter, Trackable, Positi
     
     @Override
     public boolean isInSpriteHitbox(float bulletX, float bulletY) {
-        Vec2 bulletPos = new Vec2(bulletX, bulletY);
-        Vec2 halfSize = new Vec2(32, 32);
-        Vec2 min = position.subtract(halfSize);
-        Vec2 max = position.add(halfSize);
-        return bulletPos.x() >= min.x() && bulletPos.x() <= max.x() && 
-               bulletPos.y() >= min.y() && bulletPos.y() <= max.y();
+        return bulletX >= position.x() - 32 && bulletX <= position.x() + 32 &&
+               bulletY >= position.y() - 32 && bulletY <= position.y() + 32;
     }
     
     @Override
-    public float[] getBarrelPosition() {
-        Vec2 barrelOffset = new Vec2(0, 0);
-        switch (facingDirection) {
-            case UP: barrelOffset = new Vec2(0, 32); break;
-            case DOWN: barrelOffset = new Vec2(0, -32); break;
-            case LEFT: barrelOffset = new Vec2(-45, 7); break;
-            case RIGHT: barrelOffset = new Vec2(45, 8); break;
-            case UP_LEFT: barrelOffset = new Vec2(-30, 28); break;
-            case UP_RIGHT: barrelOffset = new Vec2(30, 28); break;
-            case DOWN_LEFT: barrelOffset = new Vec2(-42, -22); break;
-            case DOWN_RIGHT: barrelOffset = new Vec2(42, -22); break;
-        }
-        Vec2 barrelPos = position.add(barrelOffset);
-        return new float[]{barrelPos.x(), barrelPos.y()};
+    public float getBarrelX() {
+        return position.x() + BARREL_OFFSET_X[facingDirection.ordinal()];
+    }
+    
+    @Override
+    public float getBarrelY() {
+        return position.y() + BARREL_OFFSET_Y[facingDirection.ordinal()];
     }
     
     private Direction getNextClockwiseDirection(Direction current) {
@@ -198,7 +195,7 @@ public class GunTurret extends EnemyObject implements Shooter, Trackable, Positi
     }
     
     public boolean isDamageFlashing() {
-        long timeSinceDamage = System.currentTimeMillis() - lastDamageTime;
+        long timeSinceDamage = clock.millis() - lastDamageTime;
         if (timeSinceDamage >= DAMAGE_FLASH_DURATION) return false;
         
         // Alternate between normal and white every FLASH_INTERVAL ms
@@ -1,9 +1,10 @@
 package com.dodgingbullets.gameobjects.enemies;
 
 import com.dodgingbullets.core.Direction;
+import com.dodgingbullets.core.MutableVec2;
+import com.dodgingbullets.core.PerceptionCache;
 import com.dodgingbullets.core.Vec2;
 import com.dodgingbullets.gameobjects.EnemyObject;
-import com.dodgingbullets.gameobjects.GameObject;
 import com.dodgingbullets.gameobjects.Renderable;
 import com.dodgingbullets.gameobjects.Collidable;
 import com.dodgingbullets.gameobjects.Damageable;
@@ -11,8 +12,6 @@ import com.dodgingbullets.gameobjects.Trackable;
 import com.dodgingbullets.gameobjects.Shooter;
 import com.dodgingbullets.gameobjects.Positionable;
 
-import java.util.List;
-
 public class Mortar extends EnemyObject implements Renderable, Collidable, Damageable, Trackable, Shooter, Positionable {
     
     public enum MortarState {
@@ -26,8 +25,8 @@ public class Mortar extends EnemyObject implements Renderable, Collidable, Damag
     private float lookDistance;
     private float firingSpeed;
     
-    private Vec2 playerPosition = new Vec2(0, 0);
-    private List<GameObject> collidableObjects;
+    private final MutableVec2 playerPosition = new MutableVec2();
+    private PerceptionCache perceptionCache;
     
     private float stateTimer = 0f;
     private int currentFrame = 0;
@@ -88,10 +87,7 @@ public class Mortar extends EnemyObject implements Renderable, Collidable, Damag
     }
     
     private void updateLookDirection() {
-        if (playerPosition == null) return;
-        
-        Vec2 toPlayer = playerPosition.subtract(position);
-        double angle = Math.atan2(toPlayer.y(), toPlayer.x());
+        double angle = Math.atan2(playerPosition.y() - position.y(), playerPosition.x() - position.x());
         double degrees = Math.toDegrees(angle);
         if (degrees < 0) degrees += 360;
         
@@ -107,12 +103,11 @@ public class Mortar extends EnemyObject implements Renderable, Collidable, Damag
     
     @Override
     public boolean canSeePlayer(float playerX, float playerY) {
-        Vec2 playerPos = new Vec2(playerX, playerY);
-        float distance = position.distance(playerPos);
+        float distance = Vec2.distance(position.x(), position.y(), playerX, playerY);
         
         if (distance > lookDistance) return false;
         
-        return hasLineOfSight(playerPos);
+        return hasLineOfSight(playerX, playerY);
     }
     
     @Override
@@ -131,30 +126,11 @@ public class Mortar extends EnemyObject implements Renderable, Collidable, Damag
         // Our main update logic is in update(float deltaTime)
     }
     
-    private boolean hasLineOfSight(Vec2 playerPos) {
-        if (collidableObjects == null) return true;
-        
-        Vec2 direction = playerPos.subtract(position);
-        float distance = direction.distance(new Vec2(0, 0));
-        
-        if (distance == 0) return true;
-        
-        Vec2 normalizedDirection = direction.multiply(1.0f / distance);
-        float stepSize = 8.0f;
-        int steps = (int) (distance / stepSize);
-        
-        for (int i = 1; i < steps; i++) {
-            Vec2 rayPoint = position.add(normalizedDirection.multiply(i * stepSize));
-            
-            for (GameObject obj : collidableObjects) {
-                if (obj != this && obj instanceof Collidable && 
-                    ((Collidable) obj).checkSpriteCollision(rayPoint.x() - 1, rayPoint.y() - 1, 2, 2)) {
-                    return false;
-                }
-            }
-        }
+    // Package-private for the benchmarks in src/bench
+    boolean hasLineOfSight(float playerX, float playerY) {
+        if (perceptionCache == null) return true;
         
-        return true;
+        return perceptionCache.hasLineOfSight(this, playerX, playerY, true);
     }
     
     @Override
@@ -170,23 +146,17 @@ public class Mortar extends EnemyObject implements Renderable, Collidable, Damag
     @Override
     public boolean checkSpriteCollision(float x, float y, float width, float height) {
         if (!active) return false;
-        Vec2 bulletPos = new Vec2(x, y);
-        Vec2 halfSize = new Vec2(32, 32);
-        Vec2 min = position.subtract(halfSize);
-        Vec2 max = position.add(halfSize);
-        return bulletPos.x() >= min.x() && bulletPos.x() <= max.x() && 
-               bulletPos.y() >= min.y() && bulletPos.y() <= max.y();
+        return x >= position.x() - 32 && x <= position.x() + 32 &&
+               y >= position.y() - 32 && y <= position.y() + 32;
     }
     
     @Override
     public boolean checkMovementCollision(float x, float y, float width, float height) {
         if (!active) return false;
-        Vec2 testPos = new Vec2(x + width/2, y + height/2);
-        Vec2 halfSize = new Vec2(32, 16);
-        Vec2 min = position.subtract(halfSize);
-        Vec2 max = position.add(halfSize);
-        return testPos.x() >= min.x() && testPos.x() <= max.x() && 
-               testPos.y() >= min.y() && testPos.y() <= max.y();
+        float pointX = x + width/2;
+        float pointY = y + height/2;
+        return pointX >= position.x() - 32 && pointX <= position.x() + 32 &&
+               pointY >= position.y() - 16 && pointY <= position.y() + 16;
     }
     
     @Override
@@ -213,11 +183,15 @@ public class Mortar extends EnemyObject implements Renderable, Collidable, Damag
     }
     
     public void setPlayerPosition(Vec2 playerPosition) {
-        this.playerPosition = playerPosition;
+        setPlayerPosition(playerPosition.x(), playerPosition.y());
+    }
+    
+    public void setPlayerPosition(float playerX, float playerY) {
+        playerPosition.set(playerX, playerY);
     }
     
-    public void setCollidableObjects(List<GameObject> collidableObjects) {
-        this.collidableObjects = collidableObjects;
+    public void setPerceptionCache(PerceptionCache perceptionCache) {
+        this.perceptionCache = perceptionCache;
     }
     
     public MortarState getState() {
@@ -237,17 +211,18 @@ public class Mortar extends EnemyObject implements Renderable, Collidable, Damag
     }
     
     @Override
-    public float[] getBarrelPosition() {
-        return new float[]{position.x(), position.y()};
+    public float getBarrelX() {
+        return position.x();
+    }
+    
+    @Override
+    public float getBarrelY() {
+        return position.y();
     }
     
     @Override
     public boolean isInSpriteHitbox(float x, float y) {
-        Vec2 bulletPos = new Vec2(x, y);
-        Vec2 halfSize = new Vec2(32, 32);
-        Vec2 min = position.subtract(halfSize);
-        Vec2 max = position.add(halfSize);
-        return bulletPos.x() >= min.x() && bulletPos.x() <= max.x() && 
-               bulletPos.y() >= min.y() && bulletPos.y() <= max.y();
+        return x >= position.x() - 32 && x <= position.x() + 32 &&
+               y >= position.y() - 32 && y <= position.y() + 32;
     }
 }
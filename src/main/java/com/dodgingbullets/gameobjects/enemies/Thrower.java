@@ -1,11 +1,16 @@
 package com.dodgingbullets.gameobjects.enemies;
 
+import com.dodgingbullets.core.CollisionWorld;
+import com.dodgingbullets.core.MutableVec2;
+import com.dodgingbullets.core.ObjectPool;
 import com.dodgingbullets.core.Vec2;
 import com.dodgingbullets.core.Direction;
+import com.dodgingbullets.core.PerceptionCache;
 import com.dodgingbullets.gameobjects.*;
 import com.dodgingbullets.gameobjects.effects.PetrolBomb;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 
 public class Thrower extends EnemyObject implements Renderable, Collidable, Damageable, Trackable, Positionable {
     
@@ -15,9 +20,12 @@ public class Thrower extends EnemyObject implements Renderable, Collidable, Dama
     
     private ThrowerState state = ThrowerState.IDLE;
     private Direction facingDirection = Direction.RIGHT;
-    private Vec2 playerPosition = new Vec2(0, 0);
-    private List<GameObject> collidableObjects;
+    private final MutableVec2 playerPosition = new MutableVec2();
+    private CollisionWorld collisionWorld;
+    private PerceptionCache perceptionCache;
     private List<PetrolBomb> petrolBombs;
+    private ObjectPool<PetrolBomb> petrolBombPool; // Bombs are thrown from here when set, else made new
+    private Random random = new Random(); // GameLoop's seeded one once spawned, so runs repeat
     
     // Animation
     private int currentFrame = 0;
@@ -41,8 +49,8 @@ public class Thrower extends EnemyObject implements Renderable, Collidable, Dama
     private static final float FADE_DURATION = 2.0f;
     
     // Movement and physics
-    private Vec2 velocity = new Vec2(0, 0);
-    private Vec2 knockbackVelocity = new Vec2(0, 0);
+    private final MutableVec2 velocity = new MutableVec2();
+    private final MutableVec2 knockbackVelocity = new MutableVec2();
     private float rotation = 0f;
     private float rotationSpeed = 0f;
     private float alpha = 1.0f;
@@ -57,6 +65,7 @@ public class Thrower extends EnemyObject implements Renderable, Collidable, Dama
     private float zigzagChangeTimer = 0f;
     
     // Constants
+    private static final Vec2[] PERPENDICULARS = {Vec2.RIGHT, Vec2.LEFT, Vec2.UP, Vec2.DOWN}; // Tried in order when both axes are blocked
     private static final float SIGHT_RANGE = 350f;
     private static final float THROW_RANGE = 150f;
     private final float moveSpeed;
@@ -68,15 +77,15 @@ public class Thrower extends EnemyObject implements Renderable, Collidable, Dama
     private static final float THROW_ACCURACY_OFFSET = 0.2f;
     private static final float ZIGZAG_CHANGE_INTERVAL = 1.5f;
     
-    public Thrower(float x, float y, Direction initialDirection, List<GameObject> collidableObjects, List<PetrolBomb> petrolBombs) {
-        this(x, y, initialDirection, collidableObjects, petrolBombs, 100, 120f); // Default values
+    public Thrower(float x, float y, Direction initialDirection, CollisionWorld collisionWorld, List<PetrolBomb> petrolBombs) {
+        this(x, y, initialDirection, collisionWorld, petrolBombs, 100, 120f); // Default values
     }
     
-    public Thrower(float x, float y, Direction initialDirection, List<GameObject> collidableObjects, List<PetrolBomb> petrolBombs, int health, float speed) {
+    public Thrower(float x, float y, Direction initialDirection, CollisionWorld collisionWorld, List<PetrolBomb> petrolBombs, int health, float speed) {
         super(x, y, health);
         this.facingDirection = initialDirection;
         this.moveSpeed = speed;
-        this.collidableObjects = collidableObjects != null ? collidableObjects : new ArrayList<>();
+        this.collisionWorld = collisionWorld;
         this.petrolBombs = petrolBombs != null ? petrolBombs : new ArrayList<>();
     }
     
@@ -98,8 +107,8 @@ public class Thrower extends EnemyObject implements Renderable, Collidable, Dama
         
         // Randomly change zigzag parameters
         if (zigzagChangeTimer >= ZIGZAG_CHANGE_INTERVAL) {
-            zigzagFrequency = 2.0f + (float)(Math.random() * 3.0f); // 2.0 to 5.0
-            zigzagAmplitude = 0.4f + (float)(Math.random() * 0.8f); // 0.4 to 1.2
+            zigzagFrequency = 2.0f + random.nextFloat() * 3.0f; // 2.0 to 5.0
+            zigzagAmplitude = 0.4f + random.nextFloat() * 0.8f; // 0.4 to 1.2
             zigzagChangeTimer = 0f;
         }
     }
@@ -110,7 +119,7 @@ public class Thrower extends EnemyObject implements Renderable, Collidable, Dama
         switch (state) {
             case IDLE:
                 if (canSeePlayer(playerPosition.x(), playerPosition.y())) {
-                    float distance = position.distance(playerPosition);
+                    float distance = playerPosition.distance(position.x(), position.y());
                     if (distance <= SIGHT_RANGE) {
                         setState(ThrowerState.CHASE);
                     }
@@ -118,7 +127,7 @@ public class Thrower extends EnemyObject implements Renderable, Collidable, Dama
                 break;
                 
             case CHASE:
-                float distance = position.distance(playerPosition);
+                float distance = playerPosition.distance(position.x(), position.y());
                 if (distance <= THROW_RANGE) {
                     setState(ThrowerState.THROWING);
                 } else {
@@ -211,8 +220,8 @@ public class Thrower extends EnemyObject implements Renderable, Collidable, Dama
             rotationSpeed *= ROTATION_FRICTION;
             
             // Apply knockback with gravity
-            position = position.add(knockbackVelocity.multiply(deltaTime));
-            knockbackVelocity = knockbackVelocity.multiply(FRICTION);
+            position.add(knockbackVelocity.x() * deltaTime, knockbackVelocity.y() * deltaTime);
+            knockbackVelocity.multiply(FRICTION);
             
             // Fade out
             if (stateTimer >= THROW_DURATION) { // After animation completes
@@ -224,89 +233,79 @@ public class Thrower extends EnemyObject implements Renderable, Collidable, Dama
             }
         } else if (state == ThrowerState.HIT) {
             // Hit knockback
-            position = position.add(knockbackVelocity.multiply(deltaTime));
-            knockbackVelocity = knockbackVelocity.multiply(FRICTION);
+            position.add(knockbackVelocity.x() * deltaTime, knockbackVelocity.y() * deltaTime);
+            knockbackVelocity.multiply(FRICTION);
         }
     }
     
     private void moveTowardsPlayer(float deltaTime) {
-        Vec2 direction = playerPosition.subtract(position);
-        float distance = direction.distance(new Vec2(0, 0));
+        float directionX = playerPosition.x() - position.x();
+        float directionY = playerPosition.y() - position.y();
+        float distance = Vec2.length(directionX, directionY);
         
         if (distance > 0) {
-            Vec2 normalizedDirection = direction.multiply(1.0f / distance);
-            Vec2 newVelocity = normalizedDirection.multiply(moveSpeed);
-            Vec2 newPosition = position.add(newVelocity.multiply(deltaTime));
+            float inverseDistance = 1.0f / distance;
+            float normalX = directionX * inverseDistance;
+            float normalY = directionY * inverseDistance;
+            float newX = position.x() + normalX * moveSpeed * deltaTime;
+            float newY = position.y() + normalY * moveSpeed * deltaTime;
             
             // Check if direct path is blocked
-            if (!isPositionBlocked(newPosition)) {
+            if (!isPositionBlocked(newX, newY)) {
                 // Add zigzag pattern during chase
                 if (state == ThrowerState.CHASE) {
-                    // Create perpendicular direction for zigzag
-                    Vec2 perpendicular = new Vec2(-normalizedDirection.y(), normalizedDirection.x());
+                    // Perpendicular of the chase direction, scaled by the zigzag offset
                     float zigzagOffset = (float) Math.sin(zigzagTimer * zigzagFrequency) * zigzagAmplitude;
-                    Vec2 zigzagDirection = normalizedDirection.add(perpendicular.multiply(zigzagOffset));
+                    float zigzagX = normalX + -normalY * zigzagOffset;
+                    float zigzagY = normalY + normalX * zigzagOffset;
                     
                     // Normalize the combined direction
-                    float zigzagDistance = zigzagDirection.distance(new Vec2(0, 0));
+                    float zigzagDistance = Vec2.length(zigzagX, zigzagY);
                     if (zigzagDistance > 0) {
-                        zigzagDirection = zigzagDirection.multiply(1.0f / zigzagDistance);
+                        float inverseZigzag = 1.0f / zigzagDistance;
+                        zigzagX *= inverseZigzag;
+                        zigzagY *= inverseZigzag;
                     }
                     
-                    Vec2 zigzagVelocity = zigzagDirection.multiply(moveSpeed);
-                    Vec2 zigzagPosition = position.add(zigzagVelocity.multiply(deltaTime));
+                    float zigzagNewX = position.x() + zigzagX * moveSpeed * deltaTime;
+                    float zigzagNewY = position.y() + zigzagY * moveSpeed * deltaTime;
                     
                     // Use zigzag movement if not blocked, otherwise fall back to direct
-                    if (!isPositionBlocked(zigzagPosition)) {
-                        velocity = zigzagVelocity;
-                        position = zigzagPosition;
-                        updateFacingDirection(zigzagDirection);
+                    if (!isPositionBlocked(zigzagNewX, zigzagNewY)) {
+                        velocity.set(zigzagX, zigzagY).multiply(moveSpeed);
+                        position.set(zigzagNewX, zigzagNewY);
+                        updateFacingDirection(zigzagX, zigzagY);
                     } else {
-                        velocity = newVelocity;
-                        position = newPosition;
-                        updateFacingDirection(normalizedDirection);
+                        velocity.set(normalX, normalY).multiply(moveSpeed);
+                        position.set(newX, newY);
+                        updateFacingDirection(normalX, normalY);
                     }
                 } else {
                     // Direct path clear - move towards/away from player
-                    velocity = newVelocity;
-                    position = newPosition;
-                    updateFacingDirection(normalizedDirection);
+                    velocity.set(normalX, normalY).multiply(moveSpeed);
+                    position.set(newX, newY);
+                    updateFacingDirection(normalX, normalY);
                 }
             } else {
                 // Path blocked - use smart movement to find way around
                 if (randomMoveTimer >= RANDOM_MOVE_INTERVAL && directionCommitTimer >= MIN_DIRECTION_COMMIT_TIME) {
                     // Test X and Y movement separately
-                    Vec2 xOnlyDirection = new Vec2(normalizedDirection.x(), 0);
-                    if (Math.abs(normalizedDirection.x()) > 0) {
-                        xOnlyDirection = xOnlyDirection.multiply(1.0f / Math.abs(normalizedDirection.x()));
-                    }
-                    Vec2 yOnlyDirection = new Vec2(0, normalizedDirection.y());
-                    if (Math.abs(normalizedDirection.y()) > 0) {
-                        yOnlyDirection = yOnlyDirection.multiply(1.0f / Math.abs(normalizedDirection.y()));
-                    }
-                    
-                    Vec2 xTestPos = position.add(xOnlyDirection.multiply(moveSpeed * 0.5f * deltaTime));
-                    Vec2 yTestPos = position.add(yOnlyDirection.multiply(moveSpeed * 0.5f * deltaTime));
-                    
-                    boolean xBlocked = isPositionBlocked(xTestPos);
-                    boolean yBlocked = isPositionBlocked(yTestPos);
-                    
+                    float testStep = moveSpeed * 0.5f * deltaTime;
+                    boolean xBlocked = isPositionBlocked(position.x() + Math.signum(normalX) * testStep, position.y());
+                    boolean yBlocked = isPositionBlocked(position.x(), position.y() + Math.signum(normalY) * testStep);
+
                     Vec2 bestDirection = null;
-                    
+
                     if (xBlocked && !yBlocked) {
                         // X movement blocked, try moving north/south
-                        bestDirection = new Vec2(0, normalizedDirection.y() > 0 ? 1 : -1);
+                        bestDirection = normalY > 0 ? Vec2.UP : Vec2.DOWN;
                     } else if (yBlocked && !xBlocked) {
-                        // Y movement blocked, try moving east/west  
-                        bestDirection = new Vec2(normalizedDirection.x() > 0 ? 1 : -1, 0);
+                        // Y movement blocked, try moving east/west
+                        bestDirection = normalX > 0 ? Vec2.RIGHT : Vec2.LEFT;
                     } else if (xBlocked && yBlocked) {
                         // Both blocked, try perpendicular directions
-                        Vec2[] perpendiculars = {
-                            new Vec2(1, 0), new Vec2(-1, 0), new Vec2(0, 1), new Vec2(0, -1)
-                        };
-                        for (Vec2 testDir : perpendiculars) {
-                            Vec2 testPos = position.add(testDir.multiply(moveSpeed * 0.5f * deltaTime));
-                            if (!isPositionBlocked(testPos)) {
+                        for (Vec2 testDir : PERPENDICULARS) {
+                            if (!isPositionBlocked(position.x() + testDir.x() * testStep, position.y() + testDir.y() * testStep)) {
                                 bestDirection = testDir;
                                 break;
                             }
@@ -321,13 +320,14 @@ public class Thrower extends EnemyObject implements Renderable, Collidable, Dama
                 }
                 
                 // Try random movement if we have a valid direction
-                if (randomDirection.distance(new Vec2(0, 0)) > 0) {
-                    Vec2 randomVelocity = randomDirection.multiply(moveSpeed * 0.5f);
-                    Vec2 randomNewPosition = position.add(randomVelocity.multiply(deltaTime));
+                if (randomDirection.length() > 0) {
+                    float randomSpeed = moveSpeed * 0.5f;
+                    float randomNewX = position.x() + randomDirection.x() * randomSpeed * deltaTime;
+                    float randomNewY = position.y() + randomDirection.y() * randomSpeed * deltaTime;
                     
-                    if (!isPositionBlocked(randomNewPosition)) {
-                        velocity = randomVelocity;
-                        position = randomNewPosition;
+                    if (!isPositionBlocked(randomNewX, randomNewY)) {
+                        velocity.set(randomDirection).multiply(randomSpeed);
+                        position.set(randomNewX, randomNewY);
                         updateFacingDirection(randomDirection);
                     }
                 }
@@ -336,52 +336,40 @@ public class Thrower extends EnemyObject implements Renderable, Collidable, Dama
     }
     
     private void moveAwayFromPlayer(float deltaTime) {
-        Vec2 direction = position.subtract(playerPosition);
-        float distance = direction.distance(new Vec2(0, 0));
+        float directionX = position.x() - playerPosition.x();
+        float directionY = position.y() - playerPosition.y();
+        float distance = Vec2.length(directionX, directionY);
         
         if (distance > 0) {
-            Vec2 normalizedDirection = direction.multiply(1.0f / distance);
-            Vec2 newVelocity = normalizedDirection.multiply(moveSpeed * 1.5f);
-            Vec2 newPosition = position.add(newVelocity.multiply(deltaTime));
+            float inverseDistance = 1.0f / distance;
+            float normalX = directionX * inverseDistance;
+            float normalY = directionY * inverseDistance;
+            float newX = position.x() + normalX * (moveSpeed * 1.5f) * deltaTime;
+            float newY = position.y() + normalY * (moveSpeed * 1.5f) * deltaTime;
             
             // Check if direct path is blocked
-            if (!isPositionBlocked(newPosition)) {
+            if (!isPositionBlocked(newX, newY)) {
                 // Direct path clear - move away from player
-                velocity = newVelocity;
-                position = newPosition;
-                updateFacingDirection(normalizedDirection);
+                velocity.set(normalX, normalY).multiply(moveSpeed * 1.5f);
+                position.set(newX, newY);
+                updateFacingDirection(normalX, normalY);
             } else {
                 // Path blocked - use smart movement to find way around
                 if (randomMoveTimer >= RANDOM_MOVE_INTERVAL && directionCommitTimer >= MIN_DIRECTION_COMMIT_TIME) {
                     // Test X and Y movement separately
-                    Vec2 xOnlyDirection = new Vec2(normalizedDirection.x(), 0);
-                    if (Math.abs(normalizedDirection.x()) > 0) {
-                        xOnlyDirection = xOnlyDirection.multiply(1.0f / Math.abs(normalizedDirection.x()));
-                    }
-                    Vec2 yOnlyDirection = new Vec2(0, normalizedDirection.y());
-                    if (Math.abs(normalizedDirection.y()) > 0) {
-                        yOnlyDirection = yOnlyDirection.multiply(1.0f / Math.abs(normalizedDirection.y()));
-                    }
-                    
-                    Vec2 xTestPos = position.add(xOnlyDirection.multiply(moveSpeed * 1.5f * 0.5f * deltaTime));
-                    Vec2 yTestPos = position.add(yOnlyDirection.multiply(moveSpeed * 1.5f * 0.5f * deltaTime));
-                    
-                    boolean xBlocked = isPositionBlocked(xTestPos);
-                    boolean yBlocked = isPositionBlocked(yTestPos);
-                    
+                    float testStep = moveSpeed * 1.5f * 0.5f * deltaTime;
+                    boolean xBlocked = isPositionBlocked(position.x() + Math.signum(normalX) * testStep, position.y());
+                    boolean yBlocked = isPositionBlocked(position.x(), position.y() + Math.signum(normalY) * testStep);
+
                     Vec2 bestDirection = null;
-                    
+
                     if (xBlocked && !yBlocked) {
-                        bestDirection = new Vec2(0, normalizedDirection.y() > 0 ? 1 : -1);
+                        bestDirection = normalY > 0 ? Vec2.UP : Vec2.DOWN;
                     } else if (yBlocked && !xBlocked) {
-                        bestDirection = new Vec2(normalizedDirection.x() > 0 ? 1 : -1, 0);
+                        bestDirection = normalX > 0 ? Vec2.RIGHT : Vec2.LEFT;
                     } else if (xBlocked && yBlocked) {
-                        Vec2[] perpendiculars = {
-                            new Vec2(1, 0), new Vec2(-1, 0), new Vec2(0, 1), new Vec2(0, -1)
-                        };
-                        for (Vec2 testDir : perpendiculars) {
-                            Vec2 testPos = position.add(testDir.multiply(moveSpeed * 1.5f * 0.5f * deltaTime));
-                            if (!isPositionBlocked(testPos)) {
+                        for (Vec2 testDir : PERPENDICULARS) {
+                            if (!isPositionBlocked(position.x() + testDir.x() * testStep, position.y() + testDir.y() * testStep)) {
                                 bestDirection = testDir;
                                 break;
                             }
@@ -396,13 +384,14 @@ public class Thrower extends EnemyObject implements Renderable, Collidable, Dama
                 }
                 
                 // Try random movement if we have a valid direction
-                if (randomDirection.distance(new Vec2(0, 0)) > 0) {
-                    Vec2 randomVelocity = randomDirection.multiply(moveSpeed * 1.5f * 0.5f);
-                    Vec2 randomNewPosition = position.add(randomVelocity.multiply(deltaTime));
+                if (randomDirection.length() > 0) {
+                    float randomSpeed = moveSpeed * 1.5f * 0.5f;
+                    float randomNewX = position.x() + randomDirection.x() * randomSpeed * deltaTime;
+                    float randomNewY = position.y() + randomDirection.y() * randomSpeed * deltaTime;
                     
-                    if (!isPositionBlocked(randomNewPosition)) {
-                        velocity = randomVelocity;
-                        position = randomNewPosition;
+                    if (!isPositionBlocked(randomNewX, randomNewY)) {
+                        velocity.set(randomDirection).multiply(randomSpeed);
+                        position.set(randomNewX, randomNewY);
                         updateFacingDirection(randomDirection);
                     }
                 }
@@ -410,21 +399,19 @@ public class Thrower extends EnemyObject implements Renderable, Collidable, Dama
         }
     }
     
-    private boolean isPositionBlocked(Vec2 newPos) {
-        if (collidableObjects == null) return false;
+    // Package-private for the benchmarks in src/bench
+    boolean isPositionBlocked(float newX, float newY) {
+        if (collisionWorld == null) return false;
         
-        for (GameObject obj : collidableObjects) {
-            if (obj != this && obj instanceof Collidable) {
-                if (((Collidable) obj).checkMovementCollision(newPos.x() - 32, newPos.y() - 16, 64, 32)) {
-                    return true;
-                }
-            }
-        }
-        return false;
+        return collisionWorld.checkMovementCollision(newX - 32, newY - 16, 64, 32, this);
     }
     
     private void updateFacingDirection(Vec2 direction) {
-        double angle = Math.atan2(direction.y(), direction.x());
+        updateFacingDirection(direction.x(), direction.y());
+    }
+    
+    private void updateFacingDirection(float directionX, float directionY) {
+        double angle = Math.atan2(directionY, directionX);
         double degrees = Math.toDegrees(angle);
         if (degrees < 0) degrees += 360;
         
@@ -440,15 +427,15 @@ public class Thrower extends EnemyObject implements Renderable, Collidable, Dama
     
     private void throwPetrolBomb() {
         // Calculate throw direction with some randomness
-        Vec2 throwDirection = playerPosition.subtract(position);
-        double baseAngle = Math.atan2(throwDirection.y(), throwDirection.x());
-        double randomOffset = (Math.random() - THROW_ACCURACY_OFFSET) * THROW_ACCURACY_OFFSET;
+        double baseAngle = Math.atan2(playerPosition.y() - position.y(), playerPosition.x() - position.x());
+        double randomOffset = (random.nextDouble() - THROW_ACCURACY_OFFSET) * THROW_ACCURACY_OFFSET;
         double throwAngle = baseAngle + randomOffset;
         
-        Vec2 throwVelocity = Vec2.fromAngle(throwAngle, 200f); // 200 pixels/second
+        float velocityX = (float) (Math.cos(throwAngle) * 200f); // 200 pixels/second
+        float velocityY = (float) (Math.sin(throwAngle) * 200f);
         
-        PetrolBomb bomb = new PetrolBomb(position.x(), position.y(), throwVelocity, collidableObjects);
-        petrolBombs.add(bomb);
+        PetrolBomb bomb = petrolBombPool != null ? petrolBombPool.acquire() : new PetrolBomb();
+        petrolBombs.add(bomb.reset(position.x(), position.y(), velocityX, velocityY));
     }
     
     private void setState(ThrowerState newState) {
@@ -477,20 +464,22 @@ public class Thrower extends EnemyObject implements Renderable, Collidable, Dama
         
         if (health <= 0) {
             // Death knockback
-            Vec2 knockbackDirection = position.subtract(playerPosition);
-            if (knockbackDirection.distance(new Vec2(0, 0)) > 0) {
-                Vec2 normalizedKnockback = knockbackDirection.multiply(1.0f / knockbackDirection.distance(new Vec2(0, 0)));
-                knockbackVelocity = normalizedKnockback.multiply(KNOCKBACK_FORCE * 3f);
+            float knockbackX = position.x() - playerPosition.x();
+            float knockbackY = position.y() - playerPosition.y();
+            float distance = Vec2.length(knockbackX, knockbackY);
+            if (distance > 0) {
+                knockbackVelocity.set(knockbackX, knockbackY).multiply(1.0f / distance).multiply(KNOCKBACK_FORCE * 3f);
                 rotationSpeed = (facingDirection == Direction.RIGHT || facingDirection == Direction.UP_RIGHT || 
                                facingDirection == Direction.DOWN_RIGHT) ? 60f : -60f;
             }
             setState(ThrowerState.DYING);
         } else {
             // Hit knockback
-            Vec2 knockbackDirection = position.subtract(playerPosition);
-            if (knockbackDirection.distance(new Vec2(0, 0)) > 0) {
-                Vec2 normalizedKnockback = knockbackDirection.multiply(1.0f / knockbackDirection.distance(new Vec2(0, 0)));
-                knockbackVelocity = normalizedKnockback.multiply(KNOCKBACK_FORCE);
+            float knockbackX = position.x() - playerPosition.x();
+            float knockbackY = position.y() - playerPosition.y();
+            float distance = Vec2.length(knockbackX, knockbackY);
+            if (distance > 0) {
+                knockbackVelocity.set(knockbackX, knockbackY).multiply(1.0f / distance).multiply(KNOCKBACK_FORCE);
             }
             setState(ThrowerState.HIT);
         }
@@ -498,10 +487,11 @@ public class Thrower extends EnemyObject implements Renderable, Collidable, Dama
     
     public void killInstantly() {
         health = 0;
-        Vec2 knockbackDirection = position.subtract(playerPosition);
-        if (knockbackDirection.distance(new Vec2(0, 0)) > 0) {
-            Vec2 normalizedKnockback = knockbackDirection.multiply(1.0f / knockbackDirection.distance(new Vec2(0, 0)));
-            knockbackVelocity = normalizedKnockback.multiply(KNOCKBACK_FORCE * 3f);
+        float knockbackX = position.x() - playerPosition.x();
+        float knockbackY = position.y() - playerPosition.y();
+        float distance = Vec2.length(knockbackX, knockbackY);
+        if (distance > 0) {
+            knockbackVelocity.set(knockbackX, knockbackY).multiply(1.0f / distance).multiply(KNOCKBACK_FORCE * 3f);
             rotationSpeed = (facingDirection == Direction.RIGHT || facingDirection == Direction.UP_RIGHT || 
                            facingDirection == Direction.DOWN_RIGHT) ? 60f : -60f;
         }
@@ -510,7 +500,9 @@ public class Thrower extends EnemyObject implements Renderable, Collidable, Dama
     
     @Override
     public boolean canSeePlayer(float playerX, float playerY) {
-        return hasLineOfSight(new Vec2(playerX, playerY));
+        if (perceptionCache == null) return true;
+        
+        return perceptionCache.hasLineOfSight(this, playerX, playerY, false);
     }
     
     @Override
@@ -522,47 +514,37 @@ public class Thrower extends EnemyObject implements Renderable, Collidable, Dama
     @Override
     public void update(float playerX, float playerY) {
         // Update player position for AI logic
-        setPlayerPosition(new Vec2(playerX, playerY));
+        setPlayerPosition(playerX, playerY);
     }
     
-    private boolean hasLineOfSight(Vec2 targetPos) {
-        if (collidableObjects == null) return true;
-        
-        Vec2 direction = targetPos.subtract(position);
-        float distance = direction.distance(new Vec2(0, 0));
-        
-        if (distance == 0) return true;
-        
-        Vec2 normalizedDirection = direction.multiply(1.0f / distance);
-        float stepSize = 8.0f;
-        int steps = (int) (distance / stepSize);
-        
-        for (int i = 1; i < steps; i++) {
-            Vec2 rayPoint = position.add(normalizedDirection.multiply(i * stepSize));
-            
-            for (GameObject obj : collidableObjects) {
-                if (obj != this && obj instanceof Collidable && 
-                    ((Collidable) obj).checkMovementCollision(rayPoint.x() - 1, rayPoint.y() - 1, 2, 2)) {
-                    return false;
-                }
-            }
-        }
-        
-        return true;
+    public void setPlayerPosition(Vec2 playerPos) {
+        setPlayerPosition(playerPos.x(), playerPos.y());
     }
     
-    public void setPlayerPosition(Vec2 playerPos) {
-        this.playerPosition = playerPos;
+    public void setPlayerPosition(float playerX, float playerY) {
+        playerPosition.set(playerX, playerY);
+    }
+    
+    public void setCollisionWorld(CollisionWorld collisionWorld) {
+        this.collisionWorld = collisionWorld;
     }
     
-    public void setCollidableObjects(List<GameObject> collidableObjects) {
-        this.collidableObjects = collidableObjects;
+    public void setPerceptionCache(PerceptionCache perceptionCache) {
+        this.perceptionCache = perceptionCache;
     }
     
     public void setPetrolBombs(List<PetrolBomb> petrolBombs) {
         this.petrolBombs = petrolBombs;
     }
     
+    public void setPetrolBombPool(ObjectPool<PetrolBomb> petrolBombPool) {
+        this.petrolBombPool = petrolBombPool;
+    }
+    
+    public void setRandom(Random random) {
+        this.random = random;
+    }
+    
     // Interface implementations
     @Override
     public float getRenderY() {
@@ -576,12 +558,10 @@ public class Thrower extends EnemyObject implements Renderable, Collidable, Dama
     
     @Override
     public boolean checkSpriteCollision(float x, float y, float width, float height) {
-        Vec2 bulletPos = new Vec2(x + width/2, y + height/2);
-        Vec2 halfSize = new Vec2(32, 32);
-        Vec2 min = position.subtract(halfSize);
-        Vec2 max = position.add(halfSize);
-        return bulletPos.x() >= min.x() && bulletPos.x() <= max.x() && 
-               bulletPos.y() >= min.y() && bulletPos.y() <= max.y();
+        float pointX = x + width/2;
+        float pointY = y + height/2;
+        return pointX >= position.x() - 32 && pointX <= position.x() + 32 &&
+               pointY >= position.y() - 32 && pointY <= position.y() + 32;
     }
     
     @Override
@@ -599,9 +579,14 @@ public class Thrower extends EnemyObject implements Renderable, Collidable, Dama
     
     // Positionable interface methods
     @Override
-    public float[] getBarrelPosition() {
+    public float getBarrelX() {
         // Return center position for simplicity
-        return new float[]{position.x(), position.y()};
+        return position.x();
+    }
+    
+    @Override
+    public float getBarrelY() {
+        return position.y();
     }
     
     @Override
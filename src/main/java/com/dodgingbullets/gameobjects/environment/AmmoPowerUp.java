@@ -1,6 +1,5 @@
 package com.dodgingbullets.gameobjects.environment;
 
-import com.dodgingbullets.core.Vec2;
 import com.dodgingbullets.gameobjects.*;
 
 public class AmmoPowerUp extends GameObject implements Renderable, Collidable {
@@ -27,12 +26,8 @@ public class AmmoPowerUp extends GameObject implements Renderable, Collidable {
     
     @Override
     public boolean checkSpriteCollision(float x, float y, float width, float height) {
-        Vec2 otherPos = new Vec2(x, y);
-        Vec2 halfSize = new Vec2(32, 32);
-        Vec2 min = position.subtract(halfSize);
-        Vec2 max = position.add(halfSize);
-        return otherPos.x() >= min.x() && otherPos.x() <= max.x() && 
-               otherPos.y() >= min.y() && otherPos.y() <= max.y();
+        return x >= position.x() - 32 && x <= position.x() + 32 &&
+               y >= position.y() - 32 && y <= position.y() + 32;
     }
     
     @Override
@@ -40,6 +35,14 @@ public class AmmoPowerUp extends GameObject implements Renderable, Collidable {
         return false; // No movement blocking
     }
     
+    @Override
+    public void getCollisionBounds(float[] bounds) {
+        bounds[0] = position.x() - 32;
+        bounds[1] = position.y() - 32;
+        bounds[2] = position.x() + 32;
+        bounds[3] = position.y() + 32;
+    }
+    
     public boolean isCollected() {
         return collected;
     }
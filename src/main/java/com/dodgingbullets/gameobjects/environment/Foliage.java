@@ -67,4 +67,15 @@ public class Foliage extends GameObject implements Renderable, Collidable {
         return x < position.x() + movementCollisionWidth/2 && x + width > position.x() - movementCollisionWidth/2 && 
                y < bottomY + movementCollisionHeight && y + height > bottomY;
     }
+    
+    @Override
+    public void getCollisionBounds(float[] bounds) {
+        // Union of the sprite and movement boxes
+        float bottomY = position.y() - spriteHeight/2;
+        float halfWidth = Math.max(spriteCollisionWidth, movementCollisionWidth) / 2;
+        bounds[0] = position.x() - halfWidth;
+        bounds[1] = bottomY;
+        bounds[2] = position.x() + halfWidth;
+        bounds[3] = bottomY + Math.max(30 + spriteCollisionHeight, movementCollisionHeight);
+    }
 }
@@ -0,0 +1,167 @@
+package com.dodgingbullets.headless;
+
+import com.dodgingbullets.core.FrameProfiler;
+import com.dodgingbullets.core.GameLoop;
+import com.dodgingbullets.core.GameObjectFactory;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+// Runs GameLoop without a window or GPU, as fast as it will go, and reports ticks per second.
+// Used for soak tests and performance regression checks on machines with no display.
+//
+//   HeadlessRunner [level.json|level.lvl] [--ticks N] [--seed S] [--input recording.txt] [--record out.txt]
+//                  [--profile out.csv] [--min-tps N]
+//
+// Input comes from --input when given, otherwise from ScriptedInput with the given seed. The seed
+// also drives the game's own random choices, so the same level, seed and input repeat exactly.
+// --record saves whatever input was used so a run can be replayed. --profile writes the
+// FrameProfiler percentiles for each scope once per profiler window. With --min-tps the process
+// exits with status 2 when the measured rate falls below the threshold
+public class HeadlessRunner {
+    private static final String DEFAULT_LEVEL = "maps/level1.json";
+    private static final long DEFAULT_TICKS = 10000;
+
+    public static class Result {
+        public final long ticks;
+        public final long elapsedNanos;
+        public final int playerHealth;
+        public final int remainingObjects; // Of the resident world chunks
+        public final String worldStats;
+        public final String poolStats; // Live bullets and each object pool's hits, misses and free count
+        public final String sightStats; // Line-of-sight checks answered from the perception cache or cast
+
+        Result(long ticks, long elapsedNanos, int playerHealth, int remainingObjects, String worldStats, String poolStats,
+               String sightStats) {
+            this.ticks = ticks;
+            this.elapsedNanos = elapsedNanos;
+            this.playerHealth = playerHealth;
+            this.remainingObjects = remainingObjects;
+            this.worldStats = worldStats;
+            this.poolStats = poolStats;
+            this.sightStats = sightStats;
+        }
+
+        public double ticksPerSecond() {
+            return elapsedNanos == 0 ? 0 : ticks * 1_000_000_000.0 / elapsedNanos;
+        }
+    }
+
+    // Loads the level, then simulates the requested number of ticks; recording and profileCsv may be null
+    public static Result run(String levelPath, long ticks, long seed, InputSource input, InputRecording recording,
+                             Writer profileCsv) throws IOException {
+        GameObjectFactory.loadLevel(levelPath);
+        GameLoop gameLoop = new GameLoop();
+        gameLoop.initialize(new NullRenderer());
+        gameLoop.setRandomSeed(seed);
+
+        FrameProfiler profiler = gameLoop.getProfiler();
+        if (profileCsv != null) {
+            FrameProfiler.writeCsvHeader(profileCsv);
+        }
+
+        // CSV writing is left out of the timing so profiling doesn't change the reported rate
+        long elapsed = 0;
+        long start = System.nanoTime();
+        for (long tick = 0; tick < ticks; tick++) {
+            InputFrame frame = input.next(tick);
+            if (recording != null) {
+                recording.add(frame);
+            }
+            frame.applyTo(gameLoop);
+
+            boolean windowFull = (tick + 1) % FrameProfiler.WINDOW == 0 || tick + 1 == ticks;
+            if (profileCsv != null && windowFull) {
+                elapsed += System.nanoTime() - start;
+                profiler.writeCsvRows(profileCsv, tick + 1);
+                start = System.nanoTime();
+            }
+        }
+        elapsed += System.nanoTime() - start;
+
+        return new Result(ticks, elapsed, gameLoop.getPlayer().getHealth(), gameLoop.getGameObjects().size(),
+                          gameLoop.getWorldStreamer().toString(), gameLoop.getPoolStats(),
+                          gameLoop.getPerceptionCache().toString());
+    }
+
+    public static void main(String[] args) {
+        String levelPath = DEFAULT_LEVEL;
+        long ticks = DEFAULT_TICKS;
+        long seed = 1;
+        String inputPath = null;
+        String recordPath = null;
+        String profilePath = null;
+        double minTicksPerSecond = 0;
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--ticks": ticks = Long.parseLong(args[++i]); break;
+                    case "--seed": seed = Long.parseLong(args[++i]); break;
+                    case "--input": inputPath = args[++i]; break;
+                    case "--record": recordPath = args[++i]; break;
+                    case "--profile": profilePath = args[++i]; break;
+                    case "--min-tps": minTicksPerSecond = Double.parseDouble(args[++i]); break;
+                    default:
+                        if (args[i].startsWith("--")) {
+                            throw new IllegalArgumentException("Unknown option " + args[i]);
+                        }
+                        levelPath = args[i];
+                }
+            }
+        } catch (RuntimeException e) {
+            System.err.println(e.getMessage() != null ? e.getMessage() : "Missing option value");
+            System.err.println("Usage: HeadlessRunner [level.json] [--ticks N] [--seed S] [--input file] [--record file] [--profile file] [--min-tps N]");
+            System.exit(1);
+        }
+
+        InputSource input;
+        if (inputPath != null) {
+            try {
+                input = InputRecording.load(Paths.get(inputPath));
+            } catch (IOException e) {
+                System.err.println("Failed to load input recording: " + e.getMessage());
+                System.exit(1);
+                return;
+            }
+        } else {
+            input = new ScriptedInput(seed);
+        }
+
+        InputRecording recording = recordPath != null ? new InputRecording() : null;
+        Result result;
+        try (Writer profileCsv = profilePath != null ? Files.newBufferedWriter(Paths.get(profilePath)) : null) {
+            result = run(levelPath, ticks, seed, input, recording, profileCsv);
+        } catch (IOException e) {
+            System.err.println("Failed to write profile: " + e.getMessage());
+            System.exit(1);
+            return;
+        }
+
+        System.out.printf("%s: %d ticks in %.1f ms (%.0f ticks/s), player health %d, %d objects left%n",
+            levelPath, result.ticks, result.elapsedNanos / 1_000_000.0, result.ticksPerSecond(),
+            result.playerHealth, result.remainingObjects);
+        System.out.println(result.worldStats);
+        System.out.println(result.poolStats);
+        System.out.println(result.sightStats);
+
+        if (recording != null) {
+            Path path = Paths.get(recordPath);
+            try {
+                recording.save(path);
+                System.out.println("Recorded " + recording.size() + " ticks of input to " + path);
+            } catch (IOException e) {
+                System.err.println("Failed to save input recording: " + e.getMessage());
+                System.exit(1);
+            }
+        }
+
+        if (minTicksPerSecond > 0 && result.ticksPerSecond() < minTicksPerSecond) {
+            System.err.printf("Below threshold: %.0f ticks/s < %.0f%n", result.ticksPerSecond(), minTicksPerSecond);
+            System.exit(2);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.dodgingbullets.headless;
+
+import com.dodgingbullets.core.GameLoop;
+
+// One tick of player input, in exactly the shape GameLoop.update takes it
+public class InputFrame {
+    public static final int KEY_COUNT = 5; // W, S, A, D, R - same order as Game
+    
+    public final boolean[] keys;
+    public final boolean jumpPressed;
+    public final boolean jumpHeld;
+    public final boolean mousePressed;
+    public final boolean mouseHeld;
+    public final boolean grenadePressed;
+    public final boolean spacePressed;
+    public final boolean spaceHeld;
+    public final double mouseX;
+    public final double mouseY;
+    
+    public InputFrame(boolean[] keys, boolean jumpPressed, boolean jumpHeld, boolean mousePressed, boolean mouseHeld,
+                      boolean grenadePressed, boolean spacePressed, boolean spaceHeld, double mouseX, double mouseY) {
+        this.keys = keys.clone();
+        this.jumpPressed = jumpPressed;
+        this.jumpHeld = jumpHeld;
+        this.mousePressed = mousePressed;
+        this.mouseHeld = mouseHeld;
+        this.grenadePressed = grenadePressed;
+        this.spacePressed = spacePressed;
+        this.spaceHeld = spaceHeld;
+        this.mouseX = mouseX;
+        this.mouseY = mouseY;
+    }
+    
+    public static InputFrame idle() {
+        return new InputFrame(new boolean[KEY_COUNT], false, false, false, false, false, false, false, 0, 0);
+    }
+    
+    public void applyTo(GameLoop gameLoop) {
+        gameLoop.update(keys, jumpPressed, jumpHeld, mousePressed, mouseHeld, grenadePressed,
+                        spacePressed, spaceHeld, mouseX, mouseY);
+    }
+}
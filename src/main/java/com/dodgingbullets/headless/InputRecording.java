@@ -0,0 +1,97 @@
+package com.dodgingbullets.headless;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+// Input captured tick by tick, saved as plain text with one line per tick:
+//   <keys WSADR as 0/1> <jumpPressed jumpHeld mousePressed mouseHeld grenade spacePressed spaceHeld as 0/1> <mouseX> <mouseY>
+// e.g. "10010 0010100 320.0 180.0". Blank lines and lines starting with # are ignored.
+// Replaying past the end of a recording gives idle input
+public class InputRecording implements InputSource {
+    private final List<InputFrame> frames = new ArrayList<>();
+    
+    public void add(InputFrame frame) {
+        frames.add(frame);
+    }
+    
+    public int size() {
+        return frames.size();
+    }
+    
+    @Override
+    public InputFrame next(long tick) {
+        return tick < frames.size() ? frames.get((int) tick) : InputFrame.idle();
+    }
+    
+    public static InputRecording load(Path path) throws IOException {
+        InputRecording recording = new InputRecording();
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) continue;
+                
+                try {
+                    recording.add(parseFrame(line));
+                } catch (RuntimeException e) {
+                    throw new IOException(path + ":" + lineNumber + ": bad input line '" + line + "'", e);
+                }
+            }
+        }
+        return recording;
+    }
+    
+    public void save(Path path) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            writer.write("# keys(WSADR) buttons(jumpP jumpH mouseP mouseH grenade spaceP spaceH) mouseX mouseY");
+            writer.newLine();
+            for (InputFrame frame : frames) {
+                writer.write(formatFrame(frame));
+                writer.newLine();
+            }
+        }
+    }
+    
+    private static InputFrame parseFrame(String line) {
+        String[] parts = line.split("\\s+");
+        if (parts.length != 4 || parts[0].length() != InputFrame.KEY_COUNT || parts[1].length() != 7) {
+            throw new IllegalArgumentException("expected 4 fields");
+        }
+        
+        boolean[] keys = new boolean[InputFrame.KEY_COUNT];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = parts[0].charAt(i) == '1';
+        }
+        String buttons = parts[1];
+        return new InputFrame(keys,
+            buttons.charAt(0) == '1', buttons.charAt(1) == '1', buttons.charAt(2) == '1', buttons.charAt(3) == '1',
+            buttons.charAt(4) == '1', buttons.charAt(5) == '1', buttons.charAt(6) == '1',
+            Double.parseDouble(parts[2]), Double.parseDouble(parts[3]));
+    }
+    
+    private static String formatFrame(InputFrame frame) {
+        StringBuilder builder = new StringBuilder(32);
+        for (boolean key : frame.keys) {
+            builder.append(key ? '1' : '0');
+        }
+        builder.append(' ')
+            .append(frame.jumpPressed ? '1' : '0')
+            .append(frame.jumpHeld ? '1' : '0')
+            .append(frame.mousePressed ? '1' : '0')
+            .append(frame.mouseHeld ? '1' : '0')
+            .append(frame.grenadePressed ? '1' : '0')
+            .append(frame.spacePressed ? '1' : '0')
+            .append(frame.spaceHeld ? '1' : '0')
+            .append(' ').append(frame.mouseX)
+            .append(' ').append(frame.mouseY);
+        return builder.toString();
+    }
+}
@@ -0,0 +1,6 @@
+package com.dodgingbullets.headless;
+
+// Supplies the input for each simulated tick
+public interface InputSource {
+    InputFrame next(long tick);
+}
@@ -0,0 +1,44 @@
+package com.dodgingbullets.headless;
+
+import com.dodgingbullets.core.Renderer;
+import com.dodgingbullets.core.Texture;
+
+import java.nio.ByteBuffer;
+
+// Renderer that draws nothing and needs no OpenGL context. Textures are placeholders
+// so code that asks for one (Player.loadTextures) still gets a usable object
+public class NullRenderer implements Renderer {
+    private int nextTextureId = 1;
+
+    @Override public void initialize() {}
+    @Override public void clear() {}
+    @Override public void render(Texture texture, float x, float y, float width, float height) {}
+    @Override public void renderRotated(Texture texture, float x, float y, float width, float height, float rotation) {}
+    @Override public void renderRotatedWithAlpha(Texture texture, float x, float y, float width, float height, float rotation, float alpha) {}
+    @Override public void renderRect(float x, float y, float width, float height, float r, float g, float b, float a) {}
+    @Override public void renderRectOutline(float x, float y, float width, float height, float r, float g, float b, float a) {}
+    @Override public void renderCircle(float x, float y, float radius, float r, float g, float b, float a) {}
+    @Override public void renderTextureWithColor(Texture texture, float x, float y, float width, float height, float r, float g, float b, float a) {}
+    @Override public void present() {}
+    @Override public void cleanup() {}
+    @Override public void renderText(String text, float x, float y, float r, float g, float b) {}
+
+    @Override
+    public Texture loadTexture(String path) {
+        return new Texture(nextTextureId++, 64, 64);
+    }
+
+    @Override
+    public Texture createTexture(int width, int height, ByteBuffer rgba) {
+        return new Texture(nextTextureId++, width, height);
+    }
+
+    @Override
+    public Texture createRenderTarget(int width, int height) {
+        return new Texture(nextTextureId++, width, height);
+    }
+
+    @Override public void beginRenderTarget(Texture target) {}
+    @Override public void endRenderTarget() {}
+    @Override public void deleteTexture(Texture texture) {}
+}
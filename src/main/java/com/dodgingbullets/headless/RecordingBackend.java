@@ -0,0 +1,103 @@
+package com.dodgingbullets.headless;
+
+import com.dodgingbullets.core.SpriteBatch;
+import com.dodgingbullets.core.Texture;
+
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// SpriteBatch backend that draws nothing and keeps a copy of every run it is handed, so the
+// vertex stream SpriteBatch emits can be checked without OpenGL (SpriteBatchCheck)
+public class RecordingBackend implements SpriteBatch.Backend {
+    // One backend.draw call and the vertices it covered
+    public static class Draw {
+        public final int textureId;
+        public final int firstVertex;
+        public final int vertexCount;
+        public final float[] vertices; // FLOATS_PER_VERTEX floats per vertex
+
+        Draw(int textureId, int firstVertex, int vertexCount, float[] vertices) {
+            this.textureId = textureId;
+            this.firstVertex = firstVertex;
+            this.vertexCount = vertexCount;
+            this.vertices = vertices;
+        }
+
+        public float get(int vertex, int component) {
+            return vertices[vertex * SpriteBatch.FLOATS_PER_VERTEX + component];
+        }
+    }
+
+    private final int blockFloats;
+    private FloatBuffer block;
+    private int blocksHandedOut = 0;
+    private int nextTextureId = 1;
+    private final List<Draw> draws = new ArrayList<>();
+    private final List<String> texts = new ArrayList<>();
+    private int drawsBeforeFirstText = -1;
+
+    // blockQuads is how many quads fit in each vertex block, small enough to force new blocks if wanted
+    public RecordingBackend(int blockQuads) {
+        this.blockFloats = blockQuads * SpriteBatch.VERTICES_PER_QUAD * SpriteBatch.FLOATS_PER_VERTEX;
+    }
+
+    public List<Draw> getDraws() { return draws; }
+    public List<String> getTexts() { return texts; }
+    public int getBlocksHandedOut() { return blocksHandedOut; }
+    public int getDrawsBeforeFirstText() { return drawsBeforeFirstText; }
+
+    public void reset() {
+        draws.clear();
+        texts.clear();
+        blocksHandedOut = 0;
+        drawsBeforeFirstText = -1;
+    }
+
+    @Override public void initialize() {}
+    @Override public void clear() {}
+    @Override public void endFrame() {}
+    @Override public void beginRenderTarget(Texture target) {}
+    @Override public void endRenderTarget() {}
+    @Override public void deleteTexture(Texture texture) {}
+    @Override public void cleanup() {}
+
+    @Override
+    public FloatBuffer nextVertexBlock() {
+        blocksHandedOut++;
+        block = FloatBuffer.allocate(blockFloats);
+        return block;
+    }
+
+    @Override
+    public void draw(int textureId, int firstVertex, int vertexCount) {
+        int from = firstVertex * SpriteBatch.FLOATS_PER_VERTEX;
+        float[] vertices = Arrays.copyOfRange(block.array(), from, from + vertexCount * SpriteBatch.FLOATS_PER_VERTEX);
+        draws.add(new Draw(textureId, firstVertex, vertexCount, vertices));
+    }
+
+    @Override
+    public void renderText(String text, float x, float y, float r, float g, float b) {
+        if (drawsBeforeFirstText < 0) {
+            drawsBeforeFirstText = draws.size();
+        }
+        texts.add(text);
+    }
+
+    @Override
+    public Texture createTexture(int width, int height, ByteBuffer rgba, boolean linearFilter) {
+        return new Texture(nextTextureId++, width, height);
+    }
+
+    @Override
+    public Texture loadTexture(String path) {
+        return new Texture(nextTextureId++, 64, 64);
+    }
+
+    @Override
+    public Texture createRenderTarget(int width, int height) {
+        return new Texture(nextTextureId++, width, height);
+    }
+}
@@ -0,0 +1,29 @@
+package com.dodgingbullets.headless;
+
+import java.util.Random;
+
+// Seeded stand-in for a player: wanders in a new direction every half second, fires the mouse gun
+// and auto-aim in bursts, jumps and throws the odd grenade. The same seed always gives the same input
+public class ScriptedInput implements InputSource {
+    private static final int DIRECTION_CHANGE_TICKS = 30;
+    
+    private final Random random;
+    private final boolean[] keys = new boolean[InputFrame.KEY_COUNT];
+    
+    public ScriptedInput(long seed) {
+        this.random = new Random(seed);
+    }
+    
+    @Override
+    public InputFrame next(long tick) {
+        if (tick % DIRECTION_CHANGE_TICKS == 0) {
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = random.nextInt(3) == 0;
+            }
+        }
+        
+        boolean mouse = tick % 7 == 0;
+        return new InputFrame(keys, tick % 50 == 0, tick % 50 < 10, mouse, mouse, tick % 200 == 0,
+                              tick % 11 == 0, false, random.nextInt(704), random.nextInt(396));
+    }
+}
@@ -0,0 +1,195 @@
+package com.dodgingbullets.headless;
+
+import com.dodgingbullets.core.SpriteBatch;
+import com.dodgingbullets.core.Texture;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Checks the vertex stream SpriteBatch hands its backend, using RecordingBackend in place of
+// OpenGL: quad corners and texture coordinates, rotation, tint, and where runs are cut.
+//
+//   ./check-sprite-batch.sh
+//
+// Prints each failure and exits with status 1 if any check fails
+public class SpriteBatchCheck {
+    private static final float EPSILON = 1e-4f;
+    // Vertex components, in SpriteBatch's layout
+    private static final int X = 0, Y = 1, U = 2, V = 3, R = 4, G = 5, B = 6, A = 7;
+
+    private final List<String> failures = new ArrayList<>();
+    private int checks = 0;
+
+    public static void main(String[] args) {
+        SpriteBatchCheck check = new SpriteBatchCheck();
+        check.plainQuad();
+        check.rotatedQuad();
+        check.tint();
+        check.runs();
+        check.newBlock();
+
+        for (String failure : check.failures) {
+            System.err.println("FAIL " + failure);
+        }
+        System.out.println("SpriteBatch: " + (check.checks - check.failures.size()) + " of " + check.checks + " checks passed");
+        if (!check.failures.isEmpty()) {
+            System.exit(1);
+        }
+    }
+
+    // Two triangles, bottom-left/bottom-right/top-right then bottom-left/top-right/top-left, with
+    // the texture's (u0, v0) at the top of the quad
+    private void plainQuad() {
+        RecordingBackend backend = new RecordingBackend(16);
+        SpriteBatch batch = start(backend);
+        Texture frame = new Texture(7, 32, 32, 64, 64, 256, 128); // u 0.125..0.375, v 0.25..0.75
+        batch.render(frame, 10, 20, 30, 40);
+        batch.present();
+
+        List<RecordingBackend.Draw> draws = backend.getDraws();
+        if (!expect("plain quad: one draw", draws.size() == 1)) return;
+        RecordingBackend.Draw draw = draws.get(0);
+        expect("plain quad: texture", draw.textureId == 7);
+        expect("plain quad: six vertices from 0", draw.firstVertex == 0 && draw.vertexCount == 6);
+
+        float[][] corners = {
+            {10, 20, 0.125f, 0.75f}, {40, 20, 0.375f, 0.75f}, {40, 60, 0.375f, 0.25f},
+            {10, 20, 0.125f, 0.75f}, {40, 60, 0.375f, 0.25f}, {10, 60, 0.125f, 0.25f}
+        };
+        for (int i = 0; i < corners.length; i++) {
+            expectVertex("plain quad", draw, i, corners[i][0], corners[i][1], corners[i][2], corners[i][3]);
+            expectColor("plain quad", draw, i, 1, 1, 1, 1);
+        }
+    }
+
+    // A quarter turn counter-clockwise about the centre takes the bottom-left corner to the bottom-right
+    private void rotatedQuad() {
+        RecordingBackend backend = new RecordingBackend(16);
+        SpriteBatch batch = start(backend);
+        Texture texture = new Texture(3, 20, 10);
+        batch.renderRotated(texture, 0, 0, 20, 10, (float) (Math.PI / 2));
+        batch.renderRotatedWithAlpha(texture, 0, 0, 20, 10, 0, 0.5f);
+        batch.present();
+
+        List<RecordingBackend.Draw> draws = backend.getDraws();
+        if (!expect("rotation: one draw for both quads", draws.size() == 1 && draws.get(0).vertexCount == 12)) return;
+        RecordingBackend.Draw draw = draws.get(0);
+
+        // Centre (10, 5); corners bottom-left, bottom-right, top-right, top-left
+        float[][] turned = {{15, -5}, {15, 15}, {5, 15}, {5, -5}};
+        int[] order = {0, 1, 2, 0, 2, 3};
+        float[][] uvs = {{0, 1}, {1, 1}, {1, 0}, {0, 0}};
+        for (int i = 0; i < order.length; i++) {
+            int corner = order[i];
+            expectVertex("rotation", draw, i, turned[corner][0], turned[corner][1], uvs[corner][0], uvs[corner][1]);
+            expectColor("rotation", draw, i, 1, 1, 1, 1);
+        }
+
+        // No rotation leaves the quad where render() would put it; only alpha changes
+        float[][] flat = {{0, 0}, {20, 0}, {20, 10}, {0, 10}};
+        for (int i = 0; i < order.length; i++) {
+            int corner = order[i];
+            expectVertex("unrotated with alpha", draw, 6 + i, flat[corner][0], flat[corner][1], uvs[corner][0], uvs[corner][1]);
+            expectColor("unrotated with alpha", draw, 6 + i, 1, 1, 1, 0.5f);
+        }
+    }
+
+    // Tinted sprites carry their colour in every vertex; rectangles and circles use the shape texture
+    private void tint() {
+        RecordingBackend backend = new RecordingBackend(16);
+        SpriteBatch batch = start(backend);
+        int shapeTexture = 1; // The first texture the batch creates
+        batch.renderTextureWithColor(new Texture(9, 16, 16), 0, 0, 16, 16, 0.2f, 0.4f, 0.6f, 0.8f);
+        batch.renderRect(5, 5, 10, 10, 1, 0, 0, 0.5f);
+        batch.present();
+
+        List<RecordingBackend.Draw> draws = backend.getDraws();
+        if (!expect("tint: two draws", draws.size() == 2)) return;
+        for (int i = 0; i < 6; i++) {
+            expectColor("tinted sprite", draws.get(0), i, 0.2f, 0.4f, 0.6f, 0.8f);
+        }
+        RecordingBackend.Draw rect = draws.get(1);
+        expect("rectangle: shape texture", rect.textureId == shapeTexture);
+        for (int i = 0; i < 6; i++) {
+            expectColor("rectangle", rect, i, 1, 0, 0, 0.5f);
+            expect("rectangle " + i + ": solid texel", near(rect.get(i, U), 0.75f) && near(rect.get(i, V), 0.5f));
+        }
+    }
+
+    // A run ends when the texture changes or text is drawn, and shapes share one run
+    private void runs() {
+        RecordingBackend backend = new RecordingBackend(16);
+        SpriteBatch batch = start(backend);
+        Texture a = new Texture(20, 8, 8);
+        Texture b = new Texture(21, 8, 8);
+        batch.render(a, 0, 0, 8, 8);
+        batch.render(a, 8, 0, 8, 8);
+        batch.render(b, 16, 0, 8, 8);
+        batch.render(a, 24, 0, 8, 8);
+        batch.renderRect(0, 0, 4, 4, 1, 1, 1, 1);
+        batch.renderCircle(10, 10, 3, 1, 1, 1, 1);
+        batch.renderText("score", 0, 0, 1, 1, 1);
+        batch.render(a, 32, 0, 8, 8);
+        batch.present();
+
+        List<RecordingBackend.Draw> draws = backend.getDraws();
+        int[][] expected = {{20, 0, 12}, {21, 12, 6}, {20, 18, 6}, {1, 24, 12}, {20, 36, 6}};
+        if (!expect("runs: " + expected.length + " draws, got " + draws.size(), draws.size() == expected.length)) return;
+        for (int i = 0; i < expected.length; i++) {
+            RecordingBackend.Draw draw = draws.get(i);
+            expect("run " + i + ": texture " + expected[i][0] + " vertices " + expected[i][1] + "+" + expected[i][2],
+                   draw.textureId == expected[i][0] && draw.firstVertex == expected[i][1] && draw.vertexCount == expected[i][2]);
+        }
+        expect("runs: queued quads drawn before text", backend.getDrawsBeforeFirstText() == 4);
+    }
+
+    // A full block is drawn and a new one started, even with the texture unchanged
+    private void newBlock() {
+        RecordingBackend backend = new RecordingBackend(2);
+        SpriteBatch batch = start(backend);
+        Texture a = new Texture(30, 8, 8);
+        for (int i = 0; i < 3; i++) {
+            batch.render(a, i * 8, 0, 8, 8);
+        }
+        batch.present();
+
+        List<RecordingBackend.Draw> draws = backend.getDraws();
+        expect("new block: second block asked for", backend.getBlocksHandedOut() == 2);
+        if (!expect("new block: two draws", draws.size() == 2)) return;
+        expect("new block: first block drawn whole", draws.get(0).firstVertex == 0 && draws.get(0).vertexCount == 12);
+        expect("new block: next quad from the start of the new block", draws.get(1).firstVertex == 0 && draws.get(1).vertexCount == 6);
+        expectVertex("new block", draws.get(1), 0, 16, 0, 0, 1);
+    }
+
+    private SpriteBatch start(RecordingBackend backend) {
+        SpriteBatch batch = new SpriteBatch(backend);
+        batch.initialize();
+        backend.reset();
+        return batch;
+    }
+
+    private void expectVertex(String name, RecordingBackend.Draw draw, int vertex, float x, float y, float u, float v) {
+        expect(name + " vertex " + vertex + ": expected (" + x + ", " + y + ") uv (" + u + ", " + v + "), got (" +
+               draw.get(vertex, X) + ", " + draw.get(vertex, Y) + ") uv (" + draw.get(vertex, U) + ", " + draw.get(vertex, V) + ")",
+               near(draw.get(vertex, X), x) && near(draw.get(vertex, Y), y) &&
+               near(draw.get(vertex, U), u) && near(draw.get(vertex, V), v));
+    }
+
+    private void expectColor(String name, RecordingBackend.Draw draw, int vertex, float r, float g, float b, float a) {
+        expect(name + " vertex " + vertex + ": colour (" + r + ", " + g + ", " + b + ", " + a + ")",
+               near(draw.get(vertex, R), r) && near(draw.get(vertex, G), g) &&
+               near(draw.get(vertex, B), b) && near(draw.get(vertex, A), a));
+    }
+
+    private boolean expect(String name, boolean passed) {
+        checks++;
+        if (!passed) {
+            failures.add(name);
+        }
+        return passed;
+    }
+
+    private static boolean near(float actual, float expected) {
+        return Math.abs(actual - expected) <= EPSILON;
+    }
+}